@@ -1,11 +1,20 @@
 package com.roopy.card.adapter.in;
 
+import com.roopy.card.application.exception.PendingPaymentRejectedException;
+import com.roopy.card.config.CardPaymentProperties;
+import com.roopy.card.domain.message.PaymentResultMessage;
 import com.roopy.card.port.in.CardPaymentUseCase;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @RestController
 @RequestMapping("/payments")
 @RequiredArgsConstructor
@@ -13,20 +22,59 @@ public class CardController {
 
     private final CardPaymentUseCase cardPaymentUseCase;
 
+    private final CardPaymentProperties cardPaymentProperties;
+
     /**
      * 결제 요청을 처리하고 Kafka에서 결제 결과를 비동기적으로 받습니다.
+     * <p>
+     * 요청 스레드는 결제 요청을 발행한 직후 반환되며, 결제 결과는 {@link DeferredResult}로 전달됩니다.
+     * {@code card.payment.reply-timeout} 안에 결과가 도착하지 않으면 HTTP 504와 함께
+     * {@code {"orderId":"...","result":"timeout"}} 형태의 응답을 반환하고,
+     * 결제 결과 대기 건수가 한도에 도달한 경우에는 HTTP 503으로 즉시 거절합니다.
      *
      * @param orderId 주문 ID
      * @param paymentAmt 결제 금액
      * @return 결제 요청 처리 결과
-     * @throws ExecutionException 예외 발생 시
-     * @throws InterruptedException 스레드가 중단될 경우 발생
      */
     @PostMapping("/{orderId}")
-    public String processPayment(@PathVariable String orderId, @RequestParam int paymentAmt) throws ExecutionException, InterruptedException {
+    public DeferredResult<ResponseEntity<PaymentResultMessage>> processPayment(@PathVariable String orderId, @RequestParam int paymentAmt) {
+        DeferredResult<ResponseEntity<PaymentResultMessage>> deferredResult =
+                new DeferredResult<>(cardPaymentProperties.getReplyTimeout().toMillis());
+
         // 결제 요청을 Kafka로 발행
-        var resultFuture = cardPaymentUseCase.sendPaymentRequest(orderId, paymentAmt);
-        // Kafka 수신 결과를 기다림
-        return resultFuture.get(); // 결제 결과 반환
+        CompletableFuture<PaymentResultMessage> resultFuture = cardPaymentUseCase.sendPaymentRequest(orderId, paymentAmt);
+
+        // 제한 시간 초과 시 대기 중인 요청을 정리하고 504 응답
+        deferredResult.onTimeout(() -> {
+            log.warn("결제 결과 대기 시간 초과 - orderId: {}", orderId);
+            resultFuture.cancel(false);
+            deferredResult.setErrorResult(resultResponse(HttpStatus.GATEWAY_TIMEOUT, orderId, "timeout"));
+        });
+
+        // Kafka 수신 결과를 요청 스레드 점유 없이 전달
+        resultFuture.whenComplete((result, ex) -> {
+            if (ex == null) {
+                deferredResult.setResult(ResponseEntity.ok(result));
+            } else if (unwrap(ex) instanceof PendingPaymentRejectedException) {
+                // 결제 결과 대기 건수 한도 초과 - 즉시 거절
+                deferredResult.setErrorResult(resultResponse(HttpStatus.SERVICE_UNAVAILABLE, orderId, "rejected"));
+            } else if (!resultFuture.isCancelled()) {
+                log.error("결제 요청 처리 실패 - orderId: {}", orderId, ex);
+                deferredResult.setErrorResult(resultResponse(HttpStatus.BAD_GATEWAY, orderId, "error"));
+            }
+        });
+
+        return deferredResult;
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    /**
+     * 결제 결과 메시지와 동일한 형식의 응답을 생성합니다.
+     */
+    private ResponseEntity<PaymentResultMessage> resultResponse(HttpStatus status, String orderId, String result) {
+        return ResponseEntity.status(status).body(new PaymentResultMessage(null, orderId, result));
     }
 }
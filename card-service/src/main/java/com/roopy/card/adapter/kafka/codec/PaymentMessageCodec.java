@@ -0,0 +1,240 @@
+package com.roopy.card.adapter.kafka.codec;
+
+import com.roopy.card.domain.message.PaymentRequestMessage;
+import com.roopy.card.domain.message.PaymentResultMessage;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 결제 요청/결과 메시지의 바이너리 코덱입니다.
+ * <p>
+ * 중간 Map/JSON 트리 없이 메시지를 {@code byte[]}로 바로 인코딩하고 디코딩합니다.
+ * pg-gateway의 동일한 코덱과 형식이 같아야 합니다.
+ * <pre>
+ * [magic:1][version:1][필드...]
+ *
+ * 문자열 필드: [길이:2 (unsigned, 0xFFFF = null)][UTF-8 바이트]
+ * 정수 필드  : [4바이트 big-endian]
+ *
+ * 결제 요청(v1): correlationId(문자열), orderId(문자열), paymentAmt(정수)
+ * 결제 결과(v1): correlationId(문자열), orderId(문자열), result(문자열)
+ * </pre>
+ * 새 필드는 기존 필드 뒤에만 추가하고 version 을 올립니다. 디코더는 자신이 아는 필드까지만 읽고
+ * 뒤따르는 바이트는 무시하므로, 구버전 소비자도 신버전 메시지를 읽을 수 있습니다.
+ * <p>
+ * 디버깅을 위해 JSON 형식도 지원합니다. 디코딩 시 첫 바이트가 magic 이 아니면 JSON 으로 간주하며,
+ * JSON 은 {@link PaymentMessageJson}이 트리 없이 토큰 단위로 처리합니다.
+ */
+public final class PaymentMessageCodec {
+
+    /**
+     * 바이너리 형식 식별 바이트 (JSON 의 첫 글자 '{' 와 겹치지 않음)
+     */
+    public static final byte MAGIC = (byte) 0xCA;
+
+    /**
+     * 현재 인코딩 버전
+     */
+    public static final byte VERSION = 1;
+
+    private static final int HEADER_SIZE = 2;
+
+    private static final int NULL_LENGTH = 0xFFFF;
+
+    private PaymentMessageCodec() {
+    }
+
+    public static byte[] encode(PaymentRequestMessage message) {
+        byte[] out = new byte[HEADER_SIZE
+                + sizeOf(message.correlationId())
+                + sizeOf(message.orderId())
+                + Integer.BYTES];
+        int pos = writeHeader(out);
+        pos = writeString(out, pos, message.correlationId());
+        pos = writeString(out, pos, message.orderId());
+        writeInt(out, pos, message.paymentAmt());
+        return out;
+    }
+
+    public static byte[] encode(PaymentResultMessage message) {
+        byte[] out = new byte[HEADER_SIZE
+                + sizeOf(message.correlationId())
+                + sizeOf(message.orderId())
+                + sizeOf(message.result())];
+        int pos = writeHeader(out);
+        pos = writeString(out, pos, message.correlationId());
+        pos = writeString(out, pos, message.orderId());
+        writeString(out, pos, message.result());
+        return out;
+    }
+
+    public static PaymentRequestMessage decodeRequest(byte[] data) {
+        if (!isBinary(data)) {
+            return PaymentMessageJson.readRequest(data);
+        }
+        Reader reader = new Reader(data);
+        return new PaymentRequestMessage(reader.readString(), reader.readString(), reader.readInt());
+    }
+
+    public static PaymentResultMessage decodeResult(byte[] data) {
+        if (!isBinary(data)) {
+            return PaymentMessageJson.readResult(data);
+        }
+        Reader reader = new Reader(data);
+        return new PaymentResultMessage(reader.readString(), reader.readString(), reader.readString());
+    }
+
+    /**
+     * 디버깅용 JSON 인코딩입니다.
+     */
+    public static byte[] toJson(PaymentRequestMessage message) {
+        return PaymentMessageJson.write(message);
+    }
+
+    /**
+     * 디버깅용 JSON 인코딩입니다.
+     */
+    public static byte[] toJson(PaymentResultMessage message) {
+        return PaymentMessageJson.write(message);
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data.length > 0 && data[0] == MAGIC;
+    }
+
+    private static int writeHeader(byte[] out) {
+        out[0] = MAGIC;
+        out[1] = VERSION;
+        return HEADER_SIZE;
+    }
+
+    private static int writeInt(byte[] out, int pos, int value) {
+        out[pos] = (byte) (value >>> 24);
+        out[pos + 1] = (byte) (value >>> 16);
+        out[pos + 2] = (byte) (value >>> 8);
+        out[pos + 3] = (byte) value;
+        return pos + Integer.BYTES;
+    }
+
+    private static int sizeOf(String value) {
+        return 2 + (value == null ? 0 : utf8Length(value));
+    }
+
+    private static int writeString(byte[] out, int pos, String value) {
+        if (value == null) {
+            out[pos] = (byte) 0xFF;
+            out[pos + 1] = (byte) 0xFF;
+            return pos + 2;
+        }
+        int length = utf8Length(value);
+        if (length >= NULL_LENGTH) {
+            throw new SerializationException("문자열 필드가 너무 깁니다: " + length + " bytes");
+        }
+        out[pos] = (byte) (length >>> 8);
+        out[pos + 1] = (byte) length;
+        return writeUtf8(out, pos + 2, value);
+    }
+
+    /**
+     * 문자열의 UTF-8 인코딩 길이를 계산합니다. (짝이 없는 서로게이트는 '?' 1바이트로 인코딩)
+     */
+    private static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                continue;
+            }
+            if (c < 0x800) {
+                bytes += 1;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                bytes += 2;
+                i++;
+            } else if (!Character.isSurrogate(c)) {
+                bytes += 2;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 중간 byte[] 복사 없이 문자열을 UTF-8로 직접 기록합니다.
+     */
+    private static int writeUtf8(byte[] out, int pos, String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                out[pos++] = (byte) (0xC0 | (c >> 6));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out[pos++] = (byte) (0xF0 | (codePoint >> 18));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                out[pos++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out[pos++] = (byte) '?';
+            } else {
+                out[pos++] = (byte) (0xE0 | (c >> 12));
+                out[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                out[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * 바이너리 메시지를 순서대로 읽는 커서입니다.
+     */
+    private static final class Reader {
+
+        private final byte[] data;
+
+        private int pos;
+
+        Reader(byte[] data) {
+            if (data.length < HEADER_SIZE) {
+                throw new SerializationException("결제 메시지가 너무 짧습니다: " + data.length + " bytes");
+            }
+            if (data[1] < 1) {
+                throw new SerializationException("지원하지 않는 결제 메시지 버전입니다: " + data[1]);
+            }
+            this.data = data;
+            this.pos = HEADER_SIZE;
+        }
+
+        String readString() {
+            require(2);
+            int length = ((data[pos] & 0xFF) << 8) | (data[pos + 1] & 0xFF);
+            pos += 2;
+            if (length == NULL_LENGTH) {
+                return null;
+            }
+            require(length);
+            String value = new String(data, pos, length, StandardCharsets.UTF_8);
+            pos += length;
+            return value;
+        }
+
+        int readInt() {
+            require(Integer.BYTES);
+            int value = ((data[pos] & 0xFF) << 24)
+                    | ((data[pos + 1] & 0xFF) << 16)
+                    | ((data[pos + 2] & 0xFF) << 8)
+                    | (data[pos + 3] & 0xFF);
+            pos += Integer.BYTES;
+            return value;
+        }
+
+        private void require(int bytes) {
+            if (pos + bytes > data.length) {
+                throw new SerializationException("결제 메시지가 손상되었습니다. (offset " + pos + ")");
+            }
+        }
+    }
+}
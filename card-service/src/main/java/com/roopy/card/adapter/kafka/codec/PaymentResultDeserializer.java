@@ -0,0 +1,20 @@
+package com.roopy.card.adapter.kafka.codec;
+
+import com.roopy.card.domain.message.PaymentResultMessage;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * 결제 결과 메시지 Kafka Deserializer 입니다.
+ * <p>
+ * 바이너리/JSON 형식을 첫 바이트로 구분하여 모두 읽을 수 있습니다.
+ */
+public class PaymentResultDeserializer implements Deserializer<PaymentResultMessage> {
+
+    @Override
+    public PaymentResultMessage deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return PaymentMessageCodec.decodeResult(data);
+    }
+}
@@ -0,0 +1,165 @@
+package com.roopy.card.adapter.out.kafka;
+
+import com.roopy.card.config.CardPaymentProperties;
+import com.roopy.card.domain.message.PaymentRequestMessage;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 요청 메시지를 묶어서 하나의 Kafka 트랜잭션으로 전송하는 컴포넌트입니다.
+ * <p>
+ * 요청마다 트랜잭션을 여닫으면 InitTxn/AddPartitions/EndTxn 왕복 비용이 매번 발생합니다.
+ * 이 컴포넌트는 전송 요청을 대기열에 모아 두었다가, 최대 {@code batch.max-size}건 또는
+ * 첫 요청 이후 {@code batch.linger} 시간이 지나면 한 번의 트랜잭션으로 커밋합니다.
+ * <p>
+ * 호출자는 각자 자신의 메시지에 대한 {@link CompletableFuture}를 받으며,
+ * 트랜잭션이 실패하면 해당 묶음에 포함된 모든 호출자의 Future가 같은 예외로 완료됩니다.
+ */
+@Slf4j
+@Component
+public class PaymentRequestBatcher {
+
+    private final KafkaTemplate<String, PaymentRequestMessage> kafkaTemplate;
+
+    private final int maxBatchSize;
+
+    private final long lingerNanos;
+
+    private final BlockingQueue<PendingSend> queue;
+
+    private final Thread senderThread;
+
+    private volatile boolean running = true;
+
+    public PaymentRequestBatcher(KafkaTemplate<String, PaymentRequestMessage> kafkaTemplate, CardPaymentProperties properties) {
+        CardPaymentProperties.Batch batch = properties.getBatch();
+        this.kafkaTemplate = kafkaTemplate;
+        this.maxBatchSize = Math.max(1, batch.getMaxSize());
+        this.lingerNanos = batch.getLinger().toNanos();
+        this.queue = new ArrayBlockingQueue<>(batch.getQueueCapacity());
+        this.senderThread = new Thread(this::runSendLoop, "card-payment-batcher");
+        this.senderThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        senderThread.start();
+    }
+
+    /**
+     * 종료 시 대기열에 남은 요청까지 모두 전송한 뒤 전송 스레드를 멈춥니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        senderThread.interrupt();
+        senderThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /**
+     * 메시지를 전송 대기열에 넣습니다.
+     *
+     * @param record 전송할 메시지
+     * @return 메시지가 포함된 트랜잭션이 커밋되면 완료되는 Future
+     */
+    public CompletableFuture<SendResult<String, PaymentRequestMessage>> send(ProducerRecord<String, PaymentRequestMessage> record) {
+        PendingSend pending = new PendingSend(record, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            pending.future().completeExceptionally(
+                    new RejectedExecutionException("결제 요청 전송 대기열에 추가할 수 없습니다."));
+        }
+        return pending.future();
+    }
+
+    private void runSendLoop() {
+        List<PendingSend> batch = new ArrayList<>(maxBatchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청 - 모은 요청은 아래에서 전송하고, 남은 대기열은 다음 루프에서 비움
+                log.debug("결제 요청 전송 스레드 종료 요청 수신");
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 요청을 기다린 뒤, linger 시간 동안 최대 묶음 크기까지 요청을 모읍니다.
+     */
+    private void collect(List<PendingSend> batch) throws InterruptedException {
+        PendingSend first = running ? queue.poll(100, TimeUnit.MILLISECONDS) : queue.poll();
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                return;
+            }
+
+            PendingSend next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 모인 요청을 하나의 트랜잭션으로 전송하고, 각 호출자의 Future를 완료합니다.
+     */
+    private void flush(List<PendingSend> batch) {
+        try {
+            List<CompletableFuture<SendResult<String, PaymentRequestMessage>>> results = kafkaTemplate.executeInTransaction(kt -> {
+                List<CompletableFuture<SendResult<String, PaymentRequestMessage>>> sends = new ArrayList<>(batch.size());
+                for (PendingSend pending : batch) {
+                    sends.add(kt.send(pending.record()));
+                }
+                return sends;
+            });
+            log.debug("결제 요청 {}건을 하나의 트랜잭션으로 전송했습니다.", batch.size());
+
+            for (int i = 0; i < batch.size(); i++) {
+                CompletableFuture<SendResult<String, PaymentRequestMessage>> callerFuture = batch.get(i).future();
+                results.get(i).whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        callerFuture.complete(result);
+                    } else {
+                        callerFuture.completeExceptionally(ex);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            log.error("결제 요청 묶음 전송 실패 - {}건", batch.size(), e);
+            batch.forEach(pending -> pending.future().completeExceptionally(e));
+        }
+    }
+
+    private record PendingSend(ProducerRecord<String, PaymentRequestMessage> record,
+                               CompletableFuture<SendResult<String, PaymentRequestMessage>> future) {
+    }
+}
@@ -0,0 +1,11 @@
+package com.roopy.card.application.exception;
+
+/**
+ * 결제 결과 대기 레지스트리가 가득 차서 새 결제 요청을 받을 수 없을 때 발생하는 예외입니다.
+ */
+public class PendingPaymentRejectedException extends RuntimeException {
+
+    public PendingPaymentRejectedException(String orderId, int maxEntries) {
+        super(String.format("결제 결과 대기 건수가 한도(%d)에 도달하여 요청을 거절합니다. orderId: %s", maxEntries, orderId));
+    }
+}
@@ -1,115 +1,143 @@
 package com.roopy.card.application.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roopy.card.adapter.kafka.codec.PaymentResultDeserializer;
+import com.roopy.card.adapter.out.kafka.PaymentRequestBatcher;
+import com.roopy.card.application.exception.PendingPaymentRejectedException;
+import com.roopy.card.config.CardPaymentProperties;
+import com.roopy.card.domain.message.PaymentRequestMessage;
+import com.roopy.card.domain.message.PaymentResultMessage;
 import com.roopy.card.port.in.CardPaymentUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 카드 결제 서비스 클래스입니다.
  * <p>
  * 이 클래스는 Kafka를 통해 결제 요청을 전송하고, 결제 결과를 비동기적으로 수신합니다.
- * 각 결제 요청은 주문 ID(orderId)를 기준으로 결과를 구분하며, 동시성 처리를 위해
- * ConcurrentHashMap을 사용합니다.
+ * 각 결제 요청에는 상관관계 ID(correlationId)가 발급되며, 결과 대기 상태는
+ * {@link PendingPaymentRegistry}가 TTL과 최대 건수 제한을 두고 관리합니다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CardPaymentService implements CardPaymentUseCase {
 
-    // Kafka를 통해 메시지를 전송하기 위한 템플릿 객체
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    // 결제 요청을 묶어서 하나의 Kafka 트랜잭션으로 전송하는 컴포넌트
+    private final PaymentRequestBatcher paymentRequestBatcher;
 
-    // JSON 직렬화 및 역직렬화를 위한 ObjectMapper 객체
-    private final ObjectMapper objectMapper;
+    // 결제 요청/결과 토픽 등 카드 결제 설정
+    private final CardPaymentProperties cardPaymentProperties;
 
-    /**
-     * 주문 ID별로 결제 결과를 저장하는 맵입니다.
-     * 여러 사용자가 동시에 결제 요청을 보낼 수 있으므로,
-     * 동시성 처리를 위해 ConcurrentHashMap을 사용합니다.
-     */
-    private final Map<String, CompletableFuture<String>> paymentResultFutures = new ConcurrentHashMap<>();
+    // 결제 결과를 기다리는 요청 레지스트리
+    private final PendingPaymentRegistry pendingPaymentRegistry;
 
     /**
      * 결제 요청을 Kafka를 통해 발행하고, 결과를 비동기적으로 기다립니다.
+     * <p>
+     * 같은 주문 ID로 진행 중인 요청이 있으면 새로 발행하지 않고 그 결과를 함께 받습니다.
+     * 호출자마다 별도의 Future를 반환하므로, 한 호출자가 취소해도 다른 호출자에게는 영향이 없습니다.
+     * 반환한 Future를 취소하면 대기를 포기한 것으로 보고, 마지막 호출자였다면 대기 항목도 바로 제거합니다.
      *
      * @param orderId 주문 ID (예: "ORDER123")
      * @param amount 결제 금액 (예: 10000)
      * @return 결제 결과를 담은 CompletableFuture
      */
-    public CompletableFuture<String> sendPaymentRequest(String orderId, int amount) {
-        // 비동기 결과를 위한 CompletableFuture 객체 생성
-        CompletableFuture<String> future = new CompletableFuture<>();
-
-        // 주문 ID를 키로 하여 맵에 저장 (결제 결과 수신 시 사용)
-        paymentResultFutures.put(orderId, future);
-
+    public CompletableFuture<PaymentResultMessage> sendPaymentRequest(String orderId, int amount) {
+        PendingPaymentRegistry.Registration registration;
         try {
-            // 결제 요청 데이터를 JSON 문자열로 변환
-            String json = objectMapper.writeValueAsString(Map.of(
-                    "orderId", orderId,
-                    "paymentAmt", amount,
-                    "success", true
-            ));
-
-            // Kafka 토픽(card-payment-request)으로 메시지 전송
-            kafkaTemplate.executeInTransaction(kt -> {
-                kt.send("test-topic", json);
-                return true;
-            });
-            log.info("결제 요청 전송 완료: {}", json);
-
-        } catch (Exception e) {
-            // JSON 변환 또는 Kafka 전송 중 오류가 발생한 경우
-            log.error("결제 요청 전송 실패", e);
-            future.completeExceptionally(e);
-            paymentResultFutures.remove(orderId); // 실패한 요청은 맵에서 제거
+            // 결과 대기 항목 등록 (한도 초과 시 거절)
+            registration = pendingPaymentRegistry.register(orderId);
+        } catch (PendingPaymentRejectedException e) {
+            log.warn(e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+
+        PendingPaymentRegistry.PendingPayment pending = registration.pending();
+        if (registration.created()) {
+            publish(pending, amount);
         }
 
-        // 비동기적으로 결과를 반환
-        return future;
+        // 비동기적으로 결과를 반환 (호출자가 취소하면 레지스트리에 포기를 알림)
+        CompletableFuture<PaymentResultMessage> result = pending.future().copy();
+        result.whenComplete((message, ex) -> {
+            if (result.isCancelled()) {
+                pendingPaymentRegistry.abandon(pending);
+            }
+        });
+        return result;
     }
 
     /**
-     * Kafka로부터 결제 결과 메시지를 수신합니다.
+     * 결제 요청 메시지를 Kafka로 발행합니다.
      * <p>
-     * Kafka 토픽(card-payment-result)으로부터 수신된 메시지는 JSON 형식이어야 합니다.
-     * 메시지 예시: {"orderId":"ORDER123", "result":"success"}
-     *
-     * @param message 수신된 Kafka 메시지(JSON 문자열)
+     * 메시지는 {@link PaymentRequestBatcher}를 통해 다른 요청과 함께 하나의 트랜잭션으로 전송됩니다.
      */
-    @KafkaListener(topics = "test-topic", groupId = "card-service-group")
-    public void receivePaymentResult(String message) {
-        log.info("결제 결과 수신(JSON): {}", message);
-
-        try {
-            // JSON 문자열을 객체로 파싱
-            JsonNode rootNode = objectMapper.readTree(message);
-
-            // orderId 값을 추출 (예: "ORDER123")
-            String orderId = rootNode.get("orderId").asText();
+    private void publish(PendingPaymentRegistry.PendingPayment pending, int amount) {
+        PaymentRequestMessage message = new PaymentRequestMessage(pending.correlationId(), pending.orderId(), amount);
+
+        // Kafka 토픽(card-payment-request)으로 주문 ID를 키로 하여 메시지 전송
+        paymentRequestBatcher.send(paymentRequestRecord(message))
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.info("결제 요청 전송 완료: {}", message);
+                    } else {
+                        // 직렬화 또는 Kafka 전송 중 오류가 발생한 경우 (실패한 요청은 레지스트리에서 제거됨)
+                        log.error("결제 요청 전송 실패", ex);
+                        pendingPaymentRegistry.fail(pending, ex);
+                    }
+                });
+    }
 
-            // 해당 orderId에 대한 CompletableFuture 가져오기 및 제거
-            CompletableFuture<String> future = paymentResultFutures.remove(orderId);
+    /**
+     * 결제 요청 Kafka 레코드를 생성합니다.
+     * <p>
+     * 주문 ID를 키로 사용하여 같은 주문의 요청이 같은 파티션으로 가도록 하고,
+     * 결과를 이 인스턴스로만 돌려받기 위해 reply 토픽·파티션과 상관관계 ID를 헤더에 담습니다.
+     */
+    private ProducerRecord<String, PaymentRequestMessage> paymentRequestRecord(PaymentRequestMessage message) {
+        CardPaymentProperties.Reply reply = cardPaymentProperties.getReply();
+
+        ProducerRecord<String, PaymentRequestMessage> record =
+                new ProducerRecord<>(cardPaymentProperties.getRequestTopic(), message.orderId(), message);
+        record.headers()
+                .add(KafkaHeaders.REPLY_TOPIC, reply.getTopic().getBytes(StandardCharsets.UTF_8))
+                .add(KafkaHeaders.REPLY_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(reply.getPartition()).array())
+                .add(KafkaHeaders.CORRELATION_ID, message.correlationId().getBytes(StandardCharsets.UTF_8));
+        return record;
+    }
 
-            // 해당 요청이 존재하고, 아직 완료되지 않은 경우 결과 전달
-            if (future != null && !future.isDone()) {
-                future.complete(message); // 결과 메시지를 반환
-            } else {
-                log.warn("결제 결과에 해당하는 요청이 없습니다. orderId: {}", orderId);
-            }
-        } catch (Exception e) {
-            // JSON 파싱 실패 또는 기타 예외 처리
-            log.error("결제 결과 JSON 파싱 실패", e);
+    /**
+     * Kafka로부터 결제 결과 메시지를 수신합니다.
+     * <p>
+     * 결과 토픽 전체를 구독하지 않고 이 인스턴스에 할당된 파티션만 직접 할당받아 수신하므로,
+     * 다른 인스턴스로 가야 할 결과를 읽지 않습니다.
+     * <p>
+     * 메시지는 {@link PaymentResultDeserializer}가 바이너리(또는 디버깅용 JSON) 형식에서 바로 변환합니다.
+     *
+     * @param message 수신된 결제 결과 메시지
+     */
+    @KafkaListener(groupId = "card-service-group", topicPartitions = @TopicPartition(
+            topic = "${card.payment.reply.topic}", partitions = "${card.payment.reply.partition}"))
+    public void receivePaymentResult(PaymentResultMessage message) {
+        log.info("결제 결과 수신: {}", message);
+
+        // 상관관계 ID로 대기 중인 요청에 결과 전달 (상관관계 ID가 없는 응답은 주문 ID로 매칭)
+        boolean matched = message.correlationId() != null
+                ? pendingPaymentRegistry.complete(message.correlationId(), message)
+                : pendingPaymentRegistry.completeByOrderId(message.orderId(), message);
+
+        if (!matched) {
+            log.warn("결제 결과에 해당하는 요청이 없습니다. orderId: {}", message.orderId());
         }
     }
 }
@@ -0,0 +1,243 @@
+package com.roopy.card.application.service;
+
+import com.roopy.card.application.exception.PendingPaymentRejectedException;
+import com.roopy.card.config.CardPaymentProperties;
+import com.roopy.card.domain.message.PaymentResultMessage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 결과를 기다리는 요청을 관리하는 레지스트리입니다.
+ * <p>
+ * 각 요청에는 주문 ID와 별개인 상관관계 ID(correlationId)가 발급되며, pg-gateway 응답은
+ * 이 ID로 대기 중인 요청과 연결됩니다. 레지스트리는 다음 규칙으로 메모리 사용량을 제한합니다.
+ * <ul>
+ *     <li>항목마다 TTL이 적용되어, 응답이 오지 않은 요청은 TTL 경과 후 {@link TimeoutException}으로 완료·제거됩니다.</li>
+ *     <li>동시 대기 건수가 {@code maxEntries}에 도달하면 새 요청은 {@link PendingPaymentRejectedException}으로 거절됩니다.</li>
+ *     <li>같은 주문 ID로 이미 진행 중인 요청이 있으면 새로 등록하지 않고 기존 요청의 결과를 함께 기다립니다.</li>
+ *     <li>기다리던 호출자가 모두 포기({@link #abandon})하면 TTL을 기다리지 않고 바로 취소·제거됩니다.</li>
+ * </ul>
+ * 대기 건수, 만료·거절 건수, 응답 매칭 성공/실패 건수는 Micrometer 지표로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class PendingPaymentRegistry implements MeterBinder {
+
+    /**
+     * 상관관계 ID별 대기 항목 (응답 매칭용)
+     */
+    private final Map<String, PendingPayment> byCorrelationId = new ConcurrentHashMap<>();
+
+    /**
+     * 주문 ID별 대기 항목 (중복 요청 합류용)
+     */
+    private final Map<String, PendingPayment> byOrderId = new ConcurrentHashMap<>();
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder abandonments = new LongAdder();
+
+    private final Duration ttl;
+    private final int maxEntries;
+
+    public PendingPaymentRegistry(CardPaymentProperties properties) {
+        this.ttl = properties.getPending().getTtl();
+        this.maxEntries = properties.getPending().getMaxEntries();
+    }
+
+    /**
+     * 주문에 대한 결제 결과 대기 항목을 등록합니다.
+     *
+     * @param orderId 주문 ID
+     * @return 등록 결과 (이미 진행 중인 요청에 합류한 경우 {@code created == false})
+     * @throws PendingPaymentRejectedException 대기 건수가 한도에 도달한 경우
+     */
+    public Registration register(String orderId) {
+        PendingPayment[] created = new PendingPayment[1];
+
+        PendingPayment pending = byOrderId.compute(orderId, (key, existing) -> {
+            // 같은 주문의 요청이 아직 진행 중이면 그 결과를 공유
+            if (existing != null && !existing.future().isDone()) {
+                existing.waiters().incrementAndGet();
+                return existing;
+            }
+            if (!tryAcquireSlot()) {
+                rejections.increment();
+                throw new PendingPaymentRejectedException(key, maxEntries);
+            }
+            created[0] = new PendingPayment(UUID.randomUUID().toString(), key, new CompletableFuture<>(), new AtomicInteger(1));
+            return created[0];
+        });
+
+        if (created[0] == null) {
+            log.debug("진행 중인 결제 요청에 합류합니다. orderId: {}, correlationId: {}", orderId, pending.correlationId());
+            return new Registration(pending, false);
+        }
+
+        byCorrelationId.put(pending.correlationId(), pending);
+
+        // TTL 경과 시 TimeoutException으로 완료되며, 완료 시점에 항상 레지스트리에서 제거
+        pending.future()
+                .orTimeout(ttl.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, ex) -> release(pending, ex));
+
+        return new Registration(pending, true);
+    }
+
+    /**
+     * 상관관계 ID에 해당하는 대기 항목을 결제 결과로 완료합니다.
+     *
+     * @param correlationId 상관관계 ID
+     * @param result 결제 결과 메시지
+     * @return 대기 중인 요청이 있었으면 true
+     */
+    public boolean complete(String correlationId, PaymentResultMessage result) {
+        return complete(byCorrelationId.get(correlationId), result);
+    }
+
+    /**
+     * 상관관계 ID가 없는 응답을 위해 주문 ID로 대기 항목을 완료합니다.
+     *
+     * @param orderId 주문 ID
+     * @param result 결제 결과 메시지
+     * @return 대기 중인 요청이 있었으면 true
+     */
+    public boolean completeByOrderId(String orderId, PaymentResultMessage result) {
+        return complete(byOrderId.get(orderId), result);
+    }
+
+    /**
+     * 호출자 하나가 결과 대기를 포기했음을 알립니다. (예: 응답 제한 시간 초과)
+     * <p>
+     * 마지막 호출자가 포기하면 대기 항목을 바로 취소하여 슬롯을 반환합니다.
+     * 판단과 제거를 주문 ID 맵의 같은 compute 구간에서 처리하므로, 그 사이에 새 요청이 취소될 항목에 합류하지 않습니다.
+     */
+    public void abandon(PendingPayment pending) {
+        boolean[] last = new boolean[1];
+        byOrderId.computeIfPresent(pending.orderId(), (key, current) -> {
+            if (current != pending || pending.waiters().decrementAndGet() > 0) {
+                return current;
+            }
+            last[0] = true;
+            return null;
+        });
+
+        if (last[0]) {
+            abandonments.increment();
+            log.debug("결제 결과를 기다리는 호출자가 없어 대기 항목을 취소합니다. orderId: {}, correlationId: {}",
+                    pending.orderId(), pending.correlationId());
+            pending.future().cancel(false);
+        }
+    }
+
+    /**
+     * 대기 항목을 예외로 완료합니다. (예: 요청 전송 실패)
+     */
+    public void fail(PendingPayment pending, Throwable cause) {
+        pending.future().completeExceptionally(cause);
+    }
+
+    /**
+     * 현재 대기 중인 요청 수를 반환합니다.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("card.payment.pending.size", size, AtomicInteger::get)
+                .description("결제 결과를 기다리는 요청 수")
+                .register(registry);
+        Gauge.builder("card.payment.pending.capacity", () -> maxEntries)
+                .description("결제 결과 대기 최대 건수")
+                .register(registry);
+        FunctionCounter.builder("card.payment.pending.hits", hits, LongAdder::sum)
+                .description("대기 중인 요청과 매칭된 결제 결과 수")
+                .register(registry);
+        FunctionCounter.builder("card.payment.pending.misses", misses, LongAdder::sum)
+                .description("대기 중인 요청을 찾지 못한 결제 결과 수")
+                .register(registry);
+        FunctionCounter.builder("card.payment.pending.expirations", expirations, LongAdder::sum)
+                .description("TTL 경과로 제거된 요청 수")
+                .register(registry);
+        FunctionCounter.builder("card.payment.pending.rejections", rejections, LongAdder::sum)
+                .description("대기 건수 한도 초과로 거절된 요청 수")
+                .register(registry);
+        FunctionCounter.builder("card.payment.pending.abandonments", abandonments, LongAdder::sum)
+                .description("기다리는 호출자가 모두 포기하여 취소된 요청 수")
+                .register(registry);
+    }
+
+    private boolean complete(PendingPayment pending, PaymentResultMessage result) {
+        if (pending == null || !pending.future().complete(result)) {
+            misses.increment();
+            return false;
+        }
+        hits.increment();
+        return true;
+    }
+
+    private boolean tryAcquireSlot() {
+        while (true) {
+            int current = size.get();
+            if (current >= maxEntries) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release(PendingPayment pending, Throwable ex) {
+        byCorrelationId.remove(pending.correlationId(), pending);
+        byOrderId.remove(pending.orderId(), pending);
+        size.decrementAndGet();
+
+        if (ex instanceof TimeoutException) {
+            expirations.increment();
+            log.warn("결제 결과 대기 시간(TTL)이 만료되었습니다. orderId: {}, correlationId: {}",
+                    pending.orderId(), pending.correlationId());
+        }
+    }
+
+    /**
+     * 결제 결과를 기다리는 요청 항목입니다.
+     *
+     * @param correlationId 요청-응답 상관관계 ID
+     * @param orderId 주문 ID
+     * @param future 결제 결과를 전달받을 Future
+     * @param waiters 결과를 기다리는 호출자 수
+     */
+    public record PendingPayment(String correlationId, String orderId, CompletableFuture<PaymentResultMessage> future,
+                                 AtomicInteger waiters) {
+    }
+
+    /**
+     * 대기 항목 등록 결과입니다.
+     *
+     * @param pending 대기 항목
+     * @param created 새로 등록된 경우 true, 진행 중인 요청에 합류한 경우 false
+     */
+    public record Registration(PendingPayment pending, boolean created) {
+    }
+}
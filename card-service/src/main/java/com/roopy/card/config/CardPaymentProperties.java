@@ -0,0 +1,100 @@
+package com.roopy.card.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 카드 결제 처리 관련 설정입니다.
+ * <p>
+ * application.yml 의 {@code card.payment.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "card.payment")
+public class CardPaymentProperties {
+
+    /**
+     * 결제 결과를 기다리는 최대 시간입니다.
+     * 이 시간 안에 pg-gateway 응답이 없으면 HTTP 504(Gateway Timeout)로 응답합니다.
+     */
+    private Duration replyTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 결제 요청을 발행할 토픽입니다. 메시지 키는 주문 ID입니다.
+     */
+    private String requestTopic = "test-topic";
+
+    /**
+     * 결제 결과 수신 설정입니다.
+     */
+    private Reply reply = new Reply();
+
+    /**
+     * 결제 결과 대기 레지스트리 설정입니다.
+     */
+    private Pending pending = new Pending();
+
+    /**
+     * 결제 요청 묶음 전송 설정입니다.
+     */
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Reply {
+
+        /**
+         * 결제 결과를 수신할 토픽입니다.
+         */
+        private String topic = "card-payment-result";
+
+        /**
+         * 이 인스턴스가 전담하는 결과 토픽 파티션입니다.
+         * <p>
+         * 결제 요청의 reply 헤더에 실려 pg-gateway로 전달되며, pg-gateway는 결과를 이 파티션으로만 보냅니다.
+         * 인스턴스마다 서로 다른 값을 지정해야 하며, 결과 토픽의 파티션 수는 인스턴스 수 이상이어야 합니다.
+         */
+        private int partition = 0;
+    }
+
+    @Getter
+    @Setter
+    public static class Pending {
+
+        /**
+         * 대기 항목의 최대 보관 시간입니다.
+         * 응답이 끝내 도착하지 않은 항목은 이 시간이 지나면 제거됩니다.
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * 동시에 대기할 수 있는 최대 결제 요청 수입니다.
+         * 초과한 요청은 즉시 거절됩니다.
+         */
+        private int maxEntries = 10_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * 하나의 Kafka 트랜잭션으로 묶어 전송할 최대 요청 수입니다.
+         */
+        private int maxSize = 100;
+
+        /**
+         * 첫 요청 이후 같은 묶음에 포함할 요청을 기다리는 최대 시간입니다.
+         * 0이면 기다리지 않고 이미 쌓인 요청만 묶어서 전송합니다.
+         */
+        private Duration linger = Duration.ofMillis(5);
+
+        /**
+         * 전송 대기열의 최대 크기입니다. 가득 차면 요청은 즉시 실패 처리됩니다.
+         */
+        private int queueCapacity = 10_000;
+    }
+}
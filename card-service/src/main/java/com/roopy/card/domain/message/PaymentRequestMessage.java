@@ -0,0 +1,11 @@
+package com.roopy.card.domain.message;
+
+/**
+ * card-service → pg-gateway 결제 요청 메시지입니다.
+ *
+ * @param correlationId 요청-응답 상관관계 ID
+ * @param orderId 주문 ID
+ * @param paymentAmt 결제 금액
+ */
+public record PaymentRequestMessage(String correlationId, String orderId, int paymentAmt) {
+}
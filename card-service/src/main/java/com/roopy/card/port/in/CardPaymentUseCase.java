@@ -1,5 +1,7 @@
 package com.roopy.card.port.in;
 
+import com.roopy.card.domain.message.PaymentResultMessage;
+
 import java.util.concurrent.CompletableFuture;
 
 public interface CardPaymentUseCase {
@@ -10,12 +12,12 @@ public interface CardPaymentUseCase {
      * @param orderId 주문 ID
      * @param amount 결제 금액
      */
-    CompletableFuture<String> sendPaymentRequest(String orderId, int amount);
+    CompletableFuture<PaymentResultMessage> sendPaymentRequest(String orderId, int amount);
 
     /**
      * 결제 결과 메시지를 처리합니다.
      *
      * @param message 결제 결과 메시지
      */
-    void receivePaymentResult(String message);
+    void receivePaymentResult(PaymentResultMessage message);
 }
@@ -0,0 +1,41 @@
+package com.roopy.card.application.service;
+
+import com.roopy.card.config.CardPaymentProperties;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PendingPaymentRegistryTests {
+
+	private final PendingPaymentRegistry registry = new PendingPaymentRegistry(new CardPaymentProperties());
+
+	@Test
+	void abandonReleasesEntryOnlyAfterLastWaiter() {
+		PendingPaymentRegistry.PendingPayment pending = registry.register("order-1").pending();
+		PendingPaymentRegistry.Registration joined = registry.register("order-1");
+
+		assertThat(joined.created()).isFalse();
+		assertThat(joined.pending()).isSameAs(pending);
+
+		registry.abandon(pending);
+		assertThat(pending.future()).isNotDone();
+		assertThat(registry.size()).isEqualTo(1);
+
+		registry.abandon(pending);
+		assertThat(pending.future()).isCancelled();
+		assertThat(registry.size()).isZero();
+	}
+
+	@Test
+	void registerAfterAbandonCreatesNewEntry() {
+		PendingPaymentRegistry.PendingPayment pending = registry.register("order-1").pending();
+		registry.abandon(pending);
+
+		PendingPaymentRegistry.Registration retry = registry.register("order-1");
+
+		assertThat(retry.created()).isTrue();
+		assertThat(retry.pending()).isNotSameAs(pending);
+		assertThat(registry.complete(pending.correlationId(), null)).isFalse();
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.roopy.coupon.adapter.in.web;
+
+import com.roopy.coupon.domain.model.CouponApplyResult;
+import com.roopy.coupon.port.in.CouponLedgerUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/coupons")
+@RequiredArgsConstructor
+public class CouponController {
+
+    private final CouponLedgerUseCase couponLedgerUseCase;
+
+    /**
+     * 주문에 쿠폰을 적용합니다.
+     *
+     * @return 200 OK (적용 성공) / 404 Not Found (등록되지 않은 쿠폰) / 409 Conflict (쿠폰 소진 또는 이미 취소된 주문)
+     */
+    @PostMapping("/{couponCode}/redemptions")
+    public ResponseEntity<CouponResponse> apply(@PathVariable String couponCode,
+                                                @RequestParam String orderId,
+                                                @RequestParam double amount) {
+        log.debug("[CouponController] 쿠폰 적용 요청 - orderId={}, couponCode={}, amount={}", orderId, couponCode, amount);
+        CouponApplyResult result = couponLedgerUseCase.apply(orderId, couponCode, amount);
+        HttpStatus status = switch (result) {
+            case APPLIED -> HttpStatus.OK;
+            case UNKNOWN -> HttpStatus.NOT_FOUND;
+            case EXHAUSTED, CANCELLED -> HttpStatus.CONFLICT;
+        };
+        return ResponseEntity.status(status).body(new CouponResponse(orderId, couponCode, amount, result));
+    }
+
+    /**
+     * 주문의 쿠폰 사용을 취소합니다.
+     *
+     * @return 200 OK / 404 Not Found (사용 내역 없음)
+     */
+    @DeleteMapping("/redemptions/{orderId}")
+    public ResponseEntity<CouponResponse> cancel(@PathVariable String orderId) {
+        log.debug("[CouponController] 쿠폰 취소 요청 - orderId={}", orderId);
+        return couponLedgerUseCase.cancel(orderId)
+                .map(redemption -> ResponseEntity.ok(new CouponResponse(
+                        redemption.orderId(), redemption.couponCode(), redemption.amount(), CouponApplyResult.APPLIED)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 캠페인 쿠폰을 등록하거나 추가 발행합니다.
+     *
+     * @return 등록 후 잔여 수량
+     */
+    @PutMapping("/{couponCode}")
+    public long issue(@PathVariable String couponCode, @RequestParam long quantity) {
+        log.info("[CouponController] 쿠폰 발행 - couponCode={}, quantity={}", couponCode, quantity);
+        return couponLedgerUseCase.issue(couponCode, quantity);
+    }
+
+    /**
+     * 쿠폰의 잔여 수량을 조회합니다.
+     */
+    @GetMapping("/{couponCode}")
+    public ResponseEntity<Long> remaining(@PathVariable String couponCode) {
+        return couponLedgerUseCase.remaining(couponCode)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    public record CouponResponse(String orderId, String couponCode, double amount, CouponApplyResult result) {
+    }
+}
@@ -0,0 +1,136 @@
+package com.roopy.coupon.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.roopy.coupon.config.CouponProperties;
+import com.roopy.coupon.domain.model.Coupon;
+import com.roopy.coupon.domain.model.CouponApplyResult;
+import com.roopy.coupon.domain.model.CouponCodeFilter;
+import com.roopy.coupon.domain.model.CouponRedemption;
+import com.roopy.coupon.port.in.CouponLedgerUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 쿠폰 원장입니다.
+ * <p>
+ * 요청은 다음 순서로 걸러지며, 앞 단계에서 거절된 요청은 뒤 단계에 접근하지 않습니다.
+ * <ol>
+ *     <li>{@link CouponCodeFilter} - 등록되지 않은 쿠폰 코드는 비트 확인만으로 거절</li>
+ *     <li>{@link Coupon#isExhausted()} - 소진된 쿠폰은 카운터 확인 없이 거절</li>
+ *     <li>{@link Coupon#tryUse()} - 칸으로 나눈 카운터에서 락 없이 1장 차감</li>
+ * </ol>
+ * 사용 내역은 주문 ID로 기록되어, 같은 주문의 중복 적용·중복 취소는 수량을 두 번 바꾸지 않습니다.
+ * 취소된 주문 ID는 {@code coupon.tombstone.ttl} 동안 기억하므로, 취소보다 늦게 도착한 적용 요청은 쿠폰을 차감하지 않고 거절됩니다.
+ * 취소는 사용 내역이 없어도 기록하며, 기록 확인과 사용 내역 추가는 같은 키의 {@code compute} 안에서 수행합니다.
+ */
+@Slf4j
+@Service
+public class CouponLedger implements CouponLedgerUseCase {
+
+    private final Map<String, Coupon> coupons = new ConcurrentHashMap<>();
+
+    private final Map<String, CouponRedemption> redemptions = new ConcurrentHashMap<>();
+
+    // 쿠폰 사용이 취소된 주문 ID
+    private final Cache<String, Boolean> cancelled;
+
+    private final CouponCodeFilter codeFilter;
+
+    private final int stripes;
+
+    public CouponLedger(CouponProperties properties) {
+        this.cancelled = Caffeine.newBuilder()
+                .maximumSize(properties.getTombstone().getMaximumSize())
+                .expireAfterWrite(properties.getTombstone().getTtl())
+                .build();
+        this.codeFilter = new CouponCodeFilter(properties.getFilter().getExpectedCodes(), properties.getFilter().getFalsePositiveRate());
+        this.stripes = properties.getStripes() > 0 ? properties.getStripes() : Runtime.getRuntime().availableProcessors() * 2;
+        properties.getCampaigns().forEach(this::issue);
+    }
+
+    @Override
+    public CouponApplyResult apply(String orderId, String couponCode, double amount) {
+        if (redemptions.containsKey(orderId)) {
+            log.debug("[CouponLedger] 이미 쿠폰이 적용된 주문 - orderId={}", orderId);
+            return CouponApplyResult.APPLIED;
+        }
+        if (cancelled.getIfPresent(orderId) != null) {
+            log.info("[CouponLedger] 이미 취소된 주문의 쿠폰 적용 요청 - orderId={}", orderId);
+            return CouponApplyResult.CANCELLED;
+        }
+
+        Coupon coupon = codeFilter.mightContain(couponCode) ? coupons.get(couponCode) : null;
+        if (coupon == null) {
+            log.info("[CouponLedger] 등록되지 않은 쿠폰 - couponCode={}, orderId={}", couponCode, orderId);
+            return CouponApplyResult.UNKNOWN;
+        }
+        if (!coupon.tryUse()) {
+            log.info("[CouponLedger] 쿠폰 소진 - couponCode={}, orderId={}", couponCode, orderId);
+            return CouponApplyResult.EXHAUSTED;
+        }
+
+        CouponApplyResult[] result = {CouponApplyResult.APPLIED};
+        boolean[] recorded = new boolean[1];
+        redemptions.compute(orderId, (id, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            // 취소와 같은 키의 compute 안에서 확인하므로 그 사이에 취소된 주문도 놓치지 않음
+            if (cancelled.getIfPresent(id) != null) {
+                result[0] = CouponApplyResult.CANCELLED;
+                return null;
+            }
+            recorded[0] = true;
+            return new CouponRedemption(orderId, couponCode, amount);
+        });
+        if (!recorded[0]) {
+            // 같은 주문의 요청이 동시에 들어와 다른 스레드가 먼저 기록했거나, 그 사이 취소됨 - 차감분 반환
+            coupon.restore(1);
+        }
+        return result[0];
+    }
+
+    @Override
+    public Optional<CouponRedemption> cancel(String orderId) {
+        CouponRedemption[] removed = new CouponRedemption[1];
+        redemptions.compute(orderId, (id, existing) -> {
+            removed[0] = existing;
+            cancelled.put(id, Boolean.TRUE);
+            return null;
+        });
+        CouponRedemption redemption = removed[0];
+        if (redemption != null) {
+            coupons.get(redemption.couponCode()).restore(1);
+            log.debug("[CouponLedger] 쿠폰 사용 취소 - {}", redemption);
+        }
+        return Optional.ofNullable(redemption);
+    }
+
+    @Override
+    public long issue(String couponCode, long quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("발행 수량은 0 이상이어야 합니다: " + quantity);
+        }
+        Coupon[] created = new Coupon[1];
+        Coupon coupon = coupons.computeIfAbsent(couponCode, code -> created[0] = new Coupon(code, quantity, stripes));
+        if (created[0] == null) {
+            coupon.restore(quantity);
+        }
+        // 원장에 등록한 뒤 필터에 추가해야, 필터를 통과한 요청이 항상 원장에서 쿠폰을 찾음
+        codeFilter.add(couponCode);
+        return coupon.remaining();
+    }
+
+    @Override
+    public Optional<Long> remaining(String couponCode) {
+        if (!codeFilter.mightContain(couponCode)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(coupons.get(couponCode)).map(Coupon::remaining);
+    }
+}
@@ -0,0 +1,74 @@
+package com.roopy.coupon.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 쿠폰 원장 설정입니다.
+ * <p>
+ * application.yml 의 {@code coupon.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "coupon")
+public class CouponProperties {
+
+    /**
+     * 기동 시 등록할 캠페인 쿠폰 (쿠폰 코드 → 발행 수량)
+     */
+    private Map<String, Long> campaigns = new LinkedHashMap<>();
+
+    /**
+     * 쿠폰별 잔여 수량 카운터의 칸 수입니다. 0 이면 CPU 코어 수의 2배를 사용합니다.
+     */
+    private int stripes = 0;
+
+    /**
+     * 쿠폰 코드 필터 설정입니다.
+     */
+    private Filter filter = new Filter();
+
+    /**
+     * 취소된 주문 기록 설정입니다.
+     */
+    private Tombstone tombstone = new Tombstone();
+
+    /**
+     * 쿠폰 사용이 취소된 주문 ID를 기억해 두는 기간과 건수입니다.
+     * 이 기간 안에 같은 주문의 적용 요청이 늦게 도착해도 쿠폰을 다시 차감하지 않습니다.
+     */
+    @Getter
+    @Setter
+    public static class Tombstone {
+
+        /**
+         * 취소 후 주문 ID를 기억하는 시간입니다. 주문 측 재시도·응답 지연보다 길게 잡습니다.
+         */
+        private Duration ttl = Duration.ofHours(1);
+
+        /**
+         * 기억할 최대 주문 수입니다. 넘으면 오래된 기록부터 제거됩니다.
+         */
+        private long maximumSize = 1_000_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Filter {
+
+        /**
+         * 등록할 것으로 예상하는 쿠폰 코드 수
+         */
+        private int expectedCodes = 100_000;
+
+        /**
+         * 허용할 오탐 확률
+         */
+        private double falsePositiveRate = 0.01;
+    }
+}
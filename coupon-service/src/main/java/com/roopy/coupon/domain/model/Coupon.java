@@ -0,0 +1,68 @@
+package com.roopy.coupon.domain.model;
+
+/**
+ * 캠페인 쿠폰입니다. 잔여 발행 수량을 {@link StripedCounter}로 관리합니다.
+ * <p>
+ * 소진 여부는 별도 플래그로도 기록해, 소진된 인기 쿠폰에 대한 요청이 모든 칸을 확인하지 않고 바로 거절되도록 합니다.
+ * 취소로 수량이 돌아오면 플래그를 다시 내립니다.
+ * <p>
+ * 차감 실패와 플래그 기록 사이에 취소가 끼어들면 취소가 내린 플래그를 다시 세울 수 있으므로,
+ * 플래그를 세운 뒤 잔여 수량을 다시 확인하고 남아 있으면 플래그를 내리고 재시도합니다.
+ * 플래그를 세운 뒤에 읽으므로 그보다 먼저 끝난 취소의 수량은 반드시 보이고, 더 늦은 취소는 스스로 플래그를 내립니다.
+ */
+public final class Coupon {
+
+    private final String code;
+
+    private final StripedCounter remaining;
+
+    private volatile boolean exhausted;
+
+    public Coupon(String code, long quota, int stripes) {
+        this.code = code;
+        this.remaining = new StripedCounter(quota, stripes);
+        this.exhausted = quota == 0;
+    }
+
+    /**
+     * 쿠폰 1장을 사용합니다.
+     *
+     * @return 잔여 수량이 있어 사용했으면 true
+     */
+    public boolean tryUse() {
+        while (!exhausted) {
+            if (remaining.tryDecrement()) {
+                return true;
+            }
+            exhausted = true;
+            if (remaining.sum() <= 0) {
+                return false;
+            }
+            // 차감 시도 중에 취소로 돌아온 수량이 있음 - 플래그를 내리고 재시도
+            exhausted = false;
+        }
+        return false;
+    }
+
+    /**
+     * 사용을 취소하거나 추가 발행합니다.
+     */
+    public void restore(long amount) {
+        remaining.add(amount);
+        if (amount > 0) {
+            exhausted = false;
+        }
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public long remaining() {
+        return remaining.sum();
+    }
+
+    public boolean isExhausted() {
+        return exhausted;
+    }
+}
@@ -0,0 +1,27 @@
+package com.roopy.coupon.domain.model;
+
+/**
+ * 쿠폰 적용 결과입니다.
+ */
+public enum CouponApplyResult {
+    /**
+     * 적용 성공 (같은 주문의 중복 요청 포함)
+     */
+    APPLIED,
+    /**
+     * 등록되지 않은 쿠폰 코드
+     */
+    UNKNOWN,
+    /**
+     * 발행 수량 소진
+     */
+    EXHAUSTED,
+    /**
+     * 이미 쿠폰 사용이 취소된 주문 (취소보다 늦게 도착한 요청)
+     */
+    CANCELLED;
+
+    public boolean isSuccess() {
+        return this == APPLIED;
+    }
+}
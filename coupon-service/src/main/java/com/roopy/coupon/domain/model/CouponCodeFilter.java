@@ -0,0 +1,86 @@
+package com.roopy.coupon.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 등록된 쿠폰 코드의 블룸 필터입니다.
+ * <p>
+ * "없음"이라는 답은 항상 정확하고, "있을 수 있음"이라는 답은 설정한 확률로 틀릴 수 있습니다.
+ * 존재하지 않는 쿠폰 코드 요청을 원장 조회 없이 비트 몇 개 확인만으로 거절하는 데 사용합니다.
+ * 비트 갱신은 {@link AtomicLongArray}로 하므로 조회와 등록을 락 없이 동시에 수행할 수 있습니다.
+ */
+public final class CouponCodeFilter {
+
+    private final AtomicLongArray bits;
+
+    private final long bitCount;
+
+    private final int hashCount;
+
+    /**
+     * @param expectedCodes 등록할 것으로 예상하는 쿠폰 코드 수
+     * @param falsePositiveRate 허용할 오탐 확률 (예: 0.01)
+     */
+    public CouponCodeFilter(int expectedCodes, double falsePositiveRate) {
+        int n = Math.max(1, expectedCodes);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, m);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+    }
+
+    public void add(String code) {
+        long hash = hash64(code);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0) {
+                if (bits.compareAndSet(word, current, current | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return 등록된 적이 없으면 false (확실), 등록되었을 수 있으면 true
+     */
+    public boolean mightContain(String code) {
+        long hash = hash64(code);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 추가 비트 혼합(splitmix64 finalizer)을 적용합니다.
+     */
+    private static long hash64(String code) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : code.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
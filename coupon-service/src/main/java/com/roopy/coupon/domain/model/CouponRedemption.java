@@ -0,0 +1,11 @@
+package com.roopy.coupon.domain.model;
+
+/**
+ * 주문 단위 쿠폰 사용 내역입니다.
+ *
+ * @param orderId 주문 ID
+ * @param couponCode 쿠폰 코드
+ * @param amount 쿠폰 적용 금액
+ */
+public record CouponRedemption(String orderId, String couponCode, double amount) {
+}
@@ -0,0 +1,90 @@
+package com.roopy.coupon.domain.model;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 칸(stripe)으로 나눈 잔여 수량 카운터입니다.
+ * <p>
+ * 하나의 {@code AtomicLong}에 모든 스레드가 CAS를 시도하면 인기 쿠폰에서 재시도가 폭증합니다.
+ * 이 카운터는 잔여 수량을 여러 칸에 나눠 담고, 스레드마다 임의의 칸에서 차감을 시작하므로
+ * 경합이 칸 수만큼 분산됩니다. 시작한 칸이 비어 있으면 다른 칸을 차례로 확인하므로,
+ * 전체 잔여 수량이 남아 있는 한 차감은 실패하지 않고, 0 미만으로 내려가지도 않습니다.
+ * <p>
+ * 칸은 캐시 라인(64바이트) 단위로 떨어뜨려 배치해 false sharing 을 피합니다.
+ */
+public final class StripedCounter {
+
+    /**
+     * 칸 사이 간격 (long 8개 = 64바이트)
+     */
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells;
+
+    private final int stripes;
+
+    /**
+     * @param initial 초기 잔여 수량
+     * @param stripes 칸 수 (2의 거듭제곱으로 올림)
+     */
+    public StripedCounter(long initial, int stripes) {
+        if (initial < 0) {
+            throw new IllegalArgumentException("초기 수량은 0 이상이어야 합니다: " + initial);
+        }
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = size;
+        this.cells = new AtomicLongArray(this.stripes * PADDING);
+
+        // 잔여 수량을 칸마다 고르게 나눔 (나머지는 앞 칸부터 1씩)
+        long share = initial / this.stripes;
+        long remainder = initial % this.stripes;
+        for (int i = 0; i < this.stripes; i++) {
+            cells.set(i * PADDING, share + (i < remainder ? 1 : 0));
+        }
+    }
+
+    /**
+     * 잔여 수량에서 1을 차감합니다.
+     *
+     * @return 차감에 성공하면 true, 모든 칸이 비어 있으면 false
+     */
+    public boolean tryDecrement() {
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        for (int i = 0; i < stripes; i++) {
+            int index = ((start + i) & (stripes - 1)) * PADDING;
+            long current;
+            while ((current = cells.get(index)) > 0) {
+                if (cells.compareAndSet(index, current, current - 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 잔여 수량에 더합니다. (차감 취소 또는 추가 발행)
+     */
+    public void add(long amount) {
+        cells.addAndGet(ThreadLocalRandom.current().nextInt(stripes) * PADDING, amount);
+    }
+
+    /**
+     * 전체 잔여 수량을 반환합니다. 동시에 갱신 중이면 근사값입니다.
+     */
+    public long sum() {
+        long sum = 0;
+        for (int i = 0; i < stripes; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    public int stripes() {
+        return stripes;
+    }
+}
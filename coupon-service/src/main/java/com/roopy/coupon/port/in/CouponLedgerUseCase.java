@@ -0,0 +1,37 @@
+package com.roopy.coupon.port.in;
+
+import com.roopy.coupon.domain.model.CouponApplyResult;
+import com.roopy.coupon.domain.model.CouponRedemption;
+
+import java.util.Optional;
+
+public interface CouponLedgerUseCase {
+
+    /**
+     * 주문에 쿠폰을 적용합니다. 같은 주문 ID로 다시 요청하면 수량을 다시 차감하지 않고 성공으로 응답합니다.
+     * 이미 사용이 취소된 주문이면 차감하지 않고 {@link CouponApplyResult#CANCELLED}로 응답합니다.
+     */
+    CouponApplyResult apply(String orderId, String couponCode, double amount);
+
+    /**
+     * 주문의 쿠폰 사용을 취소하고 수량을 되돌립니다.
+     * 사용 내역이 없어도 취소된 주문으로 기록하므로, 취소보다 늦게 도착한 적용 요청은 거절됩니다.
+     *
+     * @return 취소한 사용 내역 (사용 내역이 없으면 empty)
+     */
+    Optional<CouponRedemption> cancel(String orderId);
+
+    /**
+     * 캠페인 쿠폰을 등록하거나, 이미 있으면 수량을 추가 발행합니다.
+     *
+     * @return 등록 후 잔여 수량
+     */
+    long issue(String couponCode, long quantity);
+
+    /**
+     * 쿠폰의 잔여 수량을 조회합니다.
+     *
+     * @return 잔여 수량 (등록되지 않은 쿠폰이면 empty)
+     */
+    Optional<Long> remaining(String couponCode);
+}
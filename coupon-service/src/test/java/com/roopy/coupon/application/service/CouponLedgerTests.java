@@ -0,0 +1,32 @@
+package com.roopy.coupon.application.service;
+
+import com.roopy.coupon.config.CouponProperties;
+import com.roopy.coupon.domain.model.CouponApplyResult;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CouponLedgerTests {
+
+	private static final String CODE = "WELCOME";
+
+	@Test
+	void lateApplyAfterCancelDoesNotRedeemAgain() {
+		CouponProperties properties = new CouponProperties();
+		properties.getCampaigns().put(CODE, 10L);
+		CouponLedger ledger = new CouponLedger(properties);
+
+		// 적용 후 취소된 주문의 재시도는 거절
+		assertThat(ledger.apply("order-1", CODE, 1000)).isEqualTo(CouponApplyResult.APPLIED);
+		assertThat(ledger.cancel("order-1")).isPresent();
+		assertThat(ledger.apply("order-1", CODE, 1000)).isEqualTo(CouponApplyResult.CANCELLED);
+
+		// 적용보다 먼저 도착한 취소(404)도 기록되어 뒤늦은 적용이 쿠폰을 쓰지 않음
+		assertThat(ledger.cancel("order-2")).isEmpty();
+		assertThat(ledger.apply("order-2", CODE, 1000)).isEqualTo(CouponApplyResult.CANCELLED);
+
+		assertThat(ledger.apply("order-3", CODE, 1000)).isEqualTo(CouponApplyResult.APPLIED);
+		assertThat(ledger.apply("order-3", CODE, 1000)).isEqualTo(CouponApplyResult.APPLIED);
+		assertThat(ledger.remaining(CODE)).contains(9L);
+	}
+}
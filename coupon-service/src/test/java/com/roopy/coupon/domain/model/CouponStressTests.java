@@ -0,0 +1,76 @@
+package com.roopy.coupon.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 사용과 취소가 동시에 몰려도 잔여 수량이 남아 있는 쿠폰이 소진 상태로 굳지 않는지 검증합니다.
+ */
+class CouponStressTests {
+
+	private static final int THREADS = 8;
+
+	private static final int ROUNDS = 200;
+
+	private static final int USES_PER_THREAD = 2_000;
+
+	@Test
+	void concurrentUseAndRestoreNeverLatchesExhausted() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				Coupon coupon = new Coupon("HOT", 1, 4);
+				CountDownLatch start = new CountDownLatch(1);
+				List<Future<?>> futures = new ArrayList<>(THREADS);
+				for (int t = 0; t < THREADS; t++) {
+					futures.add(executor.submit(() -> {
+						start.await();
+						for (int i = 0; i < USES_PER_THREAD; i++) {
+							// 사용에 성공하면 바로 취소해 수량을 되돌림
+							if (coupon.tryUse()) {
+								coupon.restore(1);
+							}
+						}
+						return null;
+					}));
+				}
+				start.countDown();
+				for (Future<?> future : futures) {
+					future.get(30, TimeUnit.SECONDS);
+				}
+
+				// 모든 사용이 취소되었으므로 1장이 남아 있고, 다시 사용할 수 있어야 함
+				assertThat(coupon.remaining()).isEqualTo(1);
+				assertThat(coupon.tryUse()).as("round %d", round).isTrue();
+				assertThat(coupon.tryUse()).isFalse();
+				assertThat(coupon.isExhausted()).isTrue();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void restoreAfterExhaustionReopensCoupon() {
+		Coupon coupon = new Coupon("ONE", 1, 8);
+
+		assertThat(coupon.tryUse()).isTrue();
+		assertThat(coupon.tryUse()).isFalse();
+		assertThat(coupon.isExhausted()).isTrue();
+
+		coupon.restore(1);
+
+		assertThat(coupon.isExhausted()).isFalse();
+		assertThat(coupon.tryUse()).isTrue();
+	}
+
+}
@@ -1,14 +1,51 @@
 package com.roopy.order.adapter.in.web;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.roopy.order.application.exception.CommandRejectedException;
+import com.roopy.order.application.exception.IdempotencyKeyMismatchException;
 import com.roopy.order.application.service.CreateOrderService;
+import com.roopy.order.config.BulkOrderProperties;
+import com.roopy.order.config.IdempotencyProperties;
 import com.roopy.order.domain.command.CreateOrderCommand;
+import com.roopy.order.domain.model.BulkOrderResult;
+import com.roopy.order.domain.model.CommandOutcome;
+import com.roopy.order.domain.model.CreateOrderResult;
+import com.roopy.order.domain.model.OrderStatus;
+import com.roopy.order.domain.model.OrderView;
+import com.roopy.order.port.in.BulkCreateOrderUseCase;
+import com.roopy.order.port.in.OrderQueryUseCase;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RestController
@@ -16,12 +53,150 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class OrderController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
+    private static final int MAX_QUERY_LIMIT = 1000;
+
     private final CreateOrderService createOrderService;
+    private final BulkCreateOrderUseCase bulkCreateOrderUseCase;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyProperties idempotencyProperties;
+    private final OrderQueryUseCase orderQueryUseCase;
+    private final BulkOrderProperties bulkOrderProperties;
 
+    /**
+     * 주문 생성 커맨드를 보냅니다.
+     * <p>
+     * 요청 스레드는 커맨드를 보낸 직후 반환되며, 결과는 {@link DeferredResult}로 전달됩니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키의 재요청에는 커맨드를 보내지 않고 처음 요청과 같은 응답을 돌려줍니다.
+     * 성공 응답의 본문({@link CreateOrderResult})과 {@code Location} 헤더({@code /orders/{orderId}})로 발급된 주문 ID를 알려줍니다.
+     *
+     * @return 200 OK (SYNC 모드 처리 완료) / 202 Accepted (ASYNC 모드 접수) /
+     * 400 Bad Request (Idempotency-Key 길이 초과) / 422 Unprocessable Entity (같은 Idempotency-Key로 내용이 다른 요청) /
+     * 429 Too Many Requests (처리 중인 커맨드 한도 초과) / 503 Service Unavailable (SYNC 모드 처리 시간 초과) /
+     * 500 Internal Server Error (커맨드 처리 실패)
+     */
     @PostMapping
-    public ResponseEntity<String> createOrder(@RequestBody CreateOrderCommand command) {
+    public DeferredResult<ResponseEntity<?>> createOrder(@RequestBody CreateOrderCommand command,
+                                                         @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         log.info("parameter: {}", command);
-        createOrderService.createOrder(command);
-        return ResponseEntity.ok("Order Created");
+        DeferredResult<ResponseEntity<?>> deferredResult = new DeferredResult<>();
+
+        if (idempotencyKey != null && idempotencyKey.length() > idempotencyProperties.getMaxKeyLength()) {
+            deferredResult.setErrorResult(ResponseEntity.badRequest().body("Invalid Idempotency-Key"));
+            return deferredResult;
+        }
+
+        createOrderService.createOrder(command, idempotencyKey).whenComplete((result, ex) -> {
+            if (ex == null) {
+                HttpStatus status = result.outcome() == CommandOutcome.COMPLETED ? HttpStatus.OK : HttpStatus.ACCEPTED;
+                deferredResult.setResult(ResponseEntity.status(status).location(orderLocation(result.orderId())).body(result));
+            } else if (unwrap(ex) instanceof CommandRejectedException) {
+                // 처리 중인 커맨드 한도 초과 - 즉시 거절
+                deferredResult.setErrorResult(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Order Rejected"));
+            } else if (unwrap(ex) instanceof IdempotencyKeyMismatchException) {
+                deferredResult.setErrorResult(ResponseEntity.unprocessableEntity().body("Idempotency-Key Mismatch"));
+            } else if (unwrap(ex) instanceof TimeoutException) {
+                log.warn("주문 생성 대기 시간 초과 - orderId: {}", command.getOrderId());
+                deferredResult.setErrorResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Order Timeout"));
+            } else {
+                log.error("주문 생성 실패 - orderId: {}", command.getOrderId(), ex);
+                deferredResult.setErrorResult(ResponseEntity.internalServerError().body("Order Failed"));
+            }
+        });
+
+        return deferredResult;
+    }
+
+    /**
+     * 주문을 대량으로 접수합니다.
+     * <p>
+     * 본문은 NDJSON(한 줄에 주문 하나) 또는 주문 JSON 배열이며, 전체를 메모리에 올리지 않고 주문 단위로 읽습니다.
+     * 결과는 주문마다 한 줄씩 NDJSON으로 입력 순서대로 내려가며, 묶음 단위로 전송됩니다.
+     * 본문을 읽다가 오류가 나면 그때까지 보낸 주문의 결과 뒤에 {@code INVALID} 한 줄을 내려보내고 종료합니다.
+     *
+     * 응답 시간은 본문 크기에 비례해 길어지므로 전역 비동기 제한 시간 대신 {@code order.bulk.stream-timeout}을 적용합니다.
+     *
+     * @return 200 OK + 주문별 처리 결과 스트림 ({@link BulkOrderResult})
+     */
+    @PostMapping(path = "/bulk",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> createOrders(InputStream body, HttpServletResponse response) {
+        ObjectReader reader = objectMapper.readerFor(CreateOrderCommand.class);
+
+        Callable<Void> stream = () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            OutputStream out = response.getOutputStream();
+            AtomicInteger written = new AtomicInteger();
+            try (MappingIterator<CreateOrderCommand> orders = reader.readValues(body)) {
+                bulkCreateOrderUseCase.createOrders(orders, results -> {
+                    writeResults(out, results);
+                    written.addAndGet(results.size());
+                });
+            } catch (JsonProcessingException | RuntimeJsonMappingException e) {
+                writeInvalid(out, written.get(), e);
+            } catch (RuntimeException e) {
+                // 본문 파싱 오류는 MappingIterator에서 RuntimeException으로 감싸져 전달됨
+                if (!(e.getCause() instanceof JsonProcessingException)) {
+                    throw e;
+                }
+                writeInvalid(out, written.get(), e.getCause());
+            }
+            return null;
+        };
+
+        // 0 이하는 서블릿 컨테이너에서 제한 없음으로 처리됨
+        return new WebAsyncTask<>(bulkOrderProperties.getStreamTimeout().toMillis(), stream);
+    }
+
+    /**
+     * 주문 상태를 조회합니다. 메모리의 조회 모델에서만 읽습니다.
+     *
+     * @return 200 OK / 404 Not Found (보관 중인 주문이 아님)
+     */
+    @GetMapping("/{orderId}")
+    public ResponseEntity<OrderView> getOrder(@PathVariable String orderId) {
+        return orderQueryUseCase.findOrder(orderId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 상태별 주문 목록을 조회합니다. 순서는 보장하지 않습니다.
+     *
+     * @param limit 최대 건수 (최대 1000)
+     */
+    @GetMapping
+    public List<OrderView> getOrders(@RequestParam OrderStatus status,
+                                     @RequestParam(defaultValue = "100") int limit) {
+        return orderQueryUseCase.findOrders(status, Math.max(0, Math.min(limit, MAX_QUERY_LIMIT)));
+    }
+
+    private void writeResults(OutputStream out, List<BulkOrderResult> results) {
+        try {
+            for (BulkOrderResult result : results) {
+                out.write(objectMapper.writeValueAsBytes(result));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeInvalid(OutputStream out, int index, Throwable cause) {
+        log.warn("대량 주문 본문 읽기 실패 - index: {}, 원인: {}", index, cause.getMessage());
+        String message = cause instanceof JsonProcessingException jsonError ? jsonError.getOriginalMessage() : cause.getMessage();
+        writeResults(out, List.of(new BulkOrderResult(index, null, BulkOrderResult.Status.INVALID, message)));
+    }
+
+    private static URI orderLocation(String orderId) {
+        // 요청 스레드 밖에서 호출되므로 현재 요청 대신 경로만으로 만듦 (상대 경로 Location)
+        return UriComponentsBuilder.fromPath("/orders/{orderId}").buildAndExpand(orderId).toUri();
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
     }
 }
@@ -1,40 +1,45 @@
 package com.roopy.order.adapter.out.card;
 
 import com.roopy.order.adapter.out.card.dto.CardPaymentResponse;
+import com.roopy.order.config.OutboundHttpClients;
 import com.roopy.order.port.out.card.CardPort;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpEntity;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CardClient implements CardPort {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final WebClient webClient;
+
+    public CardClient(OutboundHttpClients outboundHttpClients) {
+        // card-service 전용 연결 풀 사용 (outbound.http.clients.card)
+        this.webClient = outboundHttpClients.webClient("card");
+    }
 
+    /**
+     * 카드 결제 요청을 논블로킹으로 전송합니다.
+     * 응답을 기다리는 동안 스레드를 점유하지 않으며, 응답이 오면 Netty 이벤트 루프에서 Future가 완료됩니다.
+     */
     @Override
-    public boolean processPayment(String orderId, int paymentAmt) {
+    public CompletableFuture<Boolean> processPayment(String orderId, int paymentAmt) {
         log.info("[CardClient] 주문ID={}에 대해 {}원 카드 결제 요청 전송", orderId, paymentAmt);
 
-        try {
-            String url = String.format("http://localhost:10001/payments/%s?paymentAmt=%d", orderId, paymentAmt);
-
-            CardPaymentResponse response = restTemplate.postForObject(
-                    url,
-                    HttpEntity.EMPTY,
-                    CardPaymentResponse.class
-            );
-
-            log.info("[CardClient] 카드사 응답 수신: {}", response);
-
-            return response.isSuccess();
-
-        } catch (Exception e) {
-            log.error("[CardClient] 카드 결제 요청 실패 - 주문ID={}, 결제금액={}원", orderId, paymentAmt, e);
-            return false;
-        }
+        return webClient.post()
+                .uri("/payments/{orderId}?paymentAmt={paymentAmt}", orderId, paymentAmt)
+                .retrieve()
+                .bodyToMono(CardPaymentResponse.class)
+                .doOnNext(response -> log.info("[CardClient] 카드사 응답 수신: {}", response))
+                .map(CardPaymentResponse::isSuccess)
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    log.error("[CardClient] 카드 결제 요청 실패 - 주문ID={}, 결제금액={}원", orderId, paymentAmt, e);
+                    return Mono.just(false);
+                })
+                .toFuture();
     }
 }
@@ -11,4 +11,13 @@ public class CardPaymentResponse {
     private String orderId;
     private int paymentAmt;
     private boolean success;
+
+    /**
+     * card-service 결제 결과 ("success", "declined", "timeout" 등)
+     */
+    private String result;
+
+    public boolean isSuccess() {
+        return success || "success".equals(result);
+    }
 }
@@ -1,19 +1,61 @@
 package com.roopy.order.adapter.out.coupon;
 
+import com.roopy.order.config.OutboundHttpClients;
 import com.roopy.order.port.out.coupon.CouponPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
 @Component
 public class CouponClient implements CouponPort {
 
-    public boolean applyCoupon(String orderId, double price) {
-        // 쿠폰 차감 요청
-        // 외부 쿠폰 시스템과 통신 (여기서는 mock 처리)
-        return true; // 쿠폰 차감 성공
+    private final WebClient webClient;
+
+    public CouponClient(OutboundHttpClients outboundHttpClients) {
+        // coupon-service 전용 연결 풀 사용 (outbound.http.clients.coupon)
+        this.webClient = outboundHttpClients.webClient("coupon");
+    }
+
+    @Override
+    public CompletableFuture<Boolean> applyCoupon(String orderId, String couponCode, double price) {
+        log.info("[CouponClient] 쿠폰 적용 요청 - orderId={}, couponCode={}, 금액={}", orderId, couponCode, price);
+
+        return webClient.post()
+                .uri(uri -> uri.path("/coupons/{couponCode}/redemptions")
+                        .queryParam("orderId", orderId)
+                        .queryParam("amount", price)
+                        .build(couponCode))
+                .exchangeToMono(response -> {
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.releaseBody().thenReturn(true);
+                    }
+                    // 404: 등록되지 않은 쿠폰, 409: 쿠폰 소진
+                    int status = response.statusCode().value();
+                    if (status == HttpStatus.NOT_FOUND.value() || status == HttpStatus.CONFLICT.value()) {
+                        log.info("[CouponClient] 쿠폰 적용 불가 - orderId={}, couponCode={}, status={}", orderId, couponCode, status);
+                        return response.releaseBody().thenReturn(false);
+                    }
+                    // 그 밖의 오류는 적용 여부를 알 수 없으므로 예외로 전달
+                    return response.createError();
+                })
+                .toFuture();
     }
 
-    public void cancelCoupon(String orderId) {
-        // 쿠폰 취소 요청
-        // 외부 쿠폰 시스템과 통신 (여기서는 mock 처리)
+    @Override
+    public CompletableFuture<Void> cancelCoupon(String orderId) {
+        return webClient.delete()
+                .uri("/coupons/redemptions/{orderId}", orderId)
+                .exchangeToMono(response -> {
+                    // 404 는 사용 내역이 없는 경우(이미 취소되었거나 적용 실패)이므로 정상으로 간주
+                    if (response.statusCode().is2xxSuccessful() || response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+                        return response.releaseBody();
+                    }
+                    return response.createError();
+                })
+                .toFuture();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package com.roopy.order.adapter.out.stock;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 동시에 들어온 개별 요청을 모아 일괄 API 한 번으로 보내는 요청 병합기입니다.
+ * <p>
+ * 요청은 대기열에 쌓이고, 전송 스레드가 최대 {@code maxBatchSize}건 또는 첫 요청 이후 {@code linger} 시간이 지나면
+ * 모인 요청을 {@code sender}로 보냅니다. 전송은 논블로킹이므로 전송 스레드는 응답을 기다리지 않고 다음 묶음을 모읍니다.
+ * <p>
+ * {@code sender}는 요청과 같은 순서·같은 개수의 결과를 돌려줘야 하며, 각 호출자의 Future는 자신의 결과로 완료됩니다.
+ * 일괄 호출이 실패하면 묶음에 포함된 모든 호출자의 Future가 같은 예외로 완료됩니다.
+ *
+ * @param <T> 개별 요청 타입
+ * @param <R> 개별 결과 타입
+ */
+@Slf4j
+class RequestCoalescer<T, R> {
+
+    private final String name;
+
+    private final int maxBatchSize;
+
+    private final long lingerNanos;
+
+    private final BlockingQueue<Pending<T, R>> queue;
+
+    private final Function<List<T>, Mono<List<R>>> sender;
+
+    private final Thread senderThread;
+
+    private volatile boolean running = true;
+
+    RequestCoalescer(String name, int maxBatchSize, Duration linger, int queueCapacity,
+                     Function<List<T>, Mono<List<R>>> sender) {
+        this.name = name;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.lingerNanos = linger.toNanos();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.sender = sender;
+        this.senderThread = new Thread(this::runSendLoop, name);
+        this.senderThread.setDaemon(true);
+        this.senderThread.start();
+    }
+
+    /**
+     * 요청을 대기열에 넣습니다.
+     *
+     * @return 요청이 포함된 묶음의 응답이 오면 자신의 결과로 완료되는 Future
+     */
+    CompletableFuture<R> submit(T request) {
+        Pending<T, R> pending = new Pending<>(request, new CompletableFuture<>());
+        if (!running || !queue.offer(pending)) {
+            pending.future().completeExceptionally(
+                    new RejectedExecutionException("[" + name + "] 요청 대기열에 추가할 수 없습니다."));
+        }
+        return pending.future();
+    }
+
+    /**
+     * 대기열에 남은 요청까지 모두 보낸 뒤 전송 스레드를 멈춥니다.
+     */
+    void close() throws InterruptedException {
+        running = false;
+        senderThread.interrupt();
+        senderThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void runSendLoop() {
+        while (running || !queue.isEmpty()) {
+            List<Pending<T, R>> batch = new ArrayList<>(maxBatchSize);
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 요청 - 모은 요청은 아래에서 전송하고, 남은 대기열은 다음 루프에서 비움
+                log.debug("[{}] 전송 스레드 종료 요청 수신", name);
+            }
+
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        }
+    }
+
+    /**
+     * 첫 요청을 기다린 뒤, linger 시간 동안 최대 묶음 크기까지 요청을 모읍니다.
+     */
+    private void collect(List<Pending<T, R>> batch) throws InterruptedException {
+        Pending<T, R> first = running ? queue.poll(100, TimeUnit.MILLISECONDS) : queue.poll();
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0 || !running) {
+                return;
+            }
+
+            Pending<T, R> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 모인 요청을 일괄 전송하고, 응답이 오면 각 호출자의 Future를 완료합니다. (응답을 기다리지 않음)
+     */
+    private void flush(List<Pending<T, R>> batch) {
+        List<T> requests = new ArrayList<>(batch.size());
+        batch.forEach(pending -> requests.add(pending.request()));
+        log.debug("[{}] 요청 {}건을 묶어서 전송합니다.", name, batch.size());
+
+        Mono<List<R>> response;
+        try {
+            response = sender.apply(requests);
+        } catch (Exception e) {
+            response = Mono.error(e);
+        }
+
+        response.switchIfEmpty(Mono.error(() -> new IllegalStateException("[" + name + "] 빈 응답을 받았습니다.")))
+                .subscribe(results -> {
+            if (results.size() != batch.size()) {
+                fail(batch, new IllegalStateException(
+                        "[" + name + "] 결과 수가 요청 수와 다릅니다. (요청 " + batch.size() + "건, 결과 " + results.size() + "건)"));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        }, e -> {
+            log.error("[{}] 요청 묶음 전송 실패 - {}건", name, batch.size(), e);
+            fail(batch, e);
+        });
+    }
+
+    private static <T, R> void fail(List<Pending<T, R>> batch, Throwable cause) {
+        batch.forEach(pending -> pending.future().completeExceptionally(cause));
+    }
+
+    private record Pending<T, R>(T request, CompletableFuture<R> future) {
+    }
+}
@@ -1,19 +1,144 @@
 package com.roopy.order.adapter.out.stock;
 
+import com.roopy.order.adapter.out.stock.dto.StockReservationRequest;
+import com.roopy.order.adapter.out.stock.dto.StockReservationResponse;
+import com.roopy.order.config.OutboundHttpClients;
+import com.roopy.order.config.StockClientProperties;
 import com.roopy.order.port.out.stock.StockPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * stock-service 재고 API 클라이언트입니다.
+ * <p>
+ * 일괄 전송이 켜져 있으면({@code stock-client.batch.enabled}) 여러 Saga가 동시에 보낸 예약·취소 요청을
+ * 짧은 시간({@code linger}) 동안 모아 일괄 API 한 번으로 보내므로, 주문당 네트워크 왕복 비용이 줄어듭니다.
+ */
+@Slf4j
 @Component
-public class StockClient implements StockPort  {
+public class StockClient implements StockPort, DisposableBean {
+
+    private static final ParameterizedTypeReference<List<StockReservationResponse>> RESPONSE_LIST =
+            new ParameterizedTypeReference<>() {
+            };
+
+    private final WebClient webClient;
+
+    /**
+     * 동시에 들어온 재고 예약 요청 병합기 (일괄 전송 비활성화 시 null)
+     */
+    private final RequestCoalescer<StockReservationRequest, StockReservationResponse> reservations;
+
+    /**
+     * 동시에 들어온 재고 취소 요청 병합기 (일괄 전송 비활성화 시 null)
+     */
+    private final RequestCoalescer<String, StockReservationResponse> releases;
+
+    public StockClient(OutboundHttpClients outboundHttpClients, StockClientProperties properties) {
+        // stock-service 전용 연결 풀 사용 (outbound.http.clients.stock)
+        this.webClient = outboundHttpClients.webClient("stock");
+
+        StockClientProperties.Batch batch = properties.getBatch();
+        if (batch.isEnabled()) {
+            this.reservations = new RequestCoalescer<>("stock-reserve-coalescer",
+                    batch.getMaxSize(), batch.getLinger(), batch.getQueueCapacity(), this::reserveBatch);
+            this.releases = new RequestCoalescer<>("stock-release-coalescer",
+                    batch.getMaxSize(), batch.getLinger(), batch.getQueueCapacity(), this::releaseBatch);
+        } else {
+            this.reservations = null;
+            this.releases = null;
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> deductStock(String orderId, String product, int quantity) {
+        log.info("[StockClient] 재고 예약 요청 - orderId={}, productCode={}, quantity={}", orderId, product, quantity);
+
+        if (reservations != null) {
+            return reservations.submit(new StockReservationRequest(orderId, product, quantity))
+                    .thenApply(StockReservationResponse::isSuccess);
+        }
+
+        return webClient.post()
+                .uri(uri -> uri.path("/stocks/{productCode}/reservations")
+                        .queryParam("orderId", orderId)
+                        .queryParam("quantity", quantity)
+                        .build(product))
+                .exchangeToMono(response -> {
+                    // 409 Conflict 는 재고 부족
+                    if (response.statusCode().value() == HttpStatus.CONFLICT.value()) {
+                        return response.releaseBody().thenReturn(false);
+                    }
+                    // 그 밖의 오류는 예약 여부를 알 수 없으므로 예외로 전달
+                    return response.statusCode().is2xxSuccessful()
+                            ? response.releaseBody().thenReturn(true)
+                            : response.createError();
+                })
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> confirmStock(String orderId) {
+        return webClient.post()
+                .uri("/stocks/reservations/{orderId}/confirm", orderId)
+                .exchangeToMono(response -> complete(response, "확정", orderId))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> cancelStock(String orderId) {
+        if (releases != null) {
+            return releases.submit(orderId).thenApply(response -> null);
+        }
+        return webClient.delete()
+                .uri("/stocks/reservations/{orderId}", orderId)
+                .exchangeToMono(response -> complete(response, "취소", orderId))
+                .toFuture();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (reservations != null) {
+            reservations.close();
+        }
+        if (releases != null) {
+            releases.close();
+        }
+    }
+
+    private Mono<List<StockReservationResponse>> reserveBatch(List<StockReservationRequest> requests) {
+        return webClient.post()
+                .uri("/stocks/reservations/batch")
+                .bodyValue(requests)
+                .retrieve()
+                .bodyToMono(RESPONSE_LIST);
+    }
 
-    public boolean deductStock(String product, int quantity) {
-        // 재고 차감 요청
-        // 외부 재고 시스템과 통신 (여기서는 mock 처리)
-        return true; // 재고 차감 성공
+    private Mono<List<StockReservationResponse>> releaseBatch(List<String> orderIds) {
+        return webClient.post()
+                .uri("/stocks/reservations/batch-release")
+                .bodyValue(orderIds)
+                .retrieve()
+                .bodyToMono(RESPONSE_LIST);
     }
 
-    public void cancelStock(String orderId) {
-        // 재고 취소 요청
-        // 외부 재고 시스템과 통신 (여기서는 mock 처리)
+    /**
+     * 확정·취소 응답을 처리합니다. 404 는 예약이 없는 경우(이미 처리되었거나 예약 실패)이므로 정상으로 간주합니다.
+     */
+    private Mono<Void> complete(ClientResponse response, String action, String orderId) {
+        if (response.statusCode().value() == HttpStatus.NOT_FOUND.value()) {
+            log.debug("[StockClient] 재고 {} 대상 예약 없음 - orderId={}", action, orderId);
+            return response.releaseBody();
+        }
+        return response.statusCode().is2xxSuccessful() ? response.releaseBody() : response.createError();
     }
-}
\ No newline at end of file
+}
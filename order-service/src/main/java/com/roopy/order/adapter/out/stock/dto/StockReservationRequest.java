@@ -0,0 +1,14 @@
+package com.roopy.order.adapter.out.stock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationRequest {
+    private String orderId;
+    private String productCode;
+    private int quantity;
+}
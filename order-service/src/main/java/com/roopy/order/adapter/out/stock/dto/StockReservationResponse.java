@@ -0,0 +1,15 @@
+package com.roopy.order.adapter.out.stock.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationResponse {
+    private String orderId;
+    private String productCode;
+    private int quantity;
+    private boolean success;
+}
@@ -0,0 +1,12 @@
+package com.roopy.order.application.exception;
+
+/**
+ * 처리 중인 커맨드 수가 한도에 도달하여 새 커맨드를 받을 수 없을 때 발생하는 예외입니다.
+ */
+public class CommandRejectedException extends RuntimeException {
+
+    public CommandRejectedException(Object command, int maxInFlight) {
+        super(String.format("처리 중인 커맨드 수가 한도(%d)에 도달하여 요청을 거절합니다. command: %s",
+                maxInFlight, command.getClass().getSimpleName()));
+    }
+}
@@ -0,0 +1,11 @@
+package com.roopy.order.application.exception;
+
+/**
+ * 같은 {@code Idempotency-Key}로 처음 요청과 내용이 다른 요청이 들어왔을 때 발생하는 예외입니다.
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+    public IdempotencyKeyMismatchException(String idempotencyKey) {
+        super(String.format("Idempotency-Key가 처음 요청과 다른 요청에 다시 사용되었습니다. key: %s", idempotencyKey));
+    }
+}
@@ -0,0 +1,107 @@
+package com.roopy.order.application.service;
+
+import com.roopy.order.application.exception.CommandRejectedException;
+import com.roopy.order.config.BulkOrderProperties;
+import com.roopy.order.domain.command.CreateOrderCommand;
+import com.roopy.order.domain.model.BulkOrderResult;
+import com.roopy.order.port.in.BulkCreateOrderUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * 대량 주문 접수 서비스입니다.
+ * <p>
+ * 주문을 {@code batchSize}개씩 묶어 커맨드를 보내고, 다음 묶음을 보낸 뒤에 이전 묶음의 결과를 모아 전달합니다.
+ * 커맨드 처리와 다음 묶음 읽기가 겹치므로(파이프라이닝) 주문마다 결과를 기다리는 것보다 처리량이 높고,
+ * 메모리에는 최대 두 묶음만 남으므로 본문 크기와 무관하게 일정한 메모리로 처리합니다.
+ * 처리 중인 커맨드가 한도에 도달하면 {@link CommandAdmission}에서 슬롯을 기다리며, 그동안 본문을 더 읽지 않습니다.
+ */
+@Slf4j
+@Service
+public class BulkCreateOrderService implements BulkCreateOrderUseCase {
+
+    private final CommandAdmission commandAdmission;
+    private final int batchSize;
+    private final Duration admissionWait;
+    private final Duration resultTimeout;
+
+    public BulkCreateOrderService(CommandAdmission commandAdmission, BulkOrderProperties properties) {
+        this.commandAdmission = commandAdmission;
+        this.batchSize = properties.getBatchSize();
+        this.admissionWait = properties.getAdmissionWait();
+        this.resultTimeout = properties.getResultTimeout();
+    }
+
+    @Override
+    public void createOrders(Iterator<CreateOrderCommand> orders, Consumer<List<BulkOrderResult>> results) {
+        List<PendingOrder> previous = List.of();
+        List<PendingOrder> current = new ArrayList<>(batchSize);
+        int index = 0;
+        try {
+            while (orders.hasNext()) {
+                CreateOrderCommand command = orders.next();
+                current.add(new PendingOrder(index++, command.getOrderId(), commandAdmission.send(command, admissionWait)));
+                if (current.size() == batchSize) {
+                    // 다음 묶음을 보낸 뒤 이전 묶음의 결과 전달
+                    drain(previous, results);
+                    previous = current;
+                    current = new ArrayList<>(batchSize);
+                }
+            }
+        } finally {
+            // 읽기 오류로 중단되더라도 이미 보낸 주문의 결과는 전달
+            drain(previous, results);
+            drain(current, results);
+        }
+        log.info("[BulkOrder] 대량 주문 접수 완료 - {}건", index);
+    }
+
+    private void drain(List<PendingOrder> batch, Consumer<List<BulkOrderResult>> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<BulkOrderResult> completed = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + resultTimeout.toNanos();
+        for (PendingOrder pending : batch) {
+            completed.add(await(pending, deadline));
+        }
+        results.accept(completed);
+    }
+
+    /**
+     * 주문 한 건의 결과를 기다립니다. 제한 시간은 묶음 단위로 적용합니다.
+     */
+    private BulkOrderResult await(PendingOrder pending, long deadline) {
+        try {
+            pending.result().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return new BulkOrderResult(pending.index(), pending.orderId(), BulkOrderResult.Status.CREATED, null);
+        } catch (TimeoutException e) {
+            return new BulkOrderResult(pending.index(), pending.orderId(), BulkOrderResult.Status.TIMEOUT, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new BulkOrderResult(pending.index(), pending.orderId(), BulkOrderResult.Status.TIMEOUT, null);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof CommandRejectedException) {
+                return new BulkOrderResult(pending.index(), pending.orderId(), BulkOrderResult.Status.REJECTED, cause.getMessage());
+            }
+            log.error("[BulkOrder] 주문 생성 실패 - orderId={}", pending.orderId(), cause);
+            return new BulkOrderResult(pending.index(), pending.orderId(), BulkOrderResult.Status.FAILED, cause.getMessage());
+        }
+    }
+
+    private record PendingOrder(int index, String orderId, CompletableFuture<Object> result) {
+    }
+}
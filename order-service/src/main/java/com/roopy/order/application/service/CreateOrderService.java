@@ -1,20 +1,35 @@
 package com.roopy.order.application.service;
 
 import com.roopy.order.domain.command.CreateOrderCommand;
+import com.roopy.order.domain.model.CreateOrderResult;
 import com.roopy.order.port.in.CreateOrderUseCase;
 import lombok.RequiredArgsConstructor;
-import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class CreateOrderService implements CreateOrderUseCase {
 
-    private final CommandGateway commandGateway;
+    private final CommandAdmission commandAdmission;
+    private final IdempotencyCache idempotencyCache;
 
     @Override
-    public void createOrder(CreateOrderCommand command) {
-        // 주문 생성 이벤트 발행
-        commandGateway.send(command);
+    public CompletableFuture<CreateOrderResult> createOrder(CreateOrderCommand command, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            // 주문 생성 이벤트 발행 (처리 중인 커맨드 한도 이내에서만)
+            return send(command);
+        }
+        // 같은 키로 이미 접수된 주문이 있으면 새 커맨드를 보내지 않음 (서버에서 생성하는 orderId는 해시에서 제외)
+        String requestHash = IdempotencyCache.requestHash(command.getProductCode(), command.getQuantity(),
+                command.getCardPayment(), command.getCouponPayment(), command.getCouponCode());
+        // 재요청에는 처음 요청에서 발급한 orderId가 그대로 돌아감
+        return idempotencyCache.computeIfAbsent(idempotencyKey, requestHash, () -> send(command));
+    }
+
+    private CompletableFuture<CreateOrderResult> send(CreateOrderCommand command) {
+        return commandAdmission.dispatch(command)
+                .thenApply(outcome -> new CreateOrderResult(command.getOrderId(), outcome));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.roopy.order.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.roopy.order.application.exception.IdempotencyKeyMismatchException;
+import com.roopy.order.config.IdempotencyProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * {@code Idempotency-Key}별 처리 결과를 보관하는 캐시입니다.
+ * <p>
+ * 키마다 처음 요청의 처리 결과(Future)와 요청 내용의 해시를 보관하고, 같은 키로 다시 들어온 요청은 커맨드를 보내지 않고 그 결과를 돌려받습니다.
+ * <ul>
+ *     <li>같은 키로 내용이 다른 요청이 들어오면 처음 요청의 결과 대신 {@link IdempotencyKeyMismatchException}으로 실패합니다.</li>
+ *     <li>처음 요청이 아직 처리 중이면 재요청은 같은 Future를 함께 기다립니다.</li>
+ *     <li>처리가 실패(거절, 시간 초과 등)로 끝나면 키를 제거하므로, 재요청은 새로 처리됩니다.</li>
+ *     <li>키는 {@code ttl} 동안 보관되며, {@code maximumSize}를 넘으면 오래 쓰지 않은 키부터 제거됩니다.</li>
+ * </ul>
+ * 적중·미적중 지표는 {@code /actuator/metrics/cache.gets}에서 {@code cache=idempotency} 태그로 조회할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class IdempotencyCache implements MeterBinder {
+
+    private final Cache<String, Entry> results;
+
+    public IdempotencyCache(IdempotencyProperties properties) {
+        this.results = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 키의 처리 결과를 반환합니다. 처음 보는 키이면 {@code action}을 실행해 그 결과를 보관합니다.
+     *
+     * @param key         Idempotency-Key
+     * @param requestHash 요청 내용의 해시 ({@link #requestHash(Object...)})
+     * @param action      처음 요청일 때 실행할 작업
+     * @return 처음 요청의 처리 결과 (내용이 다른 요청이면 {@link IdempotencyKeyMismatchException}으로 실패)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> computeIfAbsent(String key, String requestHash, Supplier<CompletableFuture<T>> action) {
+        boolean[] created = new boolean[1];
+        Entry entry = results.get(key, k -> {
+            created[0] = true;
+            return new Entry(requestHash, action.get());
+        });
+        CompletableFuture<T> result = (CompletableFuture<T>) entry.result();
+
+        if (created[0]) {
+            // 실패한 결과는 재요청이 다시 처리할 수 있도록 제거
+            result.whenComplete((r, ex) -> {
+                if (ex != null) {
+                    results.asMap().remove(key, entry);
+                }
+            });
+        } else if (!entry.requestHash().equals(requestHash)) {
+            log.warn("[Idempotency] 같은 키로 내용이 다른 요청 - key={}", key);
+            return CompletableFuture.failedFuture(new IdempotencyKeyMismatchException(key));
+        } else {
+            log.debug("[Idempotency] 중복 요청 - key={}", key);
+        }
+        return result;
+    }
+
+    /**
+     * 요청 내용을 구성하는 값들의 SHA-256 해시를 만듭니다. 서버에서 생성하는 값(ID 등)은 넣지 않습니다.
+     * 값마다 길이를 앞에 붙여 인코딩하므로 경계가 다른 값들이 같은 해시가 되지 않습니다.
+     *
+     * @param values 요청 값 (null 허용)
+     * @return 16진수 해시 문자열
+     */
+    public static String requestHash(Object... values) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object value : values) {
+            if (value == null) {
+                canonical.append("-1:");
+            } else {
+                String text = value.toString();
+                canonical.append(text.length()).append(':').append(text);
+            }
+        }
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM은 SHA-256을 제공해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, results, "idempotency");
+    }
+
+    /**
+     * 키별로 보관하는 처음 요청의 해시와 처리 결과
+     */
+    private record Entry(String requestHash, CompletableFuture<?> result) {
+    }
+}
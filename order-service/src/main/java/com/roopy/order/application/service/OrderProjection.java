@@ -0,0 +1,92 @@
+package com.roopy.order.application.service;
+
+import com.roopy.order.domain.event.OrderCompletedEvent;
+import com.roopy.order.domain.event.OrderCreatedEvent;
+import com.roopy.order.domain.event.OrderFailedEvent;
+import com.roopy.order.domain.event.OrderReviewRequiredEvent;
+import com.roopy.order.domain.model.OrderStatus;
+import com.roopy.order.domain.model.OrderView;
+import com.roopy.order.domain.query.FindOrderQuery;
+import com.roopy.order.domain.query.FindOrdersByStatusQuery;
+import com.roopy.order.port.in.OrderQueryUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.config.ProcessingGroup;
+import org.axonframework.eventhandling.EventHandler;
+import org.axonframework.eventhandling.ResetHandler;
+import org.axonframework.queryhandling.QueryHandler;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 상태 조회 모델(프로젝션)입니다.
+ * <p>
+ * 주문 생성·완료·실패·수동 확인 이벤트를 받아 {@link OrderViewStore}에 반영하고, 조회는 이 저장소에서만 처리하므로 이벤트 저장소를 읽지 않습니다.
+ * 저장소는 메모리에만 있으므로 노드가 재시작되면 {@code order-projection} 처리기가 이벤트를 처음부터 다시 읽어 재구성합니다
+ * (토큰도 메모리에 보관됨). 각 노드는 모든 이벤트를 받아 자신의 저장소를 유지합니다.
+ * <p>
+ * 다른 서비스는 Axon 쿼리({@link FindOrderQuery}, {@link FindOrdersByStatusQuery})로, 이 서비스의 API는 {@link OrderQueryUseCase}로 조회합니다.
+ */
+@Slf4j
+@Component
+@ProcessingGroup("order-projection")
+@RequiredArgsConstructor
+public class OrderProjection implements OrderQueryUseCase {
+
+    private final OrderViewStore store;
+
+    @EventHandler
+    public void on(OrderCreatedEvent event) {
+        store.put(new OrderView(event.getOrderId(), event.getProductCode(), event.getQuantity(),
+                event.getCardPayment(), event.getCouponPayment(), event.getCouponCode(), OrderStatus.PENDING, null));
+    }
+
+    @EventHandler
+    public void on(OrderCompletedEvent event) {
+        if (!store.update(event.getOrderId(), view -> view.withStatus(OrderStatus.COMPLETED, null))) {
+            log.debug("[Projection] 보관 중이 아닌 주문의 완료 이벤트 - orderId={}", event.getOrderId());
+        }
+    }
+
+    @EventHandler
+    public void on(OrderFailedEvent event) {
+        if (!store.update(event.getOrderId(), view -> view.withStatus(OrderStatus.FAILED, event.getReason()))) {
+            log.debug("[Projection] 보관 중이 아닌 주문의 실패 이벤트 - orderId={}", event.getOrderId());
+        }
+    }
+
+    @EventHandler
+    public void on(OrderReviewRequiredEvent event) {
+        if (!store.update(event.getOrderId(), view -> view.withStatus(OrderStatus.REVIEW_REQUIRED, event.getReason()))) {
+            log.debug("[Projection] 보관 중이 아닌 주문의 수동 확인 이벤트 - orderId={}", event.getOrderId());
+        }
+    }
+
+    @ResetHandler
+    public void reset() {
+        log.info("[Projection] 주문 상태 조회 모델 초기화");
+        store.clear();
+    }
+
+    @QueryHandler
+    public OrderView handle(FindOrderQuery query) {
+        return store.find(query.getOrderId()).orElse(null);
+    }
+
+    @QueryHandler
+    public List<OrderView> handle(FindOrdersByStatusQuery query) {
+        return store.findByStatus(query.getStatus(), query.getLimit());
+    }
+
+    @Override
+    public Optional<OrderView> findOrder(String orderId) {
+        return store.find(orderId);
+    }
+
+    @Override
+    public List<OrderView> findOrders(OrderStatus status, int limit) {
+        return store.findByStatus(status, limit);
+    }
+}
@@ -0,0 +1,256 @@
+package com.roopy.order.application.service;
+
+import com.roopy.order.config.OrderProjectionProperties;
+import com.roopy.order.domain.model.OrderStatus;
+import com.roopy.order.domain.model.OrderView;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+/**
+ * 주문 상태 조회 모델의 메모리 저장소입니다.
+ * <p>
+ * 주문 ID 기준 맵과 상태별 주문 ID 인덱스를 함께 유지합니다.
+ * <ul>
+ *     <li>같은 주문의 변경은 주문 ID 단위로 원자적으로 반영되며, 인덱스도 같은 구간에서 갱신됩니다.</li>
+ *     <li>보관 건수가 {@code maxEntries}를 넘으면 처리가 끝난 주문부터 끝난 순서대로 제거합니다.
+ *     처리가 끝난 주문이 없으면 처리 중인 주문을 들어온 순서대로 제거하므로, 보관 건수는 한도를 넘지 않습니다.
+ *     (주문 SAGA의 데드라인으로 처리 중인 주문도 결국 끝나지만, 노드 재시작 등으로 데드라인이 사라진 주문이 남을 수 있습니다.)</li>
+ *     <li>보관 건수, 추정 메모리 사용량, 제거 건수는 Micrometer 지표로 노출됩니다.</li>
+ * </ul>
+ * 추정 메모리는 항목당 고정 오버헤드(맵·인덱스 노드, 객체 헤더와 필드)에 문자열 길이를 더한 값으로, 실제 힙 사용량의 근사치입니다.
+ */
+@Slf4j
+@Component
+public class OrderViewStore implements MeterBinder {
+
+    /**
+     * 항목당 고정 오버헤드 추정치 (맵 노드 32 + 인덱스 노드 32 + OrderView 48 + 제거 대기열 노드 24 × 2, 바이트)
+     */
+    static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    /**
+     * 처리 중 대기열에 남은 끝난 주문 ID를 정리하기 전까지 허용하는 여유 건수
+     */
+    private static final int STARTED_SLACK = 1024;
+
+    /**
+     * 문자열당 고정 오버헤드 추정치 (String 24 + byte[] 헤더 16, 바이트)
+     */
+    static final int STRING_OVERHEAD_BYTES = 40;
+
+    private final Map<String, OrderView> orders = new ConcurrentHashMap<>();
+    private final Map<OrderStatus, Set<String>> byStatus = new EnumMap<>(OrderStatus.class);
+
+    /**
+     * 처리가 끝난 주문 ID (끝난 순서, 제거 대상)
+     */
+    private final Queue<String> finished = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 처리 중 상태로 들어온 주문 ID (들어온 순서, 처리가 끝난 주문이 없을 때의 제거 대상)
+     * <p>
+     * 주문이 끝나도 바로 빼지 않고 제거·정리 시점에 건너뛰므로, 대기열 길이는 {@link #startedSize}로 따로 셉니다.
+     */
+    private final Queue<String> started = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger startedSize = new AtomicInteger();
+
+    private final AtomicLong estimatedBytes = new AtomicLong();
+    private final LongAdder evictions = new LongAdder();
+
+    private final int maxEntries;
+
+    public OrderViewStore(OrderProjectionProperties properties) {
+        this.maxEntries = properties.getMaxEntries();
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * 주문을 추가하거나 교체합니다.
+     */
+    public void put(OrderView view) {
+        orders.compute(view.orderId(), (id, previous) -> replace(previous, view));
+        evictIfFull();
+        trimStarted();
+    }
+
+    /**
+     * 보관 중인 주문을 변경합니다. 보관 중이 아니면(제거되었거나 아직 반영되지 않은 경우) 무시합니다.
+     *
+     * @return 변경했으면 true
+     */
+    public boolean update(String orderId, UnaryOperator<OrderView> change) {
+        boolean[] updated = new boolean[1];
+        orders.computeIfPresent(orderId, (id, previous) -> {
+            updated[0] = true;
+            return replace(previous, change.apply(previous));
+        });
+        evictIfFull();
+        trimStarted();
+        return updated[0];
+    }
+
+    public Optional<OrderView> find(String orderId) {
+        return Optional.ofNullable(orders.get(orderId));
+    }
+
+    /**
+     * 상태별 주문을 최대 {@code limit}건 반환합니다. 순서는 보장하지 않습니다.
+     */
+    public List<OrderView> findByStatus(OrderStatus status, int limit) {
+        List<OrderView> result = new ArrayList<>(Math.min(limit, 256));
+        for (String orderId : byStatus.get(status)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            OrderView view = orders.get(orderId);
+            // 인덱스 조회와 상태 변경이 겹친 경우 현재 상태 기준으로 거름
+            if (view != null && view.status() == status) {
+                result.add(view);
+            }
+        }
+        return result;
+    }
+
+    public int size() {
+        return orders.size();
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    /**
+     * 모든 주문을 제거합니다. 이벤트를 처음부터 다시 읽어 재구성할 때 사용합니다.
+     */
+    public void clear() {
+        orders.clear();
+        byStatus.values().forEach(Set::clear);
+        finished.clear();
+        started.clear();
+        startedSize.set(0);
+        estimatedBytes.set(0);
+    }
+
+    /**
+     * 맵의 compute 구간 안에서 호출되어 인덱스와 추정 메모리를 함께 갱신합니다.
+     */
+    private OrderView replace(OrderView previous, OrderView next) {
+        if (previous != null) {
+            byStatus.get(previous.status()).remove(previous.orderId());
+            estimatedBytes.addAndGet(-estimateBytes(previous));
+        }
+        byStatus.get(next.status()).add(next.orderId());
+        estimatedBytes.addAndGet(estimateBytes(next));
+        if (next.status().isFinished() && (previous == null || !previous.status().isFinished())) {
+            finished.add(next.orderId());
+        }
+        if (previous == null && !next.status().isFinished()) {
+            started.add(next.orderId());
+            startedSize.incrementAndGet();
+        }
+        return next;
+    }
+
+    private void evictIfFull() {
+        while (orders.size() > maxEntries) {
+            String orderId = finished.poll();
+            if (orderId != null) {
+                orders.computeIfPresent(orderId, (id, view) -> evict(view));
+                continue;
+            }
+            orderId = started.poll();
+            if (orderId == null) {
+                return;
+            }
+            startedSize.decrementAndGet();
+            // 이미 끝난 주문은 처리가 끝난 주문 대기열에서 제거되므로 건너뜀
+            orders.computeIfPresent(orderId, (id, view) -> {
+                if (view.status().isFinished()) {
+                    return view;
+                }
+                log.warn("[Projection] 보관 한도 초과로 처리 중인 주문 제거 - orderId={}", id);
+                return evict(view);
+            });
+        }
+    }
+
+    private OrderView evict(OrderView view) {
+        byStatus.get(view.status()).remove(view.orderId());
+        estimatedBytes.addAndGet(-estimateBytes(view));
+        evictions.increment();
+        return null;
+    }
+
+    /**
+     * 처리 중 대기열에 남은 끝난(또는 제거된) 주문 ID가 처리 중인 주문 수보다 많이 쌓이면 한 번에 정리합니다.
+     */
+    private void trimStarted() {
+        if (startedSize.get() <= 2 * byStatus.get(OrderStatus.PENDING).size() + STARTED_SLACK) {
+            return;
+        }
+        started.removeIf(orderId -> {
+            OrderView view = orders.get(orderId);
+            if (view != null && !view.status().isFinished()) {
+                return false;
+            }
+            startedSize.decrementAndGet();
+            return true;
+        });
+    }
+
+    static long estimateBytes(OrderView view) {
+        return ENTRY_OVERHEAD_BYTES
+                + estimateBytes(view.orderId())
+                + estimateBytes(view.productCode())
+                + estimateBytes(view.couponCode())
+                + estimateBytes(view.reason());
+    }
+
+    private static long estimateBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("order.projection.size", this, OrderViewStore::size)
+                .description("메모리에 보관 중인 주문 수")
+                .register(registry);
+        Gauge.builder("order.projection.capacity", () -> maxEntries)
+                .description("메모리에 보관할 최대 주문 수")
+                .register(registry);
+        Gauge.builder("order.projection.estimated.bytes", this, OrderViewStore::estimatedBytes)
+                .description("보관 중인 주문의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(registry);
+        for (OrderStatus status : OrderStatus.values()) {
+            Gauge.builder("order.projection.status", byStatus.get(status), Set::size)
+                    .description("상태별 주문 수")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        FunctionCounter.builder("order.projection.evictions", evictions, LongAdder::sum)
+                .description("보관 한도 초과로 제거된 주문 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,55 @@
+package com.roopy.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 커맨드 측 애그리거트 캐시 설정입니다.
+ * <p>
+ * application.yml 의 {@code aggregate.cache.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aggregate.cache")
+public class AggregateCacheProperties {
+
+    /**
+     * 캐시 사용 여부입니다. false 이면 커맨드마다 이벤트 저장소에서 애그리거트를 로딩합니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시 크기 제한 방식입니다.
+     */
+    private Eviction eviction = Eviction.WEIGHT;
+
+    /**
+     * SIZE 방식의 최대 애그리거트 수입니다.
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * WEIGHT 방식의 최대 추정 메모리입니다. 애그리거트마다 필드 값으로 크기를 추정해 합산합니다.
+     */
+    private DataSize maximumWeight = DataSize.ofMegabytes(64);
+
+    /**
+     * 마지막 접근 후 이 시간이 지나면 제거합니다. 지정하지 않으면 크기 제한으로만 제거합니다.
+     */
+    private Duration expireAfterAccess = Duration.ofMinutes(30);
+
+    public enum Eviction {
+        /**
+         * 애그리거트 수 기준
+         */
+        SIZE,
+        /**
+         * 추정 메모리 기준 (상태가 큰 애그리거트가 더 많은 몫을 차지)
+         */
+        WEIGHT
+    }
+}
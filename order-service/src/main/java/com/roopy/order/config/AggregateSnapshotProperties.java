@@ -0,0 +1,33 @@
+package com.roopy.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 애그리거트 스냅샷 설정입니다.
+ * <p>
+ * application.yml 의 {@code aggregate.snapshot.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "aggregate.snapshot")
+public class AggregateSnapshotProperties {
+
+    /**
+     * 스냅샷 사용 여부입니다. false 이면 항상 전체 이벤트를 재생해 애그리거트를 로딩합니다.
+     */
+    private boolean enabled = true;
+
+    /**
+     * 마지막 스냅샷 이후 적용된 이벤트가 이 개수에 도달하면 스냅샷을 만듭니다.
+     */
+    private int eventThreshold = 50;
+
+    /**
+     * 애그리거트 로딩(스냅샷 + 이벤트 재생)이 이 시간을 넘으면 스냅샷을 만듭니다.
+     */
+    private Duration loadTimeThreshold = Duration.ofMillis(100);
+}
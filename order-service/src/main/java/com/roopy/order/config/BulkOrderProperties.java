@@ -0,0 +1,41 @@
+package com.roopy.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 대량 주문 접수 설정입니다.
+ * <p>
+ * application.yml 의 {@code order.bulk.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.bulk")
+public class BulkOrderProperties {
+
+    /**
+     * 한 번에 보내는 주문 커맨드 수입니다.
+     * 다음 묶음을 보낸 뒤 이전 묶음의 결과를 기다리므로, 요청 하나가 동시에 보내는 커맨드는 최대 두 묶음입니다.
+     */
+    private int batchSize = 100;
+
+    /**
+     * 처리 중인 커맨드가 한도에 도달했을 때 슬롯을 기다리는 최대 시간입니다.
+     * 기다리는 동안 본문을 더 읽지 않으므로 클라이언트 전송 속도가 처리 속도에 맞춰집니다.
+     */
+    private Duration admissionWait = Duration.ofSeconds(5);
+
+    /**
+     * 주문 한 건의 처리 결과를 기다리는 최대 시간입니다.
+     */
+    private Duration resultTimeout = Duration.ofSeconds(10);
+
+    /**
+     * 대량 주문 결과 스트림 전체의 최대 응답 시간입니다. 0 이면 제한하지 않습니다.
+     * 다른 비동기 요청은 {@code spring.mvc.async.request-timeout}을 따릅니다.
+     */
+    private Duration streamTimeout = Duration.ZERO;
+}
@@ -0,0 +1,87 @@
+package com.roopy.order.config;
+
+import org.axonframework.serialization.Converter;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.SerializedType;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+
+/**
+ * 이벤트·메시지를 CBOR(바이너리 JSON)로 직렬화하는 {@link Serializer}입니다.
+ * <p>
+ * 직렬화는 항상 CBOR로 하고, 역직렬화는 데이터의 첫 바이트로 형식을 판별합니다.
+ * 이전에 JSON으로 저장된 이벤트는 JSON 직렬화기로 읽으므로, 기존 이벤트 스토어를 그대로 사용할 수 있습니다.
+ * 저장된 이벤트를 CBOR로 다시 쓰지는 않으며, 새로 발행되는 이벤트만 CBOR로 저장됩니다.
+ * <ul>
+ *     <li>JSON 객체·배열은 {@code '{'}, {@code '['} (앞에 공백이 올 수 있음)로 시작합니다.</li>
+ *     <li>CBOR 맵·배열의 첫 바이트는 {@code 0x80 ~ 0xBF} 이므로 JSON과 겹치지 않습니다.</li>
+ * </ul>
+ * 업캐스터를 거쳐 이미 {@code JsonNode}로 변환된 데이터는 형식과 무관하므로 CBOR 직렬화기로 읽습니다.
+ */
+public class CompactEventSerializer implements Serializer {
+
+    private final JacksonSerializer cbor;
+    private final JacksonSerializer legacyJson;
+
+    /**
+     * @param cbor       CBOR 매퍼를 사용하는 직렬화기 (직렬화 및 기본 역직렬화)
+     * @param legacyJson JSON 매퍼를 사용하는 직렬화기 (기존 JSON 이벤트 역직렬화)
+     */
+    public CompactEventSerializer(JacksonSerializer cbor, JacksonSerializer legacyJson) {
+        this.cbor = cbor;
+        this.legacyJson = legacyJson;
+    }
+
+    @Override
+    public <T> SerializedObject<T> serialize(Object object, Class<T> expectedRepresentation) {
+        return cbor.serialize(object, expectedRepresentation);
+    }
+
+    @Override
+    public <T> boolean canSerializeTo(Class<T> expectedRepresentation) {
+        return cbor.canSerializeTo(expectedRepresentation);
+    }
+
+    @Override
+    public <S, T> T deserialize(SerializedObject<S> serializedObject) {
+        if (!byte[].class.equals(serializedObject.getContentType())) {
+            return cbor.deserialize(serializedObject);
+        }
+        @SuppressWarnings("unchecked")
+        SerializedObject<byte[]> bytes = (SerializedObject<byte[]>) serializedObject;
+        return isJson(bytes.getData()) ? legacyJson.deserialize(bytes) : cbor.deserialize(bytes);
+    }
+
+    /**
+     * 데이터가 JSON 문서인지 판별합니다.
+     */
+    static boolean isJson(byte[] data) {
+        for (byte b : data) {
+            switch (b) {
+                case ' ', '\t', '\r', '\n':
+                    continue;
+                case '{', '[':
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Class<?> classForType(SerializedType type) {
+        return cbor.classForType(type);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes") // Serializer 인터페이스의 시그니처가 raw 타입
+    public SerializedType typeForClass(Class type) {
+        return cbor.typeForClass(type);
+    }
+
+    @Override
+    public Converter getConverter() {
+        return cbor.getConverter();
+    }
+}
@@ -0,0 +1,51 @@
+package com.roopy.order.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.axonframework.serialization.RevisionResolver;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.function.Supplier;
+
+/**
+ * 이벤트·메시지 직렬화 설정입니다.
+ * <p>
+ * {@code serializer.compact.enabled=true} 이면 {@code axon.serializer.events/messages} 대신
+ * {@link CompactEventSerializer}(CBOR)를 사용합니다. 사가·토큰 등은 계속 {@code axon.serializer.general} 을 따릅니다.
+ * 두 매퍼 모두 Spring Boot의 Jackson 설정(모듈, 알 수 없는 필드 무시 등)을 그대로 적용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "serializer.compact", name = "enabled", havingValue = "true")
+public class CompactSerializerConfig {
+
+    @Bean
+    @Qualifier("eventSerializer")
+    public Serializer eventSerializer(ObjectProvider<Jackson2ObjectMapperBuilder> mapperBuilder, RevisionResolver revisionResolver) {
+        return compactSerializer(mapperBuilder::getObject, revisionResolver);
+    }
+
+    @Bean
+    @Qualifier("messageSerializer")
+    public Serializer messageSerializer(ObjectProvider<Jackson2ObjectMapperBuilder> mapperBuilder, RevisionResolver revisionResolver) {
+        return compactSerializer(mapperBuilder::getObject, revisionResolver);
+    }
+
+    static CompactEventSerializer compactSerializer(Supplier<Jackson2ObjectMapperBuilder> mapperBuilder, RevisionResolver revisionResolver) {
+        // 빌더는 설정이 누적되므로 매퍼마다 새로 받음 (Spring Boot의 빌더 빈은 prototype)
+        JacksonSerializer cbor = JacksonSerializer.builder()
+                .objectMapper(mapperBuilder.get().factory(new CBORFactory()).build())
+                .revisionResolver(revisionResolver)
+                .build();
+        JacksonSerializer json = JacksonSerializer.builder()
+                .objectMapper(mapperBuilder.get().build())
+                .revisionResolver(revisionResolver)
+                .build();
+        return new CompactEventSerializer(cbor, json);
+    }
+}
@@ -0,0 +1,22 @@
+package com.roopy.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 주문 상태 조회 모델(프로젝션) 설정입니다.
+ * <p>
+ * application.yml 의 {@code order.projection.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.projection")
+public class OrderProjectionProperties {
+
+    /**
+     * 메모리에 보관할 최대 주문 수입니다.
+     * 넘으면 처리가 끝난(완료·실패) 주문부터 오래된 순으로 제거하고, 끝난 주문이 없으면 처리 중인 주문을 들어온 순서대로 제거합니다.
+     */
+    private int maxEntries = 100_000;
+}
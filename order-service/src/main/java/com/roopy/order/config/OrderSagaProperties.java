@@ -0,0 +1,24 @@
+package com.roopy.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 주문 SAGA 설정입니다.
+ * <p>
+ * application.yml 의 {@code order.saga.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "order.saga")
+public class OrderSagaProperties {
+
+    /**
+     * 주문 하나를 처리하는 최대 시간입니다. 이 시간 안에 끝나지 않으면 보상 후 실패로 반영합니다.
+     * 재고·쿠폰·카드 호출의 응답 타임아웃과 재고 확정 재시도를 합친 시간보다 길게 잡습니다.
+     */
+    private Duration timeout = Duration.ofSeconds(60);
+}
@@ -0,0 +1,27 @@
+package com.roopy.order.config;
+
+import org.axonframework.common.transaction.TransactionManager;
+import org.axonframework.config.ConfigurationScopeAwareProvider;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.SimpleDeadlineManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SAGA 데드라인 설정입니다.
+ * <p>
+ * {@code OrderSaga}는 주문 처리 시간 데드라인을 걸어 두고, 그때까지 끝나지 않은 주문을 보상 후 실패로 반영합니다.
+ * {@link SimpleDeadlineManager}는 데드라인을 메모리에만 보관하므로, 노드가 재시작되면 걸려 있던 데드라인은 사라집니다.
+ */
+@Configuration
+public class SagaDeadlineConfig {
+
+    @Bean
+    public DeadlineManager deadlineManager(org.axonframework.config.Configuration axonConfiguration,
+                                           TransactionManager transactionManager) {
+        return SimpleDeadlineManager.builder()
+                .scopeAwareProvider(new ConfigurationScopeAwareProvider(axonConfiguration))
+                .transactionManager(transactionManager)
+                .build();
+    }
+}
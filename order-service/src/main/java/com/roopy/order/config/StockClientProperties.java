@@ -0,0 +1,48 @@
+package com.roopy.order.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * stock-service 호출 설정입니다.
+ * <p>
+ * application.yml 의 {@code stock-client.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "stock-client")
+public class StockClientProperties {
+
+    /**
+     * 재고 예약/취소 요청 묶음 전송 설정입니다.
+     */
+    private Batch batch = new Batch();
+
+    @Getter
+    @Setter
+    public static class Batch {
+
+        /**
+         * 동시에 들어온 요청을 묶어서 일괄 API로 보낼지 여부입니다. false 이면 건별 API를 호출합니다.
+         */
+        private boolean enabled = true;
+
+        /**
+         * 한 번에 묶어 보낼 최대 요청 수입니다.
+         */
+        private int maxSize = 100;
+
+        /**
+         * 첫 요청 이후 같은 묶음에 포함할 요청을 기다리는 최대 시간입니다.
+         */
+        private Duration linger = Duration.ofMillis(2);
+
+        /**
+         * 전송 대기열의 최대 크기입니다. 가득 차면 요청은 즉시 실패 처리됩니다.
+         */
+        private int queueCapacity = 10_000;
+    }
+}
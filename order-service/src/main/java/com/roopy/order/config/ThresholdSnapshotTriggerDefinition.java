@@ -0,0 +1,99 @@
+package com.roopy.order.config;
+
+import org.axonframework.eventsourcing.AbstractSnapshotTrigger;
+import org.axonframework.eventsourcing.SnapshotTrigger;
+import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
+
+import java.time.Duration;
+
+/**
+ * 이벤트 수와 로딩 시간 중 하나라도 기준을 넘으면 스냅샷을 만드는 트리거 정의입니다.
+ * <p>
+ * Axon 기본 제공 트리거는 이벤트 수({@code EventCountSnapshotTriggerDefinition})와
+ * 로딩 시간({@code AggregateLoadTimeSnapshotTriggerDefinition}) 중 하나만 볼 수 있어 두 조건을 합쳤습니다.
+ * <ul>
+ *     <li>이벤트 수: 마지막 스냅샷 이후 재생·적용된 이벤트가 기준에 도달하면 스냅샷을 만듭니다.</li>
+ *     <li>로딩 시간: 이벤트가 적어도 재생이 느리면(이벤트가 크거나 저장소가 느린 경우) 스냅샷을 만듭니다.</li>
+ * </ul>
+ * 로딩 시간은 이벤트 재생 중({@code initializationFinished()} 호출 전)에만 봅니다. 캐시에서 꺼낸 트리거는 이미 재생을
+ * 마친 상태이므로, 마지막 스냅샷 이후 흐른 시간 때문에 커맨드마다 스냅샷을 만들지 않습니다.
+ */
+public class ThresholdSnapshotTriggerDefinition implements SnapshotTriggerDefinition {
+
+    private final Snapshotter snapshotter;
+
+    private final int eventThreshold;
+
+    private final long loadTimeThresholdMillis;
+
+    public ThresholdSnapshotTriggerDefinition(Snapshotter snapshotter, int eventThreshold, Duration loadTimeThreshold) {
+        if (eventThreshold < 1) {
+            throw new IllegalArgumentException("스냅샷 이벤트 기준은 1 이상이어야 합니다: " + eventThreshold);
+        }
+        this.snapshotter = snapshotter;
+        this.eventThreshold = eventThreshold;
+        this.loadTimeThresholdMillis = loadTimeThreshold.toMillis();
+    }
+
+    @Override
+    public SnapshotTrigger prepareTrigger(Class<?> aggregateType) {
+        return new ThresholdSnapshotTrigger(snapshotter, aggregateType, eventThreshold, loadTimeThresholdMillis);
+    }
+
+    @Override
+    public SnapshotTrigger reconfigure(Class<?> aggregateType, SnapshotTrigger trigger) {
+        // 캐시에서 역직렬화된 트리거는 Snapshotter(transient)가 비어 있으므로 다시 연결
+        if (trigger instanceof ThresholdSnapshotTrigger thresholdTrigger) {
+            thresholdTrigger.setSnapshotter(snapshotter);
+            thresholdTrigger.restartClock();
+            return trigger;
+        }
+        return prepareTrigger(aggregateType);
+    }
+
+    private static final class ThresholdSnapshotTrigger extends AbstractSnapshotTrigger {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int eventThreshold;
+
+        private final long loadTimeThresholdMillis;
+
+        private int counter;
+
+        private long startTime = System.currentTimeMillis();
+
+        // 이벤트 재생 중 여부 (로딩 시간은 재생 중에만 측정)
+        private boolean loading = true;
+
+        private ThresholdSnapshotTrigger(Snapshotter snapshotter, Class<?> aggregateType,
+                                         int eventThreshold, long loadTimeThresholdMillis) {
+            super(snapshotter, aggregateType);
+            this.eventThreshold = eventThreshold;
+            this.loadTimeThresholdMillis = loadTimeThresholdMillis;
+        }
+
+        @Override
+        protected boolean exceedsThreshold() {
+            return ++counter >= eventThreshold
+                    || loading && System.currentTimeMillis() - startTime > loadTimeThresholdMillis;
+        }
+
+        @Override
+        public void initializationFinished() {
+            loading = false;
+            super.initializationFinished();
+        }
+
+        private void restartClock() {
+            startTime = System.currentTimeMillis();
+        }
+
+        @Override
+        protected void reset() {
+            counter = 0;
+            startTime = System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.roopy.order.domain.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * SAGA 처리가 성공한 주문을 완료 상태로 바꾸는 커맨드입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CompleteOrderCommand {
+    @TargetAggregateIdentifier
+    private final String orderId;
+}
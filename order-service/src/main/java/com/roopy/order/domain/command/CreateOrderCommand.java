@@ -15,14 +15,16 @@ public class CreateOrderCommand {
     private final int price;
     private final int cardPayment;
     private final int couponPayment;
+    private final String couponCode;
 
     // orderId는 UUID로 자동 생성, price는 cardPayment + couponPayment 로 자동 계산
-    public CreateOrderCommand(String productCode, int quantity, int cardPayment, int couponPayment) {
+    public CreateOrderCommand(String productCode, int quantity, int cardPayment, int couponPayment, String couponCode) {
         this.orderId = UUID.randomUUID().toString();
         this.productCode = productCode;
         this.quantity = quantity;
         this.cardPayment = cardPayment;
         this.couponPayment = couponPayment;
         this.price = cardPayment + couponPayment;
+        this.couponCode = couponCode;
     }
 }
@@ -0,0 +1,16 @@
+package com.roopy.order.domain.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * SAGA 처리가 실패한 주문을 실패 상태로 바꾸는 커맨드입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FailOrderCommand {
+    @TargetAggregateIdentifier
+    private final String orderId;
+    private final String reason;
+}
@@ -0,0 +1,16 @@
+package com.roopy.order.domain.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * 카드 결제를 시작하기 전에 주문에 결제 시작을 기록하는 커맨드입니다.
+ * 처리 시간이 지난 주문이면 거절되며, 이 경우 SAGA는 결제를 시도하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class StartOrderPaymentCommand {
+    @TargetAggregateIdentifier
+    private final String orderId;
+}
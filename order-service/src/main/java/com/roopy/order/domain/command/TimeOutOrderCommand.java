@@ -0,0 +1,16 @@
+package com.roopy.order.domain.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * 처리 시간 데드라인까지 끝나지 않은 주문의 처리 방향을 정하는 커맨드입니다.
+ * 결제를 시작하기 전이면 보상 후 실패, 결제를 시작한 뒤면 수동 확인 대상으로 바뀝니다.
+ */
+@Getter
+@AllArgsConstructor
+public class TimeOutOrderCommand {
+    @TargetAggregateIdentifier
+    private final String orderId;
+}
@@ -11,4 +11,5 @@ public class OrderCreatedEvent {
     private final int quantity;
     private final int cardPayment;
     private final int couponPayment;
+    private final String couponCode;
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.roopy.order.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderFailedEvent {
+    private final String orderId;
+    private final String reason;
+}
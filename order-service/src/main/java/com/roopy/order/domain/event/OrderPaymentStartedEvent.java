@@ -0,0 +1,10 @@
+package com.roopy.order.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrderPaymentStartedEvent {
+    private final String orderId;
+}
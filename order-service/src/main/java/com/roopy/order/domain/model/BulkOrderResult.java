@@ -0,0 +1,35 @@
+package com.roopy.order.domain.model;
+
+/**
+ * 대량 주문 접수에서 주문 한 건의 처리 결과입니다.
+ *
+ * @param index   요청 본문에서의 순번 (0부터)
+ * @param orderId 발급된 주문 ID (본문을 읽지 못한 경우 null)
+ * @param status  처리 결과
+ * @param message 실패 사유 (성공 시 null)
+ */
+public record BulkOrderResult(int index, String orderId, Status status, String message) {
+
+    public enum Status {
+        /**
+         * 주문 생성 완료
+         */
+        CREATED,
+        /**
+         * 처리 중인 커맨드 한도 초과로 거절
+         */
+        REJECTED,
+        /**
+         * 처리 결과 대기 시간 초과 (커맨드는 계속 처리 중일 수 있음)
+         */
+        TIMEOUT,
+        /**
+         * 커맨드 처리 실패
+         */
+        FAILED,
+        /**
+         * 요청 본문을 읽을 수 없음 (이후 주문은 처리하지 않음)
+         */
+        INVALID
+    }
+}
@@ -0,0 +1,10 @@
+package com.roopy.order.domain.model;
+
+/**
+ * 주문 생성 요청의 접수 결과입니다.
+ *
+ * @param orderId 발급된 주문 ID (같은 Idempotency-Key의 재요청에는 처음 요청의 주문 ID)
+ * @param outcome 커맨드 접수 결과
+ */
+public record CreateOrderResult(String orderId, CommandOutcome outcome) {
+}
@@ -1,7 +1,18 @@
 package com.roopy.order.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.roopy.order.domain.command.CompleteOrderCommand;
 import com.roopy.order.domain.command.CreateOrderCommand;
+import com.roopy.order.domain.command.FailOrderCommand;
+import com.roopy.order.domain.command.StartOrderPaymentCommand;
+import com.roopy.order.domain.command.TimeOutOrderCommand;
+import com.roopy.order.domain.event.OrderCompletedEvent;
 import com.roopy.order.domain.event.OrderCreatedEvent;
+import com.roopy.order.domain.event.OrderFailedEvent;
+import com.roopy.order.domain.event.OrderPaymentStartedEvent;
+import com.roopy.order.domain.event.OrderReviewRequiredEvent;
+import com.roopy.order.domain.event.OrderTimedOutEvent;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.commandhandling.CommandHandler;
@@ -11,9 +22,22 @@ import org.axonframework.spring.stereotype.Aggregate;
 
 import static org.axonframework.modelling.command.AggregateLifecycle.apply;
 
+/**
+ * 주문 애그리거트입니다.
+ * <p>
+ * 이벤트 수·로딩 시간 기준으로 스냅샷을 남기므로, 로딩 시에는 마지막 스냅샷 이후의 이벤트만 재생합니다.
+ * 스냅샷은 상태 필드만 직렬화하고 값이 없는 필드(예: 쿠폰 코드)는 생략합니다.
+ * 최근 사용한 애그리거트는 캐시에 남아 있으므로, 연이은 커맨드는 이벤트 저장소를 읽지 않습니다.
+ * <p>
+ * 결제 시작과 처리 시간 초과는 모두 이 애그리거트에서 순서가 정해지므로, 둘 중 먼저 반영된 쪽이 처리 방향을 결정합니다.
+ * 결제 시작 전에 시간이 초과되면 결제를 거절하고 보상 후 실패로, 결제 시작 후에 초과되면 수동 확인 대상으로 바뀝니다.
+ */
 @Slf4j
-@Aggregate
+@Aggregate(snapshotTriggerDefinition = "orderSnapshotTrigger", cache = "orderAggregateCache")
 @NoArgsConstructor
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class OrderAggregate {
 
     @AggregateIdentifier
@@ -22,7 +46,10 @@ public class OrderAggregate {
     private int quantity;
     private int cardPayment;
     private int couponPayment;
-
+    private String couponCode;
+    private OrderStatus status;
+    private boolean paymentStarted;
+    private boolean timedOut;
 
     /**
      * 결제 생성 커맨드를 처리하는 CommandHandler.
@@ -38,10 +65,71 @@ public class OrderAggregate {
                 cmd.getProductCode(),
                 cmd.getQuantity(),
                 cmd.getCardPayment(),
-                cmd.getCouponPayment()
+                cmd.getCouponPayment(),
+                cmd.getCouponCode()
         ));
     }
 
+    /**
+     * 카드 결제 시작을 기록합니다. 이미 기록된 주문이면 다시 기록하지 않습니다.
+     *
+     * @throws IllegalStateException 처리 중이 아니거나 처리 시간이 지난 주문 (결제를 시작하면 안 됨)
+     */
+    @CommandHandler
+    public void handle(StartOrderPaymentCommand cmd) {
+        if (status != OrderStatus.PENDING || timedOut) {
+            throw new IllegalStateException(String.format("결제를 시작할 수 없는 주문입니다. orderId: %s, status: %s, timedOut: %s",
+                    cmd.getOrderId(), status, timedOut));
+        }
+        if (paymentStarted) {
+            return;
+        }
+        log.info("[Aggregate] Handling StartOrderPaymentCommand: {}", cmd.getOrderId());
+        apply(new OrderPaymentStartedEvent(cmd.getOrderId()));
+    }
+
+    /**
+     * 처리 시간 초과를 반영합니다. 처리 중(PENDING)인 주문에만 적용합니다.
+     * 결제를 시작했으면 결과를 알 수 없으므로 수동 확인 대상으로, 아니면 결제를 막고 보상 대상으로 표시합니다.
+     */
+    @CommandHandler
+    public void handle(TimeOutOrderCommand cmd) {
+        if (status != OrderStatus.PENDING || timedOut) {
+            log.warn("[Aggregate] Ignoring TimeOutOrderCommand: {} (status={})", cmd.getOrderId(), status);
+            return;
+        }
+        log.info("[Aggregate] Handling TimeOutOrderCommand: {} (paymentStarted={})", cmd.getOrderId(), paymentStarted);
+        apply(paymentStarted
+                ? new OrderReviewRequiredEvent(cmd.getOrderId(), "Order processing timed out after payment started")
+                : new OrderTimedOutEvent(cmd.getOrderId()));
+    }
+
+    /**
+     * SAGA 처리 성공을 반영합니다. 처리 중(PENDING)이거나 수동 확인 대상(REVIEW_REQUIRED)인 주문에만 적용합니다.
+     */
+    @CommandHandler
+    public void handle(CompleteOrderCommand cmd) {
+        if (!isOpen()) {
+            log.warn("[Aggregate] Ignoring CompleteOrderCommand: {} (status={})", cmd.getOrderId(), status);
+            return;
+        }
+        log.info("[Aggregate] Handling CompleteOrderCommand: {}", cmd.getOrderId());
+        apply(new OrderCompletedEvent(cmd.getOrderId()));
+    }
+
+    /**
+     * SAGA 처리 실패를 반영합니다. 처리 중(PENDING)이거나 수동 확인 대상(REVIEW_REQUIRED)인 주문에만 적용합니다.
+     */
+    @CommandHandler
+    public void handle(FailOrderCommand cmd) {
+        if (!isOpen()) {
+            log.warn("[Aggregate] Ignoring FailOrderCommand: {} (status={})", cmd.getOrderId(), status);
+            return;
+        }
+        log.info("[Aggregate] Handling FailOrderCommand: {}", cmd.getOrderId());
+        apply(new OrderFailedEvent(cmd.getOrderId(), cmd.getReason()));
+    }
+
     @EventSourcingHandler
     public void on(OrderCreatedEvent event) {
         log.info("[Aggregate] Applied OrderCreatedEvent: {}", event.getOrderId());
@@ -50,5 +138,45 @@ public class OrderAggregate {
         this.quantity = event.getQuantity();
         this.cardPayment = event.getCardPayment();
         this.couponPayment = event.getCouponPayment();
+        this.couponCode = event.getCouponCode();
+        this.status = OrderStatus.PENDING;
+    }
+
+    /**
+     * 결과가 아직 정해지지 않은 주문인지 확인합니다. 수동 확인 대상도 늦게 도착한 결제 결과로 완료·실패될 수 있습니다.
+     */
+    private boolean isOpen() {
+        return status == OrderStatus.PENDING || status == OrderStatus.REVIEW_REQUIRED;
+    }
+
+    @EventSourcingHandler
+    public void on(OrderPaymentStartedEvent event) {
+        log.info("[Aggregate] Applied OrderPaymentStartedEvent: {}", event.getOrderId());
+        this.paymentStarted = true;
+    }
+
+    @EventSourcingHandler
+    public void on(OrderTimedOutEvent event) {
+        log.info("[Aggregate] Applied OrderTimedOutEvent: {}", event.getOrderId());
+        this.timedOut = true;
+    }
+
+    @EventSourcingHandler
+    public void on(OrderReviewRequiredEvent event) {
+        log.info("[Aggregate] Applied OrderReviewRequiredEvent: {}", event.getOrderId());
+        this.timedOut = true;
+        this.status = OrderStatus.REVIEW_REQUIRED;
+    }
+
+    @EventSourcingHandler
+    public void on(OrderCompletedEvent event) {
+        log.info("[Aggregate] Applied OrderCompletedEvent: {}", event.getOrderId());
+        this.status = OrderStatus.COMPLETED;
+    }
+
+    @EventSourcingHandler
+    public void on(OrderFailedEvent event) {
+        log.info("[Aggregate] Applied OrderFailedEvent: {}", event.getOrderId());
+        this.status = OrderStatus.FAILED;
     }
-}
\ No newline at end of file
+}
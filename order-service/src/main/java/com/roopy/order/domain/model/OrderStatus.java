@@ -0,0 +1,28 @@
+package com.roopy.order.domain.model;
+
+/**
+ * 주문 처리 상태입니다.
+ */
+public enum OrderStatus {
+    /**
+     * 주문 생성 후 SAGA 처리 중 (재고 차감, 쿠폰 적용, 카드 결제)
+     */
+    PENDING,
+    /**
+     * 모든 단계 성공, 재고 확정
+     */
+    COMPLETED,
+    /**
+     * 중간 단계 실패, 보상 트랜잭션 수행
+     */
+    FAILED,
+    /**
+     * 카드 결제를 시작한 뒤 처리 시간 초과 - 결제 결과를 알 수 없어 보상하지 않고 수동 확인·환불 대상으로 남김
+     * (결제 응답이 늦게 도착하면 완료·실패로 바뀔 수 있음)
+     */
+    REVIEW_REQUIRED;
+
+    public boolean isFinished() {
+        return this != PENDING;
+    }
+}
@@ -0,0 +1,14 @@
+package com.roopy.order.domain.model;
+
+/**
+ * 주문 상태 조회 모델입니다.
+ *
+ * @param reason 실패 사유 (실패 상태가 아니면 null)
+ */
+public record OrderView(String orderId, String productCode, int quantity, int cardPayment, int couponPayment,
+                        String couponCode, OrderStatus status, String reason) {
+
+    public OrderView withStatus(OrderStatus status, String reason) {
+        return new OrderView(orderId, productCode, quantity, cardPayment, couponPayment, couponCode, status, reason);
+    }
+}
@@ -0,0 +1,13 @@
+package com.roopy.order.domain.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주문 ID로 주문 상태를 조회합니다. 결과는 {@code OrderView} (없으면 null) 입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FindOrderQuery {
+    private final String orderId;
+}
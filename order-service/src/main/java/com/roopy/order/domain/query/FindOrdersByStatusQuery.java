@@ -0,0 +1,15 @@
+package com.roopy.order.domain.query;
+
+import com.roopy.order.domain.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상태별 주문 목록을 조회합니다. 결과는 최대 {@code limit}건의 {@code OrderView} 목록이며, 순서는 보장하지 않습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class FindOrdersByStatusQuery {
+    private final OrderStatus status;
+    private final int limit;
+}
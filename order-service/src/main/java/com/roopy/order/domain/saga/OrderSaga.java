@@ -1,32 +1,61 @@
 package com.roopy.order.domain.saga;
 
+import com.roopy.order.config.OrderSagaProperties;
+import com.roopy.order.domain.command.CompleteOrderCommand;
+import com.roopy.order.domain.command.FailOrderCommand;
+import com.roopy.order.domain.command.StartOrderPaymentCommand;
+import com.roopy.order.domain.command.TimeOutOrderCommand;
+import com.roopy.order.domain.event.OrderCompletedEvent;
 import com.roopy.order.domain.event.OrderCreatedEvent;
+import com.roopy.order.domain.event.OrderFailedEvent;
+import com.roopy.order.domain.event.OrderReviewRequiredEvent;
+import com.roopy.order.domain.event.OrderTimedOutEvent;
 import com.roopy.order.port.out.card.CardPort;
 import com.roopy.order.port.out.coupon.CouponPort;
 import com.roopy.order.port.out.stock.StockPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.annotation.DeadlineHandler;
+import org.axonframework.modelling.saga.EndSaga;
 import org.axonframework.modelling.saga.SagaEventHandler;
 import org.axonframework.modelling.saga.StartSaga;
 import org.axonframework.spring.stereotype.Saga;
 
 import javax.inject.Inject;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * 주문 처리 SAGA 클래스입니다.
  *
  * <p>
- * 이 클래스는 주문 생성 이후 재고 차감, 쿠폰 적용, 카드 결제 등의 프로세스를 순차적으로 처리합니다.
- * 실패 시에는 보상 트랜잭션(재고 복원, 쿠폰 복원)을 수행합니다.
+ * 이 클래스는 주문 생성 이후 재고 차감, 쿠폰 적용, 카드 결제 등의 프로세스를 처리합니다.
+ * 서로 의존하지 않는 재고 차감과 쿠폰 적용은 동시에 수행하고, 둘 다 성공한 경우에만 카드 결제를 진행합니다.
+ * 외부 호출은 모두 비동기 포트로 이루어지며, 이벤트 처리 스레드는 응답을 기다리지 않습니다.
+ * 실패 시에는 보상 트랜잭션(재고 복원, 쿠폰 복원)을 동시에 수행합니다.
+ * 오류·시간 초과로 결과를 알 수 없는 단계도 반영되었을 수 있으므로 복원하며, 명확히 거절된 단계만 복원하지 않습니다.
  * <p>
  * <b>처리 흐름 요약:</b>
  * <ol>
  *     <li>OrderAggregate 내부에서 {@code apply(new OrderCreatedEvent(...))} 호출</li>
  *     <li>Axon이 {@code OrderCreatedEvent} 이벤트를 발행</li>
  *     <li>Axon이 해당 이벤트를 감지하여 이 SAGA의 {@code on(OrderCreatedEvent)} 메서드를 실행</li>
- *     <li>재고 차감 → 쿠폰 적용 → 카드 결제 순으로 처리</li>
- *     <li>중간 실패 시 보상 트랜잭션 수행</li>
+ *     <li>재고 차감 + 쿠폰 적용을 동시에 처리 → 결제 시작 기록({@code StartOrderPaymentCommand}) → 카드 결제 → 재고 확정</li>
+ *     <li>재고 확정은 결제 이후 단계이므로 실패해도 보상하지 않고 다시 시도합니다.</li>
+ *     <li>중간 실패 시 거절되지 않은 단계(성공·결과 불명)에 대해 보상 트랜잭션 수행</li>
+ *     <li>처리 결과를 {@code CompleteOrderCommand} / {@code FailOrderCommand}로 주문에 반영하고, 그 이벤트를 받아 SAGA 종료</li>
+ *     <li>처리 시간 데드라인까지 끝나지 않으면 {@code TimeOutOrderCommand}로 주문에 알리고, 주문이 정한 방향을 따름
+ *         <ul>
+ *             <li>결제 시작 전: 이후 결제 시작이 거절되며, 모든 단계를 결과 불명으로 보고 복원한 뒤 실패 반영</li>
+ *             <li>결제 시작 후: 결제 결과를 알 수 없으므로 보상하지 않고 수동 확인(REVIEW_REQUIRED) 대상으로 남긴 채 SAGA 종료</li>
+ *         </ul>
+ *     </li>
  * </ol>
  */
 @Saga
@@ -34,6 +63,18 @@ import javax.inject.Inject;
 @RequiredArgsConstructor
 public class OrderSaga {
 
+    private static final String ORDER_TIMEOUT = "orderTimeout";
+
+    /**
+     * 재고 확정 최대 시도 횟수
+     */
+    private static final int CONFIRM_ATTEMPTS = 3;
+
+    /**
+     * 재고 확정 재시도 간격 (시도할 때마다 이 값만큼 늘어남)
+     */
+    private static final long CONFIRM_RETRY_DELAY_MILLIS = 500;
+
     /**
      * 명령을 전송하기 위한 Axon Framework의 게이트웨이입니다.
      * 직렬화 대상에서 제외되며, 런타임에 주입됩니다.
@@ -59,8 +100,31 @@ public class OrderSaga {
     @Inject
     private transient CardPort cardPort;
 
+    /**
+     * 주문 처리 시간 데드라인을 관리합니다.
+     */
+    @Inject
+    private transient DeadlineManager deadlineManager;
+
+    @Inject
+    private transient OrderSagaProperties properties;
+
+    /**
+     * 처리 중인 주문 (데드라인 도달 시 보상 대상)
+     */
+    private OrderCreatedEvent order;
+
+    /**
+     * 주문 처리 시간 데드라인 ID (주문 완료·실패 시 취소)
+     */
+    private String deadlineId;
+
     /**
      * 주문 생성 이벤트를 수신하여 Saga 처리를 시작합니다.
+     * <p>
+     * 각 단계는 비동기 포트로 호출되며, 이 메서드는 첫 요청을 보낸 뒤 바로 반환합니다.
+     * 이후 단계는 앞 단계의 응답이 도착한 스레드에서 이어서 진행되므로,
+     * 이벤트 처리 스레드 하나가 여러 주문을 동시에 진행할 수 있습니다.
      *
      * @param event 주문 생성 이벤트
      */
@@ -69,74 +133,284 @@ public class OrderSaga {
     public void on(OrderCreatedEvent event) {
         log.info("[Saga:START] 주문 생성 이벤트 수신 - orderId={}", event.getOrderId());
 
-        // 1. 재고 차감 처리
-        if (!deductStock(event)) return;
+        this.order = event;
+        this.deadlineId = deadlineManager.schedule(properties.getTimeout(), ORDER_TIMEOUT);
 
-        // 2. 쿠폰 적용 처리
-        if (!applyCoupon(event)) {
-            rollbackStock(event);
-            return;
-        }
+        // 1. 재고 차감과 쿠폰 적용을 동시에 처리 (서로 의존하지 않음)
+        CompletableFuture<StepOutcome> stock = deductStock(event);
+        CompletableFuture<StepOutcome> coupon = applyCoupon(event);
 
-        // 3. 카드 결제 처리
-        if (!processCardPayment(event)) {
-            rollbackCoupon(event);
-            rollbackStock(event);
-            return;
-        }
+        stock.thenCombine(coupon, StepResults::new)
+                .thenCompose(steps -> {
+                    if (steps.stock() != StepOutcome.SUCCEEDED || steps.coupon() != StepOutcome.SUCCEEDED) {
+                        // 명확히 거절된 단계를 제외하고 복원
+                        return compensate(event, steps.stock(), steps.coupon())
+                                .thenRun(() -> failOrder(event, steps.stock() != StepOutcome.SUCCEEDED ? "Stock deduction failed" : "Coupon application failed"));
+                    }
 
-        log.info("[Saga:SUCCESS] 주문 처리 완료 - orderId={}", event.getOrderId());
+                    // 2. 결제 시작을 주문에 기록한 뒤 카드 결제 처리 (처리 시간이 지난 주문이면 기록이 거절되어 결제하지 않음)
+                    return startPayment(event).thenCompose(started -> {
+                        if (!started) {
+                            return compensate(event, StepOutcome.SUCCEEDED, StepOutcome.SUCCEEDED)
+                                    .thenRun(() -> failOrder(event, "Order processing timed out"));
+                        }
+                        return processCardPayment(event).thenCompose(payment -> {
+                            if (payment != StepOutcome.SUCCEEDED) {
+                                return compensate(event, StepOutcome.SUCCEEDED, StepOutcome.SUCCEEDED)
+                                        .thenRun(() -> failOrder(event, "Card payment failed"));
+                            }
+                            // 3. 예약된 재고 확정 (결제가 끝났으므로 확정 실패로 주문을 실패 처리하지 않음)
+                            return confirmStock(event, 1)
+                                    .thenRun(() -> {
+                                        log.info("[Saga:SUCCESS] 주문 처리 완료 - orderId={}", event.getOrderId());
+                                        commandGateway.send(new CompleteOrderCommand(event.getOrderId()));
+                                    });
+                        });
+                    });
+                })
+                .exceptionally(e -> {
+                    // 결제 이후 단계는 예외로 끝나지 않으므로, 여기서는 결제 전 단계의 결과를 알 수 없는 경우만 남음
+                    log.error("[Saga:FAIL] 주문 처리 중 오류 - orderId={}", event.getOrderId(), e);
+                    compensate(event, StepOutcome.UNKNOWN, StepOutcome.UNKNOWN)
+                            .thenRun(() -> failOrder(event, "Order processing error"));
+                    return null;
+                });
     }
 
     /**
-     * 재고 차감을 시도합니다.
+     * 주문 완료 이벤트를 수신하여 SAGA를 종료합니다.
      */
-    private boolean deductStock(OrderCreatedEvent event) {
+    @EndSaga
+    @SagaEventHandler(associationProperty = "orderId")
+    public void on(OrderCompletedEvent event) {
+        log.info("[Saga:END] 주문 완료 - orderId={}", event.getOrderId());
+        deadlineManager.cancelSchedule(ORDER_TIMEOUT, deadlineId);
+    }
+
+    /**
+     * 주문 실패 이벤트를 수신하여 SAGA를 종료합니다.
+     */
+    @EndSaga
+    @SagaEventHandler(associationProperty = "orderId")
+    public void on(OrderFailedEvent event) {
+        log.info("[Saga:END] 주문 실패 - orderId={}, reason={}", event.getOrderId(), event.getReason());
+        deadlineManager.cancelSchedule(ORDER_TIMEOUT, deadlineId);
+    }
+
+    /**
+     * 데드라인까지 주문이 끝나지 않으면 주문에 시간 초과를 알립니다.
+     * <p>
+     * 결제 시작 여부는 주문 애그리거트에 기록되어 있으므로, 보상할지 수동 확인으로 넘길지는 주문이 정하고
+     * 그 결과 이벤트({@link OrderTimedOutEvent} / {@link OrderReviewRequiredEvent})를 받아 처리합니다.
+     * 이미 끝난 주문이면 무시됩니다.
+     */
+    @DeadlineHandler(deadlineName = ORDER_TIMEOUT)
+    public void onOrderTimeout() {
+        log.warn("[Saga:TIMEOUT] 주문 처리 시간 초과 - orderId={}", order.getOrderId());
+        commandGateway.send(new TimeOutOrderCommand(order.getOrderId()));
+    }
+
+    /**
+     * 결제를 시작하기 전에 처리 시간이 초과된 주문입니다. 모든 단계를 결과 불명으로 보고 복원한 뒤 실패를 반영합니다.
+     * <p>
+     * 진행 중이던 단계의 응답이 늦게 도착해도 결제 시작이 거절되므로 카드 결제는 일어나지 않습니다.
+     * 실패가 반영되면 {@code OrderFailedEvent} 처리에서 SAGA를 종료합니다.
+     */
+    @SagaEventHandler(associationProperty = "orderId")
+    public void on(OrderTimedOutEvent event) {
+        log.warn("[Saga:TIMEOUT] 결제 시작 전 시간 초과 - orderId={}. 보상 후 실패 반영 중...", event.getOrderId());
+        compensate(order, StepOutcome.UNKNOWN, StepOutcome.UNKNOWN)
+                .thenRun(() -> failOrder(order, "Order processing timed out"));
+    }
+
+    /**
+     * 결제를 시작한 뒤 처리 시간이 초과된 주문입니다. 결제가 승인되었을 수 있으므로 보상하지 않고 SAGA를 종료합니다.
+     * <p>
+     * 결제 응답이 늦게 도착하면 진행 중이던 처리가 완료·실패(보상 포함)를 반영하고,
+     * 끝내 도착하지 않으면 주문은 REVIEW_REQUIRED 로 남아 수동 확인·환불 대상이 됩니다.
+     */
+    @EndSaga
+    @SagaEventHandler(associationProperty = "orderId")
+    public void on(OrderReviewRequiredEvent event) {
+        log.error("[Saga:REVIEW] 결제 시작 후 시간 초과 - 결제 결과 확인·환불이 필요합니다. orderId={}, reason={}",
+                event.getOrderId(), event.getReason());
+    }
+
+    /**
+     * 주문을 실패 상태로 바꿉니다. 보상 트랜잭션이 끝난 뒤 호출합니다.
+     */
+    private void failOrder(OrderCreatedEvent event, String reason) {
+        commandGateway.send(new FailOrderCommand(event.getOrderId(), reason));
+    }
+
+    /**
+     * 명확히 거절되지 않은 단계의 보상 트랜잭션을 동시에 수행합니다.
+     * 복원 API는 반영되지 않은 주문에도 안전하므로(404 는 정상 처리), 결과를 알 수 없는 단계도 복원합니다.
+     *
+     * @return 모든 보상 트랜잭션이 끝나면 완료되는 Future
+     */
+    private CompletableFuture<Void> compensate(OrderCreatedEvent event, StepOutcome stock, StepOutcome coupon) {
+        List<CompletableFuture<Void>> rollbacks = new ArrayList<>(2);
+        if (coupon.mayHaveApplied() && usesCoupon(event)) {
+            rollbacks.add(rollbackCoupon(event));
+        }
+        if (stock.mayHaveApplied()) {
+            rollbacks.add(rollbackStock(event));
+        }
+        return CompletableFuture.allOf(rollbacks.toArray(CompletableFuture[]::new))
+                .exceptionally(e -> {
+                    log.error("[Saga:ROLLBACK] 보상 트랜잭션 중 오류 - orderId={}", event.getOrderId(), e);
+                    return null;
+                });
+    }
+
+    /**
+     * 재고 차감을 시도합니다. 예외가 발생하면 결과 불명으로 처리합니다.
+     */
+    private CompletableFuture<StepOutcome> deductStock(OrderCreatedEvent event) {
         log.info("[Saga:STEP] 재고 차감 시도 - productCode={}, quantity={}", event.getProductCode(), event.getQuantity());
-        boolean result = stockPort.deductStock(event.getProductCode(), event.getQuantity());
-        if (!result) {
-            log.error("[Saga:FAIL] 재고 차감 실패 - orderId={}", event.getOrderId());
+        return step(() -> stockPort.deductStock(event.getOrderId(), event.getProductCode(), event.getQuantity()), "재고 차감", event);
+    }
+
+    /**
+     * 쿠폰을 적용합니다. 예외가 발생하면 결과 불명으로 처리합니다.
+     * 쿠폰 코드가 없거나 쿠폰 금액이 0이면 쿠폰 서비스를 호출하지 않고 성공으로 처리합니다.
+     */
+    private CompletableFuture<StepOutcome> applyCoupon(OrderCreatedEvent event) {
+        if (!usesCoupon(event)) {
+            return CompletableFuture.completedFuture(StepOutcome.SUCCEEDED);
         }
-        return result;
+        log.info("[Saga:STEP] 쿠폰 적용 시도 - orderId={}, couponCode={}, 금액={}", event.getOrderId(), event.getCouponCode(), event.getCouponPayment());
+        return step(() -> couponPort.applyCoupon(event.getOrderId(), event.getCouponCode(), event.getCouponPayment()), "쿠폰 적용", event);
+    }
+
+    private static boolean usesCoupon(OrderCreatedEvent event) {
+        return event.getCouponCode() != null && event.getCouponPayment() > 0;
     }
 
     /**
-     * 쿠폰을 적용합니다.
+     * 결제 시작을 주문에 기록합니다. 처리 시간이 지나 거절되거나 기록하지 못하면 결제를 시작하지 않습니다.
+     *
+     * @return 기록에 성공하면 true (예외로 완료되지 않음)
      */
-    private boolean applyCoupon(OrderCreatedEvent event) {
-        log.info("[Saga:STEP] 쿠폰 적용 시도 - orderId={}, 금액={}", event.getOrderId(), event.getCouponPayment());
-        boolean result = couponPort.applyCoupon(event.getOrderId(), event.getCouponPayment());
-        if (!result) {
-            log.error("[Saga:FAIL] 쿠폰 적용 실패 - orderId={}", event.getOrderId());
+    private CompletableFuture<Boolean> startPayment(OrderCreatedEvent event) {
+        CompletableFuture<Object> started;
+        try {
+            started = commandGateway.send(new StartOrderPaymentCommand(event.getOrderId()));
+        } catch (Exception e) {
+            started = CompletableFuture.failedFuture(e);
         }
-        return result;
+        return started.handle((ignored, e) -> {
+            if (e != null) {
+                log.warn("[Saga:FAIL] 결제 시작 거절 - 결제하지 않고 보상합니다. orderId={}, 원인={}", event.getOrderId(), e.getMessage());
+                return false;
+            }
+            return true;
+        });
     }
 
     /**
-     * 카드 결제를 처리합니다.
+     * 카드 결제를 처리합니다. 예외가 발생하면 결과 불명으로 처리합니다.
      */
-    private boolean processCardPayment(OrderCreatedEvent event) {
+    private CompletableFuture<StepOutcome> processCardPayment(OrderCreatedEvent event) {
         log.info("[Saga:STEP] 카드 결제 시도 - orderId={}, 금액={}", event.getOrderId(), event.getCardPayment());
-        boolean result = cardPort.processPayment(event.getOrderId(), event.getCardPayment());
-        if (!result) {
-            log.error("[Saga:FAIL] 카드 결제 실패 - orderId={}", event.getOrderId());
+        return step(() -> cardPort.processPayment(event.getOrderId(), event.getCardPayment()), "카드 결제", event);
+    }
+
+    /**
+     * 결제가 끝난 주문의 재고 예약을 확정합니다.
+     * <p>
+     * 확정은 같은 주문으로 여러 번 요청해도 안전하므로 실패하면 간격을 늘려 다시 시도합니다.
+     * 끝내 실패해도 재고는 예약 시점에 이미 차감되어 있으므로 주문은 완료 처리하고, 남은 예약은 오류 로그로 알립니다.
+     *
+     * @return 확정에 성공했거나 재시도를 모두 소진하면 완료되는 Future (예외로 완료되지 않음)
+     */
+    private CompletableFuture<Void> confirmStock(OrderCreatedEvent event, int attempt) {
+        CompletableFuture<Void> confirm;
+        try {
+            confirm = stockPort.confirmStock(event.getOrderId());
+        } catch (Exception e) {
+            confirm = CompletableFuture.failedFuture(e);
         }
-        return result;
+        return confirm.handle((ignored, e) -> e).thenCompose(e -> {
+            if (e == null) {
+                return CompletableFuture.completedFuture(null);
+            }
+            if (attempt >= CONFIRM_ATTEMPTS) {
+                log.error("[Saga:FAIL] 재고 확정 실패 - 결제가 완료되어 주문은 완료 처리하며, 예약은 수동 확정이 필요합니다. orderId={}",
+                        event.getOrderId(), e);
+                return CompletableFuture.completedFuture(null);
+            }
+            log.warn("[Saga:RETRY] 재고 확정 재시도 ({}/{}) - orderId={}", attempt, CONFIRM_ATTEMPTS, event.getOrderId(), e);
+            Executor delayed = CompletableFuture.delayedExecutor(CONFIRM_RETRY_DELAY_MILLIS * attempt, TimeUnit.MILLISECONDS);
+            return CompletableFuture.runAsync(() -> { }, delayed).thenCompose(next -> confirmStock(event, attempt + 1));
+        });
     }
 
     /**
      * 재고 보상 처리 (재고 복원)
      */
-    private void rollbackStock(OrderCreatedEvent event) {
+    private CompletableFuture<Void> rollbackStock(OrderCreatedEvent event) {
         log.warn("[Saga:ROLLBACK] 재고 복원 수행 - orderId={}, quantity={}", event.getOrderId(), event.getQuantity());
-        stockPort.cancelStock(event.getOrderId());
+        return stockPort.cancelStock(event.getOrderId());
     }
 
     /**
      * 쿠폰 보상 처리 (쿠폰 복원)
      */
-    private void rollbackCoupon(OrderCreatedEvent event) {
+    private CompletableFuture<Void> rollbackCoupon(OrderCreatedEvent event) {
         log.warn("[Saga:ROLLBACK] 쿠폰 복원 수행 - orderId={}, paymentAmt={}", event.getOrderId(), event.getCouponPayment());
-        couponPort.cancelCoupon(event.getOrderId());
+        return couponPort.cancelCoupon(event.getOrderId());
+    }
+
+    /**
+     * 포트 호출 결과를 받아 실패·예외를 로그로 남기고, 성공·거절·결과 불명으로 정규화합니다.
+     */
+    private CompletableFuture<StepOutcome> step(Supplier<CompletableFuture<Boolean>> call, String name, OrderCreatedEvent event) {
+        CompletableFuture<Boolean> result;
+        try {
+            result = call.get();
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        return result.handle((success, e) -> {
+            if (e != null) {
+                log.error("[Saga:FAIL] {} 중 오류 - orderId={}", name, event.getOrderId(), e);
+                return StepOutcome.UNKNOWN;
+            }
+            if (!Boolean.TRUE.equals(success)) {
+                log.error("[Saga:FAIL] {} 실패 - orderId={}", name, event.getOrderId());
+                return StepOutcome.REJECTED;
+            }
+            return StepOutcome.SUCCEEDED;
+        });
+    }
+
+    /**
+     * 단계 처리 결과
+     */
+    private enum StepOutcome {
+        /**
+         * 반영됨
+         */
+        SUCCEEDED,
+        /**
+         * 상대 서비스가 명확히 거절함 (재고 부족, 쿠폰 소진 등) - 반영되지 않음
+         */
+        REJECTED,
+        /**
+         * 오류·시간 초과로 반영 여부를 알 수 없음
+         */
+        UNKNOWN;
+
+        boolean mayHaveApplied() {
+            return this != REJECTED;
+        }
+    }
+
+    /**
+     * 동시에 수행한 재고 차감·쿠폰 적용 결과
+     */
+    private record StepResults(StepOutcome stock, StepOutcome coupon) {
     }
 }
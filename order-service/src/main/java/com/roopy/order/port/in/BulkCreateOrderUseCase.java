@@ -0,0 +1,19 @@
+package com.roopy.order.port.in;
+
+import com.roopy.order.domain.command.CreateOrderCommand;
+import com.roopy.order.domain.model.BulkOrderResult;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface BulkCreateOrderUseCase {
+
+    /**
+     * 주문을 차례로 읽어 묶음 단위로 생성 커맨드를 보냅니다.
+     *
+     * @param orders  주문 목록 (필요할 때마다 읽으며, 읽기 오류는 그대로 전파)
+     * @param results 처리 결과를 입력 순서대로 묶음 단위로 전달받는 콜백
+     */
+    void createOrders(Iterator<CreateOrderCommand> orders, Consumer<List<BulkOrderResult>> results);
+}
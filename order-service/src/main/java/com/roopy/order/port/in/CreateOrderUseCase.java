@@ -1,7 +1,18 @@
 package com.roopy.order.port.in;
 
 import com.roopy.order.domain.command.CreateOrderCommand;
+import com.roopy.order.domain.model.CreateOrderResult;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface CreateOrderUseCase {
-    void createOrder(CreateOrderCommand command);
+
+    /**
+     * 주문 생성 커맨드를 보냅니다.
+     *
+     * @param idempotencyKey 중복 요청 방지 키 (없으면 null). 같은 키의 재요청은 커맨드를 보내지 않고 처음 요청의 결과를 돌려받음
+     * @return 발급된 주문 ID와 접수 결과 (처리 중인 커맨드가 한도에 도달하면 {@code CommandRejectedException},
+     * 같은 키로 내용이 다른 요청이면 {@code IdempotencyKeyMismatchException}으로 실패)
+     */
+    CompletableFuture<CreateOrderResult> createOrder(CreateOrderCommand command, String idempotencyKey);
 }
@@ -0,0 +1,24 @@
+package com.roopy.order.port.in;
+
+import com.roopy.order.domain.model.OrderStatus;
+import com.roopy.order.domain.model.OrderView;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderQueryUseCase {
+
+    /**
+     * 주문 상태를 조회합니다.
+     *
+     * @return 주문 상태 (보관 중인 주문이 아니면 empty)
+     */
+    Optional<OrderView> findOrder(String orderId);
+
+    /**
+     * 상태별 주문 목록을 조회합니다. 순서는 보장하지 않습니다.
+     *
+     * @param limit 최대 건수
+     */
+    List<OrderView> findOrders(OrderStatus status, int limit);
+}
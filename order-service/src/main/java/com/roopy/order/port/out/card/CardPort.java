@@ -1,5 +1,12 @@
 package com.roopy.order.port.out.card;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface CardPort {
-    boolean processPayment(String orderId, int paymentAmt);
+    /**
+     * 카드 결제를 요청합니다. 호출 스레드는 응답을 기다리지 않습니다.
+     *
+     * @return 결제 성공 여부 (통신 오류는 false로 완료)
+     */
+    CompletableFuture<Boolean> processPayment(String orderId, int paymentAmt);
 }
@@ -1,7 +1,14 @@
 package com.roopy.order.port.out.coupon;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface CouponPort {
-    boolean applyCoupon(String orderId, double price);
+    /**
+     * 주문에 쿠폰을 적용합니다. 같은 주문 ID로 다시 요청해도 한 번만 사용 처리됩니다.
+     *
+     * @return 적용 성공 여부 (등록되지 않은 쿠폰·소진은 false, 통신 오류처럼 적용 여부를 알 수 없으면 예외로 완료)
+     */
+    CompletableFuture<Boolean> applyCoupon(String orderId, String couponCode, double price);
 
-    void cancelCoupon(String orderId);
+    CompletableFuture<Void> cancelCoupon(String orderId);
 }
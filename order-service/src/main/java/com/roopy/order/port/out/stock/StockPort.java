@@ -1,7 +1,22 @@
 package com.roopy.order.port.out.stock;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface StockPort {
-    boolean deductStock(String product, int quantity);
+    /**
+     * 주문에 대한 재고를 예약(차감)합니다. 같은 주문 ID로 다시 요청해도 한 번만 차감됩니다.
+     *
+     * @return 예약 성공 여부 (재고 부족은 false, 통신 오류처럼 예약 여부를 알 수 없으면 예외로 완료)
+     */
+    CompletableFuture<Boolean> deductStock(String orderId, String product, int quantity);
+
+    /**
+     * 주문이 완료되어 예약된 재고를 확정합니다.
+     */
+    CompletableFuture<Void> confirmStock(String orderId);
 
-    void cancelStock(String orderId);
+    /**
+     * 예약된 재고를 취소하고 복원합니다.
+     */
+    CompletableFuture<Void> cancelStock(String orderId);
 }
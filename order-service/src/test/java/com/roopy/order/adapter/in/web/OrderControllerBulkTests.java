@@ -0,0 +1,139 @@
+package com.roopy.order.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roopy.order.application.service.BulkCreateOrderService;
+import com.roopy.order.application.service.CommandAdmission;
+import com.roopy.order.application.service.CreateOrderService;
+import com.roopy.order.application.service.IdempotencyCache;
+import com.roopy.order.application.service.OrderProjection;
+import com.roopy.order.application.service.OrderViewStore;
+import com.roopy.order.config.BulkOrderProperties;
+import com.roopy.order.config.CommandAdmissionProperties;
+import com.roopy.order.config.IdempotencyProperties;
+import com.roopy.order.config.OrderProjectionProperties;
+import com.roopy.order.domain.command.CreateOrderCommand;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class OrderControllerBulkTests {
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private final CommandGateway commandGateway = mock(CommandGateway.class);
+
+	private final BulkOrderProperties bulkProperties = new BulkOrderProperties();
+
+	OrderControllerBulkTests() {
+		bulkProperties.setBatchSize(2);
+		bulkProperties.setAdmissionWait(Duration.ofMillis(50));
+	}
+
+	@Test
+	void streamsResultPerOrderFromNdjson() throws Exception {
+		List<CreateOrderCommand> sent = new ArrayList<>();
+		when(commandGateway.send(any())).thenAnswer(invocation -> {
+			CreateOrderCommand command = invocation.getArgument(0);
+			sent.add(command);
+			// 두 번째 주문은 커맨드 처리 실패
+			return sent.size() == 2
+					? CompletableFuture.failedFuture(new IllegalStateException("duplicate"))
+					: CompletableFuture.completedFuture(command.getOrderId());
+		});
+
+		String body = """
+				{"productCode":"P-1","quantity":1,"cardPayment":1000,"couponPayment":0}
+				{"productCode":"P-2","quantity":2,"cardPayment":2000,"couponPayment":0}
+
+				{"productCode":"P-3","quantity":3,"cardPayment":3000,"couponPayment":500,"couponCode":"C-1"}
+				""";
+
+		List<JsonNode> results = bulk(body, MediaType.APPLICATION_NDJSON);
+
+		assertThat(results).extracting(node -> node.get("status").asText()).containsExactly("CREATED", "FAILED", "CREATED");
+		assertThat(results).extracting(node -> node.get("index").asInt()).containsExactly(0, 1, 2);
+		assertThat(results).extracting(node -> node.get("orderId").asText())
+				.containsExactlyElementsOf(sent.stream().map(CreateOrderCommand::getOrderId).toList());
+		assertThat(sent.get(2).getCouponCode()).isEqualTo("C-1");
+	}
+
+	@Test
+	void readsJsonArrayAndRejectsWhenNoSlotFrees() throws Exception {
+		// 커맨드가 끝나지 않으면 처리 중인 커맨드 한도(3)를 넘는 주문은 슬롯을 기다리다 거절
+		when(commandGateway.send(any())).thenReturn(new CompletableFuture<>());
+
+		StringBuilder body = new StringBuilder("[");
+		for (int i = 0; i < 4; i++) {
+			body.append(i == 0 ? "" : ",").append("{\"productCode\":\"P-").append(i).append("\",\"quantity\":1,\"cardPayment\":100}");
+		}
+		body.append("]");
+
+		bulkProperties.setResultTimeout(Duration.ofMillis(10));
+
+		List<JsonNode> results = bulk(body.toString(), MediaType.APPLICATION_JSON);
+
+		assertThat(results).extracting(node -> node.get("status").asText()).containsExactly("TIMEOUT", "TIMEOUT", "TIMEOUT", "REJECTED");
+	}
+
+	@Test
+	void reportsInvalidBodyAfterAcceptedOrders() throws Exception {
+		when(commandGateway.send(any())).thenReturn(CompletableFuture.completedFuture("ok"));
+
+		String body = """
+				{"productCode":"P-1","quantity":1,"cardPayment":1000}
+				{"productCode":"P-2","quantity":
+				""";
+
+		List<JsonNode> results = bulk(body, MediaType.APPLICATION_NDJSON);
+
+		assertThat(results).extracting(node -> node.get("status").asText()).containsExactly("CREATED", "INVALID");
+		assertThat(results.get(1).get("index").asInt()).isEqualTo(1);
+	}
+
+	private List<JsonNode> bulk(String body, MediaType contentType) throws Exception {
+		CommandAdmissionProperties admissionProperties = new CommandAdmissionProperties();
+		admissionProperties.setMaxInFlight(3);
+		CommandAdmission admission = new CommandAdmission(commandGateway, admissionProperties);
+		IdempotencyProperties idempotencyProperties = new IdempotencyProperties();
+		MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new OrderController(
+				new CreateOrderService(admission, new IdempotencyCache(idempotencyProperties)),
+				new BulkCreateOrderService(admission, bulkProperties), objectMapper, idempotencyProperties,
+				new OrderProjection(new OrderViewStore(new OrderProjectionProperties())), bulkProperties)).build();
+
+		MvcResult started = mockMvc.perform(post("/orders/bulk").contentType(contentType).content(body))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		// 결과 스트림에는 전역 비동기 제한 시간 대신 대량 주문 전용 제한 시간이 적용됨
+		assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(bulkProperties.getStreamTimeout().toMillis());
+		// 제한 시간이 0 이면 asyncDispatch 가 결과를 기다리지 않으므로 먼저 완료를 기다림
+		started.getAsyncResult(5_000);
+		String response = mockMvc.perform(asyncDispatch(started))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		List<JsonNode> results = new ArrayList<>();
+		for (String line : response.split("\n")) {
+			results.add(objectMapper.readTree(line));
+		}
+		return results;
+	}
+}
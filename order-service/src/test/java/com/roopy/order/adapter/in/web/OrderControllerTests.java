@@ -0,0 +1,100 @@
+package com.roopy.order.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roopy.order.application.service.BulkCreateOrderService;
+import com.roopy.order.application.service.CommandAdmission;
+import com.roopy.order.application.service.CreateOrderService;
+import com.roopy.order.application.service.IdempotencyCache;
+import com.roopy.order.application.service.OrderProjection;
+import com.roopy.order.application.service.OrderViewStore;
+import com.roopy.order.config.BulkOrderProperties;
+import com.roopy.order.config.CommandAdmissionProperties;
+import com.roopy.order.config.IdempotencyProperties;
+import com.roopy.order.config.OrderProjectionProperties;
+import com.roopy.order.domain.command.CreateOrderCommand;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class OrderControllerTests {
+
+	private static final String ORDER = """
+			{"productCode":"P-1","quantity":1,"cardPayment":1000,"couponPayment":0}""";
+
+	private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private final CommandGateway commandGateway = mock(CommandGateway.class);
+
+	private final MockMvc mockMvc;
+
+	OrderControllerTests() {
+		CommandAdmission admission = new CommandAdmission(commandGateway, new CommandAdmissionProperties());
+		IdempotencyProperties idempotencyProperties = new IdempotencyProperties();
+		BulkOrderProperties bulkProperties = new BulkOrderProperties();
+		mockMvc = MockMvcBuilders.standaloneSetup(new OrderController(
+				new CreateOrderService(admission, new IdempotencyCache(idempotencyProperties)),
+				new BulkCreateOrderService(admission, bulkProperties), objectMapper, idempotencyProperties,
+				new OrderProjection(new OrderViewStore(new OrderProjectionProperties())), bulkProperties)).build();
+	}
+
+	@Test
+	void returnsIssuedOrderIdAndReplaysItForSameKey() throws Exception {
+		List<CreateOrderCommand> sent = new ArrayList<>();
+		when(commandGateway.send(any())).thenAnswer(invocation -> {
+			CreateOrderCommand command = invocation.getArgument(0);
+			sent.add(command);
+			return CompletableFuture.completedFuture(command.getOrderId());
+		});
+
+		MockHttpServletResponse first = create(ORDER, "key-1");
+		String orderId = sent.get(0).getOrderId();
+		assertThat(first.getStatus()).isEqualTo(202);
+		assertThat(first.getHeader(HttpHeaders.LOCATION)).isEqualTo("/orders/" + orderId);
+		assertThat(orderIdOf(first)).isEqualTo(orderId);
+
+		// 같은 키의 재요청은 커맨드를 보내지 않고 처음 발급한 주문 ID를 돌려줌
+		MockHttpServletResponse replay = create(ORDER, "key-1");
+		assertThat(replay.getStatus()).isEqualTo(202);
+		assertThat(replay.getHeader(HttpHeaders.LOCATION)).isEqualTo("/orders/" + orderId);
+		assertThat(orderIdOf(replay)).isEqualTo(orderId);
+		assertThat(sent).hasSize(1);
+
+		// 같은 키로 내용이 다른 요청은 거절
+		MockHttpServletResponse mismatch = create(ORDER.replace("\"quantity\":1", "\"quantity\":2"), "key-1");
+		assertThat(mismatch.getStatus()).isEqualTo(422);
+		assertThat(sent).hasSize(1);
+	}
+
+	private MockHttpServletResponse create(String body, String idempotencyKey) throws Exception {
+		MvcResult started = mockMvc.perform(post("/orders").contentType(MediaType.APPLICATION_JSON).content(body)
+						.header("Idempotency-Key", idempotencyKey))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		started.getAsyncResult(5_000);
+		return mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+	}
+
+	private String orderIdOf(MockHttpServletResponse response) throws Exception {
+		JsonNode body = objectMapper.readTree(response.getContentAsString());
+		return body.get("orderId").asText();
+	}
+}
@@ -0,0 +1,65 @@
+package com.roopy.order.application.service;
+
+import com.roopy.order.application.exception.CommandRejectedException;
+import com.roopy.order.config.CommandAdmissionProperties;
+import com.roopy.order.domain.model.CommandOutcome;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CommandAdmissionTests {
+
+	private final CommandGateway commandGateway = mock(CommandGateway.class);
+
+	@Test
+	void rejectsWhenWindowIsFullAndReleasesOnCompletion() {
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		when(commandGateway.send(any())).thenReturn(pending);
+		CommandAdmission admission = new CommandAdmission(commandGateway, properties(CommandAdmissionProperties.Mode.ASYNC));
+
+		assertThat(admission.dispatch("first").join()).isEqualTo(CommandOutcome.ACCEPTED);
+		assertThat(admission.dispatch("second").join()).isEqualTo(CommandOutcome.ACCEPTED);
+		assertThat(admission.inFlight()).isEqualTo(2);
+
+		// 슬롯이 없으면 커맨드를 보내지 않고 즉시 거절
+		assertThat(admission.dispatch("third")).isCompletedExceptionally();
+		assertThat(admission.dispatch("third").handle((r, ex) -> ex).join()).isInstanceOf(CommandRejectedException.class);
+
+		// 응답 여부와 무관하게 커맨드 처리가 끝나야 슬롯 반환
+		pending.complete("done");
+		assertThat(admission.inFlight()).isZero();
+		assertThat(admission.dispatch("fourth").join()).isEqualTo(CommandOutcome.ACCEPTED);
+	}
+
+	@Test
+	void syncModeWaitsForResultWithTimeout() {
+		CompletableFuture<Object> pending = new CompletableFuture<>();
+		when(commandGateway.send(any()))
+				.thenReturn(CompletableFuture.completedFuture("done"))
+				.thenReturn(pending);
+		CommandAdmission admission = new CommandAdmission(commandGateway, properties(CommandAdmissionProperties.Mode.SYNC));
+
+		assertThat(admission.dispatch("completed").join()).isEqualTo(CommandOutcome.COMPLETED);
+
+		Throwable timeout = admission.dispatch("slow").handle((r, ex) -> ex).join();
+		assertThat(timeout).isInstanceOf(TimeoutException.class);
+		// 시간 초과 후에도 커맨드가 끝나기 전까지는 슬롯을 차지
+		assertThat(admission.inFlight()).isEqualTo(1);
+	}
+
+	private static CommandAdmissionProperties properties(CommandAdmissionProperties.Mode mode) {
+		CommandAdmissionProperties properties = new CommandAdmissionProperties();
+		properties.setMaxInFlight(2);
+		properties.setMode(mode);
+		properties.setTimeout(Duration.ofMillis(100));
+		return properties;
+	}
+}
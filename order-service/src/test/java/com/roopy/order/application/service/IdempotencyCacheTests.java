@@ -0,0 +1,66 @@
+package com.roopy.order.application.service;
+
+import com.roopy.order.application.exception.IdempotencyKeyMismatchException;
+import com.roopy.order.config.IdempotencyProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyCacheTests {
+
+	private static final String HASH = IdempotencyCache.requestHash("P-0001", 2, 13_000, 0, null);
+
+	private final IdempotencyCache cache = new IdempotencyCache(new IdempotencyProperties());
+
+	@Test
+	void repeatedKeyReturnsFirstResultWithoutRunningAgain() {
+		AtomicInteger calls = new AtomicInteger();
+		CompletableFuture<String> pending = new CompletableFuture<>();
+
+		CompletableFuture<String> first = cache.computeIfAbsent("key-1", HASH, () -> {
+			calls.incrementAndGet();
+			return pending;
+		});
+		// 처리 중인 요청에 합류
+		CompletableFuture<String> retry = cache.computeIfAbsent("key-1", HASH, () -> {
+			calls.incrementAndGet();
+			return CompletableFuture.completedFuture("second");
+		});
+
+		pending.complete("first");
+		assertThat(retry.join()).isEqualTo("first");
+		assertThat(cache.computeIfAbsent("key-1", HASH, () -> CompletableFuture.completedFuture("third")).join()).isEqualTo("first");
+		assertThat(first).isSameAs(retry);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void failedResultIsNotKept() {
+		CompletableFuture<String> failed = cache.computeIfAbsent("key-2", HASH,
+				() -> CompletableFuture.failedFuture(new IllegalStateException("rejected")));
+		assertThat(failed).isCompletedExceptionally();
+
+		assertThat(cache.computeIfAbsent("key-2", HASH, () -> CompletableFuture.completedFuture("retried")).join()).isEqualTo("retried");
+	}
+
+	@Test
+	void sameKeyWithDifferentRequestIsRejected() {
+		cache.computeIfAbsent("key-3", HASH, () -> CompletableFuture.completedFuture("first"));
+
+		String other = IdempotencyCache.requestHash("P-0001", 3, 13_000, 0, null);
+		assertThat(other).isNotEqualTo(HASH);
+		assertThatThrownBy(() -> cache.computeIfAbsent("key-3", other, () -> CompletableFuture.completedFuture("second")).join())
+				.hasCauseInstanceOf(IdempotencyKeyMismatchException.class);
+		assertThat(cache.computeIfAbsent("key-3", HASH, () -> CompletableFuture.completedFuture("third")).join()).isEqualTo("first");
+	}
+
+	@Test
+	void requestHashSeparatesValueBoundaries() {
+		assertThat(IdempotencyCache.requestHash("ab", "c")).isNotEqualTo(IdempotencyCache.requestHash("a", "bc"));
+		assertThat(IdempotencyCache.requestHash("null")).isNotEqualTo(IdempotencyCache.requestHash((Object) null));
+	}
+}
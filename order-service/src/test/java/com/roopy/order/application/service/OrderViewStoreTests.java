@@ -0,0 +1,70 @@
+package com.roopy.order.application.service;
+
+import com.roopy.order.config.OrderProjectionProperties;
+import com.roopy.order.domain.model.OrderStatus;
+import com.roopy.order.domain.model.OrderView;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderViewStoreTests {
+
+	@Test
+	void indexesByStatusAndTracksEstimatedBytes() {
+		OrderViewStore store = store(10);
+		store.put(pending("order-1"));
+		store.put(pending("order-2"));
+
+		assertThat(store.update("order-1", view -> view.withStatus(OrderStatus.FAILED, "Card payment failed"))).isTrue();
+		assertThat(store.update("unknown", view -> view.withStatus(OrderStatus.COMPLETED, null))).isFalse();
+
+		assertThat(store.find("order-1")).get().extracting(OrderView::status, OrderView::reason)
+				.containsExactly(OrderStatus.FAILED, "Card payment failed");
+		assertThat(store.findByStatus(OrderStatus.PENDING, 10)).extracting(OrderView::orderId).containsExactly("order-2");
+		assertThat(store.findByStatus(OrderStatus.FAILED, 10)).extracting(OrderView::orderId).containsExactly("order-1");
+		assertThat(store.estimatedBytes()).isEqualTo(
+				OrderViewStore.estimateBytes(store.find("order-1").orElseThrow()) + OrderViewStore.estimateBytes(pending("order-2")));
+
+		store.clear();
+		assertThat(store.size()).isZero();
+		assertThat(store.estimatedBytes()).isZero();
+		assertThat(store.findByStatus(OrderStatus.FAILED, 10)).isEmpty();
+	}
+
+	@Test
+	void evictsOldestFinishedOrdersFirst() {
+		OrderViewStore store = store(3);
+		store.put(pending("order-1"));
+		store.put(pending("order-2"));
+		store.put(pending("order-3"));
+		store.update("order-2", view -> view.withStatus(OrderStatus.COMPLETED, null));
+		store.update("order-1", view -> view.withStatus(OrderStatus.COMPLETED, null));
+
+		// 한도 초과 시 먼저 끝난 order-2부터 제거
+		store.put(pending("order-4"));
+		assertThat(store.size()).isEqualTo(3);
+		assertThat(store.find("order-2")).isEmpty();
+		assertThat(store.find("order-1")).isPresent();
+
+		// 처리가 끝난 주문이 없으면 처리 중인 주문을 들어온 순서대로 제거
+		store.put(pending("order-5"));
+		store.put(pending("order-6"));
+		assertThat(store.find("order-1")).isEmpty();
+		assertThat(store.find("order-3")).isEmpty();
+		assertThat(store.size()).isEqualTo(3);
+		assertThat(store.findByStatus(OrderStatus.PENDING, 10)).extracting(OrderView::orderId)
+				.containsExactlyInAnyOrder("order-4", "order-5", "order-6");
+		assertThat(store.findByStatus(OrderStatus.COMPLETED, 10)).isEmpty();
+		assertThat(store.estimatedBytes()).isEqualTo(3 * OrderViewStore.estimateBytes(pending("order-4")));
+	}
+
+	private static OrderViewStore store(int maxEntries) {
+		OrderProjectionProperties properties = new OrderProjectionProperties();
+		properties.setMaxEntries(maxEntries);
+		return new OrderViewStore(properties);
+	}
+
+	private static OrderView pending(String orderId) {
+		return new OrderView(orderId, "P-0001", 1, 1000, 0, null, OrderStatus.PENDING, null);
+	}
+}
@@ -0,0 +1,62 @@
+package com.roopy.order.config;
+
+import com.roopy.order.domain.event.OrderCreatedEvent;
+import org.axonframework.serialization.AnnotationRevisionResolver;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CBOR 이벤트 직렬화기의 호환성과 기존 Jackson(JSON) 대비 크기를 확인합니다.
+ * 직렬화·역직렬화 시간은 {@link CompactEventSerializerBenchmark}로 측정합니다.
+ */
+class CompactEventSerializerTests {
+
+	private static final OrderCreatedEvent EVENT =
+			new OrderCreatedEvent("ORD-20250101-000123", "P-0001", 2, 13_000, 2_000, "WELCOME-2025");
+
+	private final CompactEventSerializer compact =
+			CompactSerializerConfig.compactSerializer(Jackson2ObjectMapperBuilder::json, new AnnotationRevisionResolver());
+
+	private final JacksonSerializer json = JacksonSerializer.builder()
+			.objectMapper(Jackson2ObjectMapperBuilder.json().build())
+			.build();
+
+	@Test
+	void roundTripsEventsInCbor() {
+		SerializedObject<byte[]> serialized = compact.serialize(EVENT, byte[].class);
+
+		assertThat(CompactEventSerializer.isJson(serialized.getData())).isFalse();
+		assertEvent(compact.deserialize(serialized));
+	}
+
+	@Test
+	void readsEventsStoredAsJson() {
+		SerializedObject<byte[]> stored = json.serialize(EVENT, byte[].class);
+
+		assertThat(CompactEventSerializer.isJson(stored.getData())).isTrue();
+		assertEvent(compact.deserialize(stored));
+	}
+
+	@Test
+	void cborIsSmallerThanJson() {
+		int jsonBytes = json.serialize(EVENT, byte[].class).getData().length;
+		int cborBytes = compact.serialize(EVENT, byte[].class).getData().length;
+
+		assertThat(cborBytes).as("json=%d B, cbor=%d B", jsonBytes, cborBytes).isLessThan(jsonBytes);
+	}
+
+	private static void assertEvent(Object deserialized) {
+		assertThat(deserialized).isInstanceOf(OrderCreatedEvent.class);
+		OrderCreatedEvent event = (OrderCreatedEvent) deserialized;
+		assertThat(event.getOrderId()).isEqualTo(EVENT.getOrderId());
+		assertThat(event.getProductCode()).isEqualTo(EVENT.getProductCode());
+		assertThat(event.getQuantity()).isEqualTo(EVENT.getQuantity());
+		assertThat(event.getCardPayment()).isEqualTo(EVENT.getCardPayment());
+		assertThat(event.getCouponPayment()).isEqualTo(EVENT.getCouponPayment());
+		assertThat(event.getCouponCode()).isEqualTo(EVENT.getCouponCode());
+	}
+}
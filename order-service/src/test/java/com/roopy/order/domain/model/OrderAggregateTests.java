@@ -0,0 +1,73 @@
+package com.roopy.order.domain.model;
+
+import com.roopy.order.domain.command.CompleteOrderCommand;
+import com.roopy.order.domain.command.StartOrderPaymentCommand;
+import com.roopy.order.domain.command.TimeOutOrderCommand;
+import com.roopy.order.domain.event.OrderCompletedEvent;
+import com.roopy.order.domain.event.OrderCreatedEvent;
+import com.roopy.order.domain.event.OrderFailedEvent;
+import com.roopy.order.domain.event.OrderPaymentStartedEvent;
+import com.roopy.order.domain.event.OrderReviewRequiredEvent;
+import com.roopy.order.domain.event.OrderTimedOutEvent;
+import org.axonframework.test.aggregate.AggregateTestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결제 시작과 처리 시간 초과가 경합해도 먼저 반영된 쪽이 처리 방향을 정하는지 검증합니다.
+ */
+class OrderAggregateTests {
+
+	private static final String ORDER_ID = "ORD-1";
+
+	private static final OrderCreatedEvent CREATED = new OrderCreatedEvent(ORDER_ID, "P-1", 2, 9000, 1000, "WELCOME");
+
+	private AggregateTestFixture<OrderAggregate> fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new AggregateTestFixture<>(OrderAggregate.class);
+	}
+
+	@Test
+	void timeoutBeforePaymentMarksOrderForCompensation() {
+		fixture.given(CREATED)
+				.when(new TimeOutOrderCommand(ORDER_ID))
+				.expectEvents(new OrderTimedOutEvent(ORDER_ID));
+	}
+
+	@Test
+	void paymentCannotStartAfterTimeout() {
+		fixture.given(CREATED, new OrderTimedOutEvent(ORDER_ID))
+				.when(new StartOrderPaymentCommand(ORDER_ID))
+				.expectException(IllegalStateException.class)
+				.expectNoEvents();
+	}
+
+	@Test
+	void timeoutAfterPaymentStartedRequiresReview() {
+		fixture.given(CREATED, new OrderPaymentStartedEvent(ORDER_ID))
+				.when(new TimeOutOrderCommand(ORDER_ID))
+				.expectEvents(new OrderReviewRequiredEvent(ORDER_ID, "Order processing timed out after payment started"))
+				.expectState(order -> assertThat(order).extracting("status")
+						.isEqualTo(OrderStatus.REVIEW_REQUIRED));
+	}
+
+	@Test
+	void lateResultCompletesOrderUnderReview() {
+		fixture.given(CREATED, new OrderPaymentStartedEvent(ORDER_ID),
+						new OrderReviewRequiredEvent(ORDER_ID, "timed out"))
+				.when(new CompleteOrderCommand(ORDER_ID))
+				.expectEvents(new OrderCompletedEvent(ORDER_ID));
+	}
+
+	@Test
+	void timeoutOfFinishedOrderIsIgnored() {
+		fixture.given(CREATED, new OrderFailedEvent(ORDER_ID, "Stock deduction failed"))
+				.when(new TimeOutOrderCommand(ORDER_ID))
+				.expectSuccessfulHandlerExecution()
+				.expectNoEvents();
+	}
+}
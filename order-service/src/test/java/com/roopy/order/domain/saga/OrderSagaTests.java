@@ -0,0 +1,184 @@
+package com.roopy.order.domain.saga;
+
+import com.roopy.order.config.OrderSagaProperties;
+import com.roopy.order.domain.command.CompleteOrderCommand;
+import com.roopy.order.domain.command.FailOrderCommand;
+import com.roopy.order.domain.command.StartOrderPaymentCommand;
+import com.roopy.order.domain.command.TimeOutOrderCommand;
+import com.roopy.order.domain.event.OrderCompletedEvent;
+import com.roopy.order.domain.event.OrderCreatedEvent;
+import com.roopy.order.domain.event.OrderReviewRequiredEvent;
+import com.roopy.order.domain.event.OrderTimedOutEvent;
+import com.roopy.order.port.out.card.CardPort;
+import com.roopy.order.port.out.coupon.CouponPort;
+import com.roopy.order.port.out.stock.StockPort;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.deadline.DeadlineManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderSagaTests {
+
+	private static final OrderCreatedEvent EVENT = new OrderCreatedEvent("ORD-1", "P-1", 2, 9000, 1000, "WELCOME");
+
+	private final CommandGateway commandGateway = mock(CommandGateway.class);
+
+	private final StockPort stockPort = mock(StockPort.class);
+
+	private final CouponPort couponPort = mock(CouponPort.class);
+
+	private final CardPort cardPort = mock(CardPort.class);
+
+	private final DeadlineManager deadlineManager = mock(DeadlineManager.class);
+
+	private final OrderSagaProperties properties = new OrderSagaProperties();
+
+	private final OrderSaga saga = new OrderSaga();
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(saga, "commandGateway", commandGateway);
+		ReflectionTestUtils.setField(saga, "stockPort", stockPort);
+		ReflectionTestUtils.setField(saga, "couponPort", couponPort);
+		ReflectionTestUtils.setField(saga, "cardPort", cardPort);
+		ReflectionTestUtils.setField(saga, "deadlineManager", deadlineManager);
+		ReflectionTestUtils.setField(saga, "properties", properties);
+
+		when(deadlineManager.schedule(any(Duration.class), eq("orderTimeout"))).thenReturn("deadline-1");
+
+		when(commandGateway.send(any())).thenReturn(CompletableFuture.completedFuture(null));
+		when(stockPort.deductStock(anyString(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
+		when(couponPort.applyCoupon(anyString(), anyString(), anyDouble())).thenReturn(CompletableFuture.completedFuture(true));
+		when(cardPort.processPayment(anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(true));
+		when(stockPort.cancelStock(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+		when(couponPort.cancelCoupon(anyString())).thenReturn(CompletableFuture.completedFuture(null));
+	}
+
+	@Test
+	void retriesConfirmAfterPaymentAndCompletesOrder() {
+		when(stockPort.confirmStock("ORD-1"))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stock-service down")))
+				.thenReturn(CompletableFuture.completedFuture(null));
+
+		saga.on(EVENT);
+
+		verify(commandGateway, timeout(5000)).send(any(CompleteOrderCommand.class));
+		verify(stockPort, times(2)).confirmStock("ORD-1");
+		verify(stockPort, never()).cancelStock(anyString());
+		verify(commandGateway, never()).send(any(FailOrderCommand.class));
+	}
+
+	@Test
+	void completesPaidOrderEvenWhenConfirmKeepsFailing() {
+		when(stockPort.confirmStock("ORD-1"))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("stock-service down")));
+
+		saga.on(EVENT);
+
+		verify(commandGateway, timeout(5000)).send(any(CompleteOrderCommand.class));
+		verify(stockPort, times(3)).confirmStock("ORD-1");
+		verify(stockPort, after(100).never()).cancelStock(anyString());
+		verify(couponPort, never()).cancelCoupon(anyString());
+		verify(commandGateway, never()).send(any(FailOrderCommand.class));
+	}
+
+	@Test
+	void rollsBackStepWhoseOutcomeIsUnknown() {
+		when(stockPort.deductStock(anyString(), anyString(), anyInt()))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("read timed out")));
+
+		saga.on(EVENT);
+
+		verify(commandGateway, timeout(5000)).send(any(FailOrderCommand.class));
+		verify(stockPort).cancelStock("ORD-1");
+		verify(couponPort).cancelCoupon("ORD-1");
+		verify(cardPort, never()).processPayment(anyString(), anyInt());
+	}
+
+	@Test
+	void skipsRollbackOfRejectedStep() {
+		when(stockPort.deductStock(anyString(), anyString(), anyInt())).thenReturn(CompletableFuture.completedFuture(false));
+
+		saga.on(EVENT);
+
+		verify(commandGateway, timeout(5000)).send(any(FailOrderCommand.class));
+		verify(stockPort, never()).cancelStock(anyString());
+		verify(couponPort).cancelCoupon("ORD-1");
+	}
+
+	@Test
+	void cancelsTimeoutWhenOrderEnds() {
+		when(stockPort.confirmStock("ORD-1")).thenReturn(CompletableFuture.completedFuture(null));
+
+		saga.on(EVENT);
+		saga.on(new OrderCompletedEvent("ORD-1"));
+
+		verify(deadlineManager).schedule(properties.getTimeout(), "orderTimeout");
+		verify(deadlineManager).cancelSchedule("orderTimeout", "deadline-1");
+	}
+
+	@Test
+	void timeoutRollsBackEveryStepAndFailsOrder() {
+		// 재고 차감 응답이 오지 않아 주문이 끝나지 않음
+		when(stockPort.deductStock(anyString(), anyString(), anyInt())).thenReturn(new CompletableFuture<>());
+
+		saga.on(EVENT);
+		saga.onOrderTimeout();
+		verify(commandGateway).send(any(TimeOutOrderCommand.class));
+		// 결제 시작 전이므로 주문은 보상 대상으로 표시됨
+		saga.on(new OrderTimedOutEvent("ORD-1"));
+
+		verify(commandGateway, timeout(5000)).send(any(FailOrderCommand.class));
+		verify(stockPort).cancelStock("ORD-1");
+		verify(couponPort).cancelCoupon("ORD-1");
+		verify(cardPort, never()).processPayment(anyString(), anyInt());
+	}
+
+	@Test
+	void doesNotChargeCardWhenPaymentStartIsRejected() {
+		// 시간 초과가 먼저 반영된 주문은 결제 시작이 거절됨
+		when(commandGateway.send(any(StartOrderPaymentCommand.class)))
+				.thenReturn(CompletableFuture.failedFuture(new IllegalStateException("timed out")));
+
+		saga.on(EVENT);
+
+		verify(commandGateway, timeout(5000)).send(any(FailOrderCommand.class));
+		verify(stockPort).cancelStock("ORD-1");
+		verify(couponPort).cancelCoupon("ORD-1");
+		verify(cardPort, never()).processPayment(anyString(), anyInt());
+	}
+
+	@Test
+	void timeoutAfterPaymentStartedLeavesOrderForReview() {
+		// 카드 결제 응답이 오지 않아 주문이 끝나지 않음
+		when(cardPort.processPayment(anyString(), anyInt())).thenReturn(new CompletableFuture<>());
+
+		saga.on(EVENT);
+		verify(cardPort, timeout(5000)).processPayment("ORD-1", 9000);
+		saga.onOrderTimeout();
+		// 결제를 시작했으므로 주문은 수동 확인 대상으로 바뀜
+		saga.on(new OrderReviewRequiredEvent("ORD-1", "timed out"));
+
+		verify(commandGateway).send(any(TimeOutOrderCommand.class));
+		verify(stockPort, after(100).never()).cancelStock(anyString());
+		verify(couponPort, never()).cancelCoupon(anyString());
+		verify(commandGateway, never()).send(any(FailOrderCommand.class));
+	}
+}
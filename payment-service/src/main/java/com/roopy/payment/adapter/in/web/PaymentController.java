@@ -1,12 +1,23 @@
 package com.roopy.payment.adapter.in.web;
 
+import com.roopy.payment.application.exception.CommandRejectedException;
+import com.roopy.payment.application.exception.IdempotencyKeyMismatchException;
+import com.roopy.payment.config.IdempotencyProperties;
+import com.roopy.payment.domain.model.CommandOutcome;
 import com.roopy.payment.port.in.CreatePaymentUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @RestController
@@ -14,15 +25,59 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class PaymentController {
 
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final CreatePaymentUseCase createPaymentUseCase;
+    private final IdempotencyProperties idempotencyProperties;
 
+    /**
+     * 결제 생성 커맨드를 보냅니다.
+     * <p>
+     * 요청 스레드는 커맨드를 보낸 직후 반환되며, 결과는 {@link DeferredResult}로 전달됩니다.
+     * {@code Idempotency-Key} 헤더가 있으면 같은 키의 재요청에는 커맨드를 보내지 않고 처음 요청과 같은 응답을 돌려줍니다.
+     *
+     * @return 200 OK (SYNC 모드 처리 완료) / 202 Accepted (ASYNC 모드 접수) /
+     * 400 Bad Request (Idempotency-Key 길이 초과) / 422 Unprocessable Entity (같은 Idempotency-Key로 내용이 다른 요청) /
+     * 429 Too Many Requests (처리 중인 커맨드 한도 초과) / 503 Service Unavailable (SYNC 모드 처리 시간 초과) /
+     * 500 Internal Server Error (커맨드 처리 실패)
+     */
     @PostMapping
-    public String createPayment(@RequestParam String userId,
-                                @RequestParam int amount,
-                                @RequestParam String currency) {
+    public DeferredResult<ResponseEntity<String>> createPayment(@RequestParam String userId,
+                                                                @RequestParam int amount,
+                                                                @RequestParam String currency,
+                                                                @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
         log.info("[Controller] Create payment request: userId={}, amount={}, currency={}",
                 userId, amount, currency);
-        createPaymentUseCase.createPayment(userId, amount, currency);
-        return "Payment requested";
+        DeferredResult<ResponseEntity<String>> deferredResult = new DeferredResult<>();
+
+        if (idempotencyKey != null && idempotencyKey.length() > idempotencyProperties.getMaxKeyLength()) {
+            deferredResult.setErrorResult(ResponseEntity.badRequest().body("Invalid Idempotency-Key"));
+            return deferredResult;
+        }
+
+        createPaymentUseCase.createPayment(userId, amount, currency, idempotencyKey).whenComplete((outcome, ex) -> {
+            if (ex == null) {
+                deferredResult.setResult(outcome == CommandOutcome.COMPLETED
+                        ? ResponseEntity.ok("Payment created")
+                        : ResponseEntity.accepted().body("Payment requested"));
+            } else if (unwrap(ex) instanceof CommandRejectedException) {
+                // 처리 중인 커맨드 한도 초과 - 즉시 거절
+                deferredResult.setErrorResult(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body("Payment rejected"));
+            } else if (unwrap(ex) instanceof IdempotencyKeyMismatchException) {
+                deferredResult.setErrorResult(ResponseEntity.unprocessableEntity().body("Idempotency-Key mismatch"));
+            } else if (unwrap(ex) instanceof TimeoutException) {
+                log.warn("[Controller] Create payment timed out: userId={}", userId);
+                deferredResult.setErrorResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Payment timeout"));
+            } else {
+                log.error("[Controller] Create payment failed: userId={}", userId, ex);
+                deferredResult.setErrorResult(ResponseEntity.internalServerError().body("Payment failed"));
+            }
+        });
+
+        return deferredResult;
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
     }
-}
\ No newline at end of file
+}
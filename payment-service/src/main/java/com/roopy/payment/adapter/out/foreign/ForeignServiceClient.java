@@ -1,31 +1,42 @@
 package com.roopy.payment.adapter.out.foreign;
 
+import com.roopy.payment.config.OutboundHttpClients;
 import com.roopy.payment.port.out.ForeignPaymentPort;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Component
 public class ForeignServiceClient implements ForeignPaymentPort {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final WebClient webClient;
+
+    public ForeignServiceClient(OutboundHttpClients outboundHttpClients) {
+        // foreign-service 전용 연결 풀 사용 (outbound.http.clients.foreign)
+        this.webClient = outboundHttpClients.webClient("foreign");
+    }
 
     @Override
-    public boolean requestForeignPayment(String paymentId, int amount, String currency) {
+    public CompletableFuture<Boolean> requestForeignPayment(String paymentId, int amount, String currency) {
         log.info("[ForeignServiceClient] Sending request to foreign-service");
-        // 실제 요청은 외부 API URL 구성 필요
-        try {
-            String url = String.format(
-                    "http://localhost:8082/foreign/payment?paymentId=%s&amount=%d&currency=%s",
-                    paymentId, amount, currency
-            );
-
-            String result = restTemplate.postForObject(url, null, String.class);
-            return "OK".equals(result);
-        } catch (Exception e) {
-            log.error("Foreign payment request failed", e);
-            return false;
-        }
+        return webClient.post()
+                .uri(uri -> uri.path("/foreign/payment")
+                        .queryParam("paymentId", paymentId)
+                        .queryParam("amount", amount)
+                        .queryParam("currency", currency)
+                        .build())
+                .retrieve()
+                .bodyToMono(String.class)
+                .map("OK"::equals)
+                .defaultIfEmpty(false)
+                .onErrorResume(e -> {
+                    log.error("Foreign payment request failed", e);
+                    return Mono.just(false);
+                })
+                .toFuture();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.roopy.payment.application.service;
+
+import com.roopy.payment.application.exception.CommandRejectedException;
+import com.roopy.payment.config.CommandAdmissionProperties;
+import com.roopy.payment.domain.model.CommandOutcome;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 처리 중인 커맨드 수를 제한하는 접수 창구입니다.
+ * <p>
+ * 커맨드 버스로 보낸 커맨드는 처리가 끝날 때까지 슬롯 하나를 차지합니다.
+ * <ul>
+ *     <li>슬롯이 없으면 커맨드를 보내지 않고 {@link CommandRejectedException}으로 즉시 실패합니다.</li>
+ *     <li>ASYNC 모드는 접수 즉시 {@link CommandOutcome#ACCEPTED}로 완료됩니다.</li>
+ *     <li>SYNC 모드는 처리 결과를 기다려 {@link CommandOutcome#COMPLETED}로 완료되며,
+ *     {@code timeout} 안에 끝나지 않으면 {@link TimeoutException}으로 실패합니다.</li>
+ * </ul>
+ * 응답이 먼저 나가더라도 슬롯은 커맨드 처리가 실제로 끝날 때 반환되므로, 커맨드 버스에 쌓이는 작업은 항상 한도 이내입니다.
+ * 처리 중인 커맨드 수와 거절 건수는 Micrometer 지표로 노출됩니다.
+ */
+@Slf4j
+@Component
+public class CommandAdmission implements MeterBinder {
+
+    private final CommandGateway commandGateway;
+    private final Semaphore slots;
+    private final int maxInFlight;
+    private final CommandAdmissionProperties.Mode mode;
+    private final Duration timeout;
+
+    private final LongAdder rejections = new LongAdder();
+
+    public CommandAdmission(CommandGateway commandGateway, CommandAdmissionProperties properties) {
+        this.commandGateway = commandGateway;
+        this.maxInFlight = properties.getMaxInFlight();
+        this.slots = new Semaphore(maxInFlight);
+        this.mode = properties.getMode();
+        this.timeout = properties.getTimeout();
+    }
+
+    /**
+     * 슬롯이 있으면 커맨드를 보냅니다.
+     *
+     * @param command 보낼 커맨드
+     * @return 접수 결과 (거절 시 {@link CommandRejectedException}, SYNC 모드 시간 초과 시 {@link TimeoutException}으로 실패)
+     */
+    public CompletableFuture<CommandOutcome> dispatch(Object command) {
+        if (!slots.tryAcquire()) {
+            rejections.increment();
+            log.warn("[Admission] 처리 중인 커맨드 한도 초과 - command={}", command.getClass().getSimpleName());
+            return CompletableFuture.failedFuture(new CommandRejectedException(command, maxInFlight));
+        }
+
+        CompletableFuture<Object> result;
+        try {
+            result = commandGateway.send(command);
+        } catch (RuntimeException e) {
+            slots.release();
+            return CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((r, ex) -> slots.release());
+
+        if (mode == CommandAdmissionProperties.Mode.ASYNC) {
+            return CompletableFuture.completedFuture(CommandOutcome.ACCEPTED);
+        }
+        return result.thenApply(r -> CommandOutcome.COMPLETED)
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 처리 중인 커맨드 수를 반환합니다.
+     */
+    public int inFlight() {
+        return maxInFlight - slots.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("command.admission.in-flight", this, CommandAdmission::inFlight)
+                .description("처리 중인 커맨드 수")
+                .register(registry);
+        Gauge.builder("command.admission.capacity", () -> maxInFlight)
+                .description("동시에 처리할 수 있는 최대 커맨드 수")
+                .register(registry);
+        FunctionCounter.builder("command.admission.rejections", rejections, LongAdder::sum)
+                .description("한도 초과로 거절된 커맨드 수")
+                .register(registry);
+    }
+}
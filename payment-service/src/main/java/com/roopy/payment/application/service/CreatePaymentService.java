@@ -1,25 +1,36 @@
 package com.roopy.payment.application.service;
 
 import com.roopy.payment.domain.command.CreatePaymentCommand;
+import com.roopy.payment.domain.model.CommandOutcome;
 import com.roopy.payment.port.in.CreatePaymentUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.axonframework.commandhandling.gateway.CommandGateway;
 import org.springframework.stereotype.Service;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CreatePaymentService implements CreatePaymentUseCase {
 
-    private final CommandGateway commandGateway;
+    private final CommandAdmission commandAdmission;
+    private final IdempotencyCache idempotencyCache;
 
     @Override
-    public void createPayment(String userId, int amount, String currency) {
+    public CompletableFuture<CommandOutcome> createPayment(String userId, int amount, String currency, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return sendCreatePayment(userId, amount, currency);
+        }
+        // 같은 키로 이미 접수된 결제가 있으면 새 결제 ID를 발급하지 않음
+        String requestHash = IdempotencyCache.requestHash(userId, amount, currency);
+        return idempotencyCache.computeIfAbsent(idempotencyKey, requestHash, () -> sendCreatePayment(userId, amount, currency));
+    }
+
+    private CompletableFuture<CommandOutcome> sendCreatePayment(String userId, int amount, String currency) {
         String paymentId = UUID.randomUUID().toString();
         log.info("[Service] Sending CreatePaymentCommand with ID: {}", paymentId);
-        commandGateway.send(new CreatePaymentCommand(paymentId, userId, amount, currency));
+        return commandAdmission.dispatch(new CreatePaymentCommand(paymentId, userId, amount, currency));
     }
-}
\ No newline at end of file
+}
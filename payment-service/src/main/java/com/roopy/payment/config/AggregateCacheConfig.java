@@ -0,0 +1,46 @@
+package com.roopy.payment.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.axonframework.common.caching.Cache;
+import org.axonframework.common.caching.NoCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 커맨드 측 애그리거트 캐시 설정입니다.
+ * <p>
+ * {@code PaymentAggregate}는 {@code @Aggregate(cache = "paymentAggregateCache")}로 이 빈을 사용합니다.
+ * 적중·미적중·제거 지표는 {@code /actuator/metrics/cache.gets}, {@code cache.evictions} 등에서
+ * {@code cache=paymentAggregateCache} 태그로 조회할 수 있습니다.
+ * 같은 애그리거트의 커맨드는 Axon Server가 항상 같은 노드로 라우팅하므로, 노드별 캐시가 서로 어긋나지 않습니다.
+ */
+@Slf4j
+@Configuration
+public class AggregateCacheConfig {
+
+    @Bean
+    public Cache paymentAggregateCache(AggregateCacheProperties properties, MeterRegistry meterRegistry) {
+        if (!properties.isEnabled()) {
+            return NoCache.INSTANCE;
+        }
+
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (properties.getEviction() == AggregateCacheProperties.Eviction.WEIGHT) {
+            builder.maximumWeight(properties.getMaximumWeight().toBytes()).weigher(new AggregateWeigher());
+        } else {
+            builder.maximumSize(properties.getMaximumSize());
+        }
+        if (properties.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(properties.getExpireAfterAccess());
+        }
+
+        CaffeineAggregateCache cache = new CaffeineAggregateCache(builder);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.nativeCache(), "paymentAggregateCache");
+        log.info("[Aggregate Cache] paymentAggregateCache - eviction={}, maximumSize={}, maximumWeight={}, expireAfterAccess={}",
+                properties.getEviction(), properties.getMaximumSize(), properties.getMaximumWeight(), properties.getExpireAfterAccess());
+        return cache;
+    }
+}
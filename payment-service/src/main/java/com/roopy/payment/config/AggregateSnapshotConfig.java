@@ -0,0 +1,25 @@
+package com.roopy.payment.config;
+
+import org.axonframework.eventsourcing.NoSnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.SnapshotTriggerDefinition;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 애그리거트 스냅샷 트리거 설정입니다.
+ * <p>
+ * {@code PaymentAggregate}는 {@code @Aggregate(snapshotTriggerDefinition = "paymentSnapshotTrigger")}로 이 빈을 사용합니다.
+ * 스냅샷은 Axon이 제공하는 {@link Snapshotter}가 이벤트 직렬화기로 저장합니다.
+ */
+@Configuration
+public class AggregateSnapshotConfig {
+
+    @Bean
+    public SnapshotTriggerDefinition paymentSnapshotTrigger(Snapshotter snapshotter, AggregateSnapshotProperties properties) {
+        if (!properties.isEnabled()) {
+            return NoSnapshotTriggerDefinition.INSTANCE;
+        }
+        return new ThresholdSnapshotTriggerDefinition(snapshotter, properties.getEventThreshold(), properties.getLoadTimeThreshold());
+    }
+}
@@ -0,0 +1,82 @@
+package com.roopy.payment.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 항목의 메모리 사용량을 필드 값으로 대략 추정하는 Weigher 입니다.
+ * <p>
+ * 캐시 항목(애그리거트 루트와 버전 정보)을 정해진 깊이까지 따라가며 객체 헤더, 참조, 기본형, 문자열 길이를 합산합니다.
+ * transient 필드는 다시 만들 수 있는 부가 정보이므로 제외합니다. 정확한 크기가 아니라 항목 간 상대적인 크기를 구하는 것이 목적입니다.
+ */
+final class AggregateWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_HEADER = 16;
+    private static final int REFERENCE = 4;
+    private static final int PRIMITIVE = 8;
+    private static final int STRING_OVERHEAD = 40;
+    private static final int MAX_DEPTH = 3;
+
+    private final ClassValue<List<Field>> fields = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> result = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers) && field.trySetAccessible()) {
+                        result.add(field);
+                    }
+                }
+            }
+            return result;
+        }
+    };
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return (int) Math.min(Integer.MAX_VALUE, estimate(key, MAX_DEPTH) + estimate(value, 0));
+    }
+
+    private long estimate(Object value, int depth) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return STRING_OVERHEAD + text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum<?>) {
+            return OBJECT_HEADER + PRIMITIVE;
+        }
+        if (value instanceof Collection<?> collection) {
+            return OBJECT_HEADER + (long) collection.size() * (REFERENCE + OBJECT_HEADER + PRIMITIVE);
+        }
+        if (value instanceof Map<?, ?> map) {
+            return OBJECT_HEADER + (long) map.size() * (2 * REFERENCE + 2 * (OBJECT_HEADER + PRIMITIVE));
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_HEADER;
+        }
+
+        long size = OBJECT_HEADER;
+        for (Field field : fields.get(value.getClass())) {
+            if (field.getType().isPrimitive()) {
+                size += PRIMITIVE;
+                continue;
+            }
+            size += REFERENCE;
+            try {
+                size += estimate(field.get(value), depth + 1);
+            } catch (IllegalAccessException e) {
+                // 접근할 수 없는 필드는 참조 크기만 반영
+            }
+        }
+        return size;
+    }
+}
@@ -0,0 +1,114 @@
+package com.roopy.payment.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.axonframework.common.Registration;
+import org.axonframework.common.caching.Cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Caffeine 캐시를 Axon {@link Cache}로 감싼 어댑터입니다.
+ * <p>
+ * Axon의 {@code CachingEventSourcingRepository}가 이 캐시에 애그리거트를 보관하므로,
+ * 캐시에 남아 있는 애그리거트에 대한 커맨드는 이벤트 저장소를 읽지 않고 처리됩니다.
+ * 크기·만료에 의한 제거는 등록된 {@link Cache.EntryListener}에 전달됩니다.
+ */
+public class CaffeineAggregateCache implements Cache {
+
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> delegate;
+
+    private final List<EntryListener> listeners = new CopyOnWriteArrayList<>();
+
+    public CaffeineAggregateCache(Caffeine<Object, Object> builder) {
+        this.delegate = builder
+                .evictionListener((Object key, Object value, RemovalCause cause) -> {
+                    for (EntryListener listener : listeners) {
+                        if (cause == RemovalCause.EXPIRED) {
+                            listener.onEntryExpired(key);
+                        } else {
+                            listener.onEntryRemoved(key);
+                        }
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 지표 수집(Micrometer) 등에 사용할 Caffeine 캐시를 반환합니다.
+     */
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return delegate;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> V get(K key) {
+        V value = (V) delegate.getIfPresent(key);
+        if (value != null) {
+            listeners.forEach(listener -> listener.onEntryRead(key, value));
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object previous = delegate.asMap().put(key, value);
+        for (EntryListener listener : listeners) {
+            if (previous == null) {
+                listener.onEntryCreated(key, value);
+            } else {
+                listener.onEntryUpdated(key, value);
+            }
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(Object key, Object value) {
+        boolean created = delegate.asMap().putIfAbsent(key, value) == null;
+        if (created) {
+            listeners.forEach(listener -> listener.onEntryCreated(key, value));
+        }
+        return created;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T computeIfAbsent(Object key, Supplier<T> valueSupplier) {
+        return (T) delegate.get(key, k -> valueSupplier.get());
+    }
+
+    @Override
+    public boolean remove(Object key) {
+        boolean removed = delegate.asMap().remove(key) != null;
+        if (removed) {
+            listeners.forEach(listener -> listener.onEntryRemoved(key));
+        }
+        return removed;
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.invalidateAll();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return delegate.asMap().containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <V> void computeIfPresent(Object key, UnaryOperator<V> update) {
+        delegate.asMap().computeIfPresent(key, (k, value) -> update.apply((V) value));
+    }
+
+    @Override
+    public Registration registerCacheEntryListener(EntryListener listener) {
+        listeners.add(listener);
+        return () -> listeners.remove(listener);
+    }
+}
@@ -0,0 +1,44 @@
+package com.roopy.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 커맨드 접수(admission) 설정입니다.
+ * <p>
+ * application.yml 의 {@code command.admission.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "command.admission")
+public class CommandAdmissionProperties {
+
+    /**
+     * 동시에 처리 중일 수 있는 최대 커맨드 수입니다. 가득 차면 새 요청은 HTTP 429로 즉시 거절합니다.
+     */
+    private int maxInFlight = 1000;
+
+    /**
+     * 응답 방식입니다.
+     */
+    private Mode mode = Mode.ASYNC;
+
+    /**
+     * SYNC 모드에서 커맨드 처리 결과를 기다리는 최대 시간입니다. 초과하면 HTTP 503으로 응답합니다.
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    public enum Mode {
+        /**
+         * 커맨드를 접수하면 바로 응답 (HTTP 202)
+         */
+        ASYNC,
+        /**
+         * 커맨드 처리 결과를 기다려 응답 (HTTP 200)
+         */
+        SYNC
+    }
+}
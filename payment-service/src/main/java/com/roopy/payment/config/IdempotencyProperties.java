@@ -0,0 +1,33 @@
+package com.roopy.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * {@code Idempotency-Key} 중복 요청 캐시 설정입니다.
+ * <p>
+ * application.yml 의 {@code idempotency.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * 보관할 최대 키 수입니다. 넘으면 오래 쓰지 않은 키부터 제거됩니다.
+     */
+    private long maximumSize = 100_000;
+
+    /**
+     * 키를 보관하는 시간입니다. 이 시간 안에 같은 키로 다시 요청하면 처음 요청의 결과를 돌려줍니다.
+     */
+    private Duration ttl = Duration.ofHours(1);
+
+    /**
+     * 허용하는 키의 최대 길이입니다. 넘으면 HTTP 400으로 거절합니다.
+     */
+    private int maxKeyLength = 128;
+}
@@ -0,0 +1,98 @@
+package com.roopy.payment.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 호출 대상별로 연결 풀을 가진 {@link WebClient}를 제공하는 컴포넌트입니다.
+ * <p>
+ * 대상마다 Reactor Netty {@link ConnectionProvider}를 하나씩 만들어 keep-alive 연결을 재사용하므로,
+ * 요청마다 TCP 핸드셰이크를 하지 않습니다. 연결 풀 지표는 Micrometer로 노출됩니다.
+ * <ul>
+ *     <li>{@code reactor.netty.connection.provider.active.connections} - 사용 중인 연결 수</li>
+ *     <li>{@code reactor.netty.connection.provider.idle.connections} - 유휴 연결 수</li>
+ *     <li>{@code reactor.netty.connection.provider.pending.connections} - 연결을 기다리는 요청 수</li>
+ * </ul>
+ * 지표의 {@code name} 태그는 {@code outbound-<대상 이름>} 입니다.
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients implements DisposableBean {
+
+    private final OutboundHttpProperties properties;
+
+    private final WebClient.Builder webClientBuilder;
+
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    private final Map<String, WebClient> webClients = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(OutboundHttpProperties properties, WebClient.Builder webClientBuilder) {
+        this.properties = properties;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    /**
+     * 호출 대상의 {@link WebClient}를 반환합니다. 같은 대상에는 항상 같은 인스턴스(같은 연결 풀)를 반환합니다.
+     *
+     * @param name {@code outbound.http.clients} 아래의 대상 이름
+     * @throws IllegalStateException 설정되지 않은 대상인 경우
+     */
+    public WebClient webClient(String name) {
+        return webClients.computeIfAbsent(name, this::createWebClient);
+    }
+
+    @Override
+    public void destroy() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private WebClient createWebClient(String name) {
+        OutboundHttpProperties.Client client = properties.getClients().get(name);
+        if (client == null || client.getBaseUrl() == null) {
+            throw new IllegalStateException("outbound.http.clients." + name + ".base-url 설정이 없습니다.");
+        }
+
+        ConnectionProvider provider = ConnectionProvider.builder("outbound-" + name)
+                .maxConnections(client.getMaxConnections())
+                .pendingAcquireMaxCount(client.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(client.getPendingAcquireTimeout())
+                .maxIdleTime(client.getMaxIdleTime())
+                .maxLifeTime(client.getMaxLifeTime())
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        providers.put(name, provider);
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .protocol(client.getProtocols().stream().map(OutboundHttpClients::toHttpProtocol).toArray(HttpProtocol[]::new))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) client.getConnectTimeout().toMillis())
+                .responseTimeout(client.getResponseTimeout());
+
+        log.info("[OutboundHttp] {} 클라이언트 생성 - baseUrl={}, protocols={}, maxConnections={}",
+                name, client.getBaseUrl(), client.getProtocols(), client.getMaxConnections());
+
+        return webClientBuilder.clone()
+                .baseUrl(client.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    private static HttpProtocol toHttpProtocol(OutboundHttpProperties.Protocol protocol) {
+        return switch (protocol) {
+            case HTTP11 -> HttpProtocol.HTTP11;
+            case H2C -> HttpProtocol.H2C;
+        };
+    }
+}
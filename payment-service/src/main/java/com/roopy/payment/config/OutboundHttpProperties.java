@@ -0,0 +1,96 @@
+package com.roopy.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 서비스 호출용 HTTP 클라이언트 설정입니다.
+ * <p>
+ * application.yml 의 {@code outbound.http.*} 항목과 매핑되며, 호출 대상마다 별도의 연결 풀을 가집니다.
+ * <pre>
+ * outbound:
+ *     http:
+ *         clients:
+ *             foreign:
+ *                 base-url: http://localhost:8082
+ *                 max-connections: 200
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    /**
+     * 호출 대상 이름별 클라이언트 설정
+     */
+    private Map<String, Client> clients = new LinkedHashMap<>();
+
+    public enum Protocol {
+        /**
+         * HTTP/1.1 (keep-alive 연결 재사용)
+         */
+        HTTP11,
+        /**
+         * 평문 HTTP/2 (h2c). 한 연결에서 여러 요청을 동시에 처리합니다.
+         */
+        H2C
+    }
+
+    @Getter
+    @Setter
+    public static class Client {
+
+        /**
+         * 호출 대상의 기본 URL (예: http://localhost:8082)
+         */
+        private String baseUrl;
+
+        /**
+         * 사용할 프로토콜 목록입니다. [HTTP11, H2C] 처럼 둘 다 지정하면 h2c 업그레이드를 시도하고,
+         * 서버가 지원하지 않으면 HTTP/1.1을 사용합니다.
+         */
+        private List<Protocol> protocols = List.of(Protocol.HTTP11);
+
+        /**
+         * TCP 연결 수립 최대 시간
+         */
+        private Duration connectTimeout = Duration.ofSeconds(1);
+
+        /**
+         * 요청 전송 후 응답을 기다리는 최대 시간
+         */
+        private Duration responseTimeout = Duration.ofSeconds(10);
+
+        /**
+         * 대상별 최대 연결 수
+         */
+        private int maxConnections = 100;
+
+        /**
+         * 연결을 얻지 못해 대기할 수 있는 최대 요청 수 (초과 시 즉시 실패)
+         */
+        private int pendingAcquireMaxCount = 1_000;
+
+        /**
+         * 연결을 얻기 위해 대기하는 최대 시간
+         */
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+
+        /**
+         * 유휴 연결을 유지하는 최대 시간 (서버의 keep-alive 시간보다 짧게 설정)
+         */
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+
+        /**
+         * 연결의 최대 수명 (로드밸런서 재분배를 위해 주기적으로 재연결)
+         */
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+    }
+}
@@ -0,0 +1,24 @@
+package com.roopy.payment.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제 SAGA 설정입니다.
+ * <p>
+ * application.yml 의 {@code payment.saga.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "payment.saga")
+public class PaymentSagaProperties {
+
+    /**
+     * 외부 결제 응답을 기다리는 최대 시간입니다. 이 시간 안에 응답이 없으면 결제 실패로 반영하고 취소합니다.
+     * 외부 결제 호출의 응답 타임아웃(outbound.http.clients.foreign.response-timeout)보다 길게 잡습니다.
+     */
+    private Duration foreignPaymentTimeout = Duration.ofSeconds(15);
+}
@@ -0,0 +1,17 @@
+package com.roopy.payment.domain.command;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.axonframework.modelling.command.TargetAggregateIdentifier;
+
+/**
+ * 외부 결제(foreign-service) 응답을 결제에 반영하는 커맨드입니다.
+ */
+@Getter
+@AllArgsConstructor
+public class CompleteForeignPaymentCommand {
+    @TargetAggregateIdentifier
+    private final String paymentId;
+    private final boolean approved;
+    private final String reason;
+}
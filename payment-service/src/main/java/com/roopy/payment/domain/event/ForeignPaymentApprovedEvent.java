@@ -0,0 +1,10 @@
+package com.roopy.payment.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ForeignPaymentApprovedEvent {
+    private final String paymentId;
+}
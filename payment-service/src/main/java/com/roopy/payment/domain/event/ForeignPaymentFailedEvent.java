@@ -0,0 +1,11 @@
+package com.roopy.payment.domain.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ForeignPaymentFailedEvent {
+    private final String paymentId;
+    private final String reason;
+}
@@ -0,0 +1,15 @@
+package com.roopy.payment.domain.model;
+
+/**
+ * 커맨드 접수 결과입니다.
+ */
+public enum CommandOutcome {
+    /**
+     * 커맨드 처리 완료 (SYNC 모드)
+     */
+    COMPLETED,
+    /**
+     * 커맨드 접수 완료, 처리는 진행 중 (ASYNC 모드)
+     */
+    ACCEPTED
+}
@@ -1,7 +1,12 @@
 package com.roopy.payment.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.roopy.payment.domain.command.CreatePaymentCommand;
 import com.roopy.payment.domain.command.CancelPaymentCommand;
+import com.roopy.payment.domain.command.CompleteForeignPaymentCommand;
+import com.roopy.payment.domain.event.ForeignPaymentApprovedEvent;
+import com.roopy.payment.domain.event.ForeignPaymentFailedEvent;
 import com.roopy.payment.domain.event.PaymentCreatedEvent;
 import com.roopy.payment.domain.event.PaymentCancelledEvent;
 import lombok.NoArgsConstructor;
@@ -19,10 +24,17 @@ import static org.axonframework.modelling.command.AggregateLifecycle.apply;
  * <p>
  * Axon Framework에서 Aggregate는 도메인의 상태를 일관되게 유지하면서
  * Command를 받아서 Event를 통해 상태를 변화시키는 중심 객체입니다.
+ * <p>
+ * 이벤트 수·로딩 시간 기준으로 스냅샷을 남기므로, 로딩 시에는 마지막 스냅샷 이후의 이벤트만 재생합니다.
+ * 스냅샷은 상태 필드만 직렬화하고 값이 없는 필드는 생략합니다.
+ * 최근 사용한 애그리거트는 캐시에 남아 있으므로, 연이은 커맨드(예: 생성 직후 취소)는 이벤트 저장소를 읽지 않습니다.
  */
 @Slf4j
-@Aggregate  // Axon에서 이 클래스가 Aggregate임을 나타냄
+@Aggregate(snapshotTriggerDefinition = "paymentSnapshotTrigger", cache = "paymentAggregateCache")  // Axon에서 이 클래스가 Aggregate임을 나타냄
 @NoArgsConstructor  // Axon에서 리플렉션으로 인스턴스를 생성할 때 필요
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PaymentAggregate {
 
     /**
@@ -34,6 +46,7 @@ public class PaymentAggregate {
     private String userId;
     private int amount;
     private String currency;
+    private PaymentStatus status;
 
     /**
      * 결제 생성 커맨드를 처리하는 CommandHandler.
@@ -79,6 +92,28 @@ public class PaymentAggregate {
         ));
     }
 
+    /**
+     * 외부 결제 응답을 반영하는 CommandHandler.
+     * <p>
+     * 응답 대기 중(PENDING)일 때만 반영하며, 타임아웃으로 이미 취소된 뒤 도착한 응답은 로그만 남기고 무시합니다.
+     *
+     * @param cmd CompleteForeignPaymentCommand - 외부 결제 응답
+     */
+    @CommandHandler
+    public void handle(CompleteForeignPaymentCommand cmd) {
+        if (status != PaymentStatus.PENDING) {
+            log.warn("[Aggregate] Ignoring late foreign payment result: {} (status={})", cmd.getPaymentId(), status);
+            return;
+        }
+        log.info("[Aggregate] Handling CompleteForeignPaymentCommand: {} (approved={})", cmd.getPaymentId(), cmd.isApproved());
+
+        if (cmd.isApproved()) {
+            apply(new ForeignPaymentApprovedEvent(cmd.getPaymentId()));
+        } else {
+            apply(new ForeignPaymentFailedEvent(cmd.getPaymentId(), cmd.getReason()));
+        }
+    }
+
     /**
      * 결제 생성 이벤트에 의해 Aggregate 상태를 실제로 업데이트합니다.
      * <p>
@@ -93,17 +128,29 @@ public class PaymentAggregate {
         this.userId = event.getUserId();
         this.amount = event.getAmount();
         this.currency = event.getCurrency();
+        this.status = PaymentStatus.PENDING;
+    }
+
+    @EventSourcingHandler
+    public void on(ForeignPaymentApprovedEvent event) {
+        log.info("[Aggregate] Applied ForeignPaymentApprovedEvent: {}", event.getPaymentId());
+        this.status = PaymentStatus.APPROVED;
+    }
+
+    @EventSourcingHandler
+    public void on(ForeignPaymentFailedEvent event) {
+        log.info("[Aggregate] Applied ForeignPaymentFailedEvent: {}", event.getPaymentId());
+        this.status = PaymentStatus.FAILED;
     }
 
     /**
      * 결제 취소 이벤트에 의해 상태를 업데이트합니다.
-     * 현재는 로그만 남기며, 상태 변경 로직은 필요 시 추가합니다.
      *
      * @param event PaymentCancelledEvent
      */
     @EventSourcingHandler
     public void on(PaymentCancelledEvent event) {
         log.info("[Aggregate] Applied PaymentCancelledEvent: {}", event.getPaymentId());
-        // 상태 업데이트가 필요하다면 여기에 추가합니다.
+        this.status = PaymentStatus.CANCELLED;
     }
 }
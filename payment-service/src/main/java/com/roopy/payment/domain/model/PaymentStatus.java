@@ -0,0 +1,23 @@
+package com.roopy.payment.domain.model;
+
+/**
+ * 결제 상태입니다.
+ */
+public enum PaymentStatus {
+    /**
+     * 외부 결제 응답 대기 중
+     */
+    PENDING,
+    /**
+     * 외부 결제 승인
+     */
+    APPROVED,
+    /**
+     * 외부 결제 실패 (취소 예정)
+     */
+    FAILED,
+    /**
+     * 결제 취소
+     */
+    CANCELLED
+}
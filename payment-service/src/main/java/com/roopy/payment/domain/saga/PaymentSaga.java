@@ -1,16 +1,24 @@
 package com.roopy.payment.domain.saga;
 
-import com.roopy.payment.adapter.out.foreign.ForeignServiceClient;
+import com.roopy.payment.config.PaymentSagaProperties;
 import com.roopy.payment.domain.command.CancelPaymentCommand;
+import com.roopy.payment.domain.command.CompleteForeignPaymentCommand;
+import com.roopy.payment.domain.event.ForeignPaymentApprovedEvent;
+import com.roopy.payment.domain.event.ForeignPaymentFailedEvent;
 import com.roopy.payment.domain.event.PaymentCreatedEvent;
+import com.roopy.payment.port.out.ForeignPaymentPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.deadline.DeadlineManager;
+import org.axonframework.deadline.annotation.DeadlineHandler;
+import org.axonframework.modelling.saga.EndSaga;
 import org.axonframework.modelling.saga.SagaEventHandler;
 import org.axonframework.modelling.saga.StartSaga;
 import org.axonframework.spring.stereotype.Saga;
 
 import javax.inject.Inject;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 결제 프로세스를 관리하는 SAGA 클래스입니다.
@@ -18,12 +26,17 @@ import javax.inject.Inject;
  * 이 클래스는 {@code @Saga} 어노테이션이 적용되어 있으며, Axon Framework에 의해 런타임에 자동으로 관리됩니다.
  * 개발자가 명시적으로 이 클래스를 호출하지 않습니다.
  * <p>
+ * 외부 결제 호출은 비동기로 보내고 이벤트 처리 스레드는 바로 반환합니다.
+ * 응답은 {@code CompleteForeignPaymentCommand}로 결제에 반영되고, 그 결과 이벤트를 이 SAGA가 다시 받아 마무리합니다.
+ * <p>
  * <b>작동 순서 요약:</b>
  * <ol>
  *     <li>PaymentAggregate 내부에서 {@code apply(new PaymentCreatedEvent(...))} 호출</li>
  *     <li>Axon이 {@code PaymentCreatedEvent} 이벤트를 발행</li>
  *     <li>Axon이 해당 이벤트를 감지하여 이 SAGA 클래스의 {@code on(PaymentCreatedEvent)} 메서드를 실행</li>
- *     <li>외부 결제 시스템 호출</li>
+ *     <li>응답 타임아웃 데드라인을 걸고 외부 결제 시스템을 비동기로 호출</li>
+ *     <li>응답 도착 시 {@code ForeignPaymentApprovedEvent} 또는 {@code ForeignPaymentFailedEvent} 수신</li>
+ *     <li>타임아웃 시 {@code CompleteForeignPaymentCommand(approved=false)}로 실패를 반영 (이미 응답이 반영되었으면 무시됨)</li>
  *     <li>실패 시 보상 트랜잭션으로 {@code CancelPaymentCommand} 전송</li>
  * </ol>
  */
@@ -32,6 +45,8 @@ import javax.inject.Inject;
 @RequiredArgsConstructor
 public class PaymentSaga {
 
+    private static final String FOREIGN_PAYMENT_TIMEOUT = "foreignPaymentTimeout";
+
     /**
      * Axon Framework를 통해 명령을 전송하는 컴포넌트입니다.
      * <p>
@@ -49,13 +64,34 @@ public class PaymentSaga {
      * 실제 외부 PG사 호출은 이 포트를 통해 진행되며, 마찬가지로 SAGA 직렬화에서 제외됩니다.
      */
     @Inject
-    private transient ForeignServiceClient foreignServiceClient;
+    private transient ForeignPaymentPort foreignPaymentPort;
+
+    /**
+     * 외부 결제 응답 타임아웃 데드라인을 관리합니다.
+     */
+    @Inject
+    private transient DeadlineManager deadlineManager;
+
+    @Inject
+    private transient PaymentSagaProperties properties;
+
+    /**
+     * 진행 중인 결제 ID
+     */
+    private String paymentId;
+
+    /**
+     * 외부 결제 응답 타임아웃 데드라인 ID (응답 도착 시 취소)
+     */
+    private String deadlineId;
 
     /**
      * 결제 생성 이벤트를 수신하여 SAGA를 시작하는 메서드입니다.
      * <p>
      * {@code @StartSaga}는 이 이벤트가 SAGA를 시작하는 트리거임을 나타냅니다.
      * {@code associationProperty = "paymentId"} 설정으로 이벤트와 SAGA 인스턴스를 연결합니다.
+     * <p>
+     * 외부 결제 요청을 보낸 뒤 응답을 기다리지 않고 반환합니다.
      *
      * @param event 결제 생성 이벤트
      */
@@ -65,35 +101,79 @@ public class PaymentSaga {
         log.info("[Saga:START] 결제 생성 이벤트 수신 - paymentId={}, amount={}, currency={}",
                 event.getPaymentId(), event.getAmount(), event.getCurrency());
 
-        // 외부 결제 시스템 호출
-        boolean success = callForeignPayment(event.getPaymentId(), event.getAmount(), event.getCurrency());
+        this.paymentId = event.getPaymentId();
+        this.deadlineId = deadlineManager.schedule(properties.getForeignPaymentTimeout(), FOREIGN_PAYMENT_TIMEOUT);
 
-        // 결제 실패 시 보상 트랜잭션 실행
-        if (!success) {
-            log.warn("[Saga:FAIL] 외부 결제 실패 - paymentId={}. 취소 명령 전송 중...", event.getPaymentId());
-            commandGateway.send(new CancelPaymentCommand(event.getPaymentId(), "Foreign payment failed"));
-        } else {
-            log.info("[Saga:SUCCESS] 외부 결제 성공 - paymentId={}", event.getPaymentId());
-        }
+        // 외부 결제 시스템 비동기 호출
+        callForeignPayment(event.getPaymentId(), event.getAmount(), event.getCurrency());
+    }
+
+    /**
+     * 외부 결제 승인 이벤트를 수신하여 SAGA를 종료합니다.
+     *
+     * @param event 외부 결제 승인 이벤트
+     */
+    @EndSaga
+    @SagaEventHandler(associationProperty = "paymentId")
+    public void on(ForeignPaymentApprovedEvent event) {
+        log.info("[Saga:SUCCESS] 외부 결제 성공 - paymentId={}", event.getPaymentId());
+        deadlineManager.cancelSchedule(FOREIGN_PAYMENT_TIMEOUT, deadlineId);
     }
 
     /**
-     * 외부 결제 시스템을 호출하는 내부 메서드입니다.
+     * 외부 결제 실패 이벤트를 수신하여 결제를 취소하고 SAGA를 종료합니다.
+     *
+     * @param event 외부 결제 실패 이벤트
+     */
+    @EndSaga
+    @SagaEventHandler(associationProperty = "paymentId")
+    public void on(ForeignPaymentFailedEvent event) {
+        log.warn("[Saga:FAIL] 외부 결제 실패 - paymentId={}. 취소 명령 전송 중...", event.getPaymentId());
+        deadlineManager.cancelSchedule(FOREIGN_PAYMENT_TIMEOUT, deadlineId);
+        commandGateway.send(new CancelPaymentCommand(event.getPaymentId(), event.getReason()));
+    }
+
+    /**
+     * 외부 결제 응답이 타임아웃 안에 오지 않으면 결제 실패를 반영합니다.
+     * <p>
+     * 결제를 직접 취소하지 않고 응답과 같은 {@code CompleteForeignPaymentCommand}를 보내므로, 결제는 먼저 도착한 쪽
+     * 하나만 반영합니다. 승인이 이미 반영된 뒤 데드라인이 실행되어도 승인된 결제가 취소되지 않고,
+     * 타임아웃 이후에 도착한 응답도 무시됩니다. 실패가 반영되면 {@code ForeignPaymentFailedEvent} 처리에서 취소하고 종료합니다.
+     */
+    @DeadlineHandler(deadlineName = FOREIGN_PAYMENT_TIMEOUT)
+    public void onForeignPaymentTimeout() {
+        log.warn("[Saga:TIMEOUT] 외부 결제 응답 없음 - paymentId={}. 실패 반영 명령 전송 중...", paymentId);
+        commandGateway.send(new CompleteForeignPaymentCommand(paymentId, false, "Foreign payment timed out"));
+    }
+
+    /**
+     * 외부 결제 시스템을 비동기로 호출하고, 응답을 {@code CompleteForeignPaymentCommand}로 결제에 반영합니다.
      * <p>
-     * 실제 구현에서는 외부 API와 비동기 통신을 하며, 현재는 {@code ForeignServiceClient}를 통해 호출됩니다.
+     * 응답 콜백은 SAGA 트랜잭션 밖(HTTP 응답 스레드)에서 실행되므로, SAGA 상태 대신 인자로 받은 값만 사용합니다.
      *
      * @param paymentId 결제 ID
      * @param amount    결제 금액
      * @param currency  통화 코드 (예: KRW, USD)
-     * @return 외부 결제 성공 여부
      */
-    private boolean callForeignPayment(String paymentId, int amount, String currency) {
+    private void callForeignPayment(String paymentId, int amount, String currency) {
         log.info("[Saga:CALL] 외부 결제 API 호출 시작 - paymentId={}, amount={}, currency={}",
                 paymentId, amount, currency);
 
-        boolean result = foreignServiceClient.requestForeignPayment(paymentId, amount, currency);
+        CommandGateway gateway = commandGateway;
+        CompletableFuture<Boolean> result;
+        try {
+            result = foreignPaymentPort.requestForeignPayment(paymentId, amount, currency);
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
 
-        log.info("[Saga:CALL] 외부 결제 API 호출 결과 - paymentId={}, result={}", paymentId, result);
-        return result;
+        result.whenComplete((success, e) -> {
+            boolean approved = e == null && Boolean.TRUE.equals(success);
+            if (e != null) {
+                log.error("[Saga:CALL] 외부 결제 API 호출 중 오류 - paymentId={}", paymentId, e);
+            }
+            log.info("[Saga:CALL] 외부 결제 API 호출 결과 - paymentId={}, result={}", paymentId, approved);
+            gateway.send(new CompleteForeignPaymentCommand(paymentId, approved, approved ? null : "Foreign payment failed"));
+        });
     }
 }
@@ -1,5 +1,13 @@
 package com.roopy.payment.port.out;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ForeignPaymentPort {
-    boolean requestForeignPayment(String paymentId, int amount, String currency);
-}
\ No newline at end of file
+
+    /**
+     * 외부 결제를 요청합니다. 호출 스레드는 응답을 기다리지 않습니다.
+     *
+     * @return 승인 여부 (호출 오류는 false로 완료)
+     */
+    CompletableFuture<Boolean> requestForeignPayment(String paymentId, int amount, String currency);
+}
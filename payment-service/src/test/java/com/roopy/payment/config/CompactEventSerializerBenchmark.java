@@ -0,0 +1,66 @@
+package com.roopy.payment.config;
+
+import com.roopy.payment.domain.event.PaymentCreatedEvent;
+import org.axonframework.serialization.AnnotationRevisionResolver;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.Serializer;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CBOR 직렬화기와 기존 Jackson(JSON) 직렬화기의 이벤트당 직렬화·역직렬화 시간을 측정합니다.
+ * <p>
+ * 실행 환경에 따라 값이 크게 달라지므로 {@code test}에서는 제외되며, {@code ./gradlew benchmark}로 실행합니다.
+ * 측정값은 표준 출력에 남기고, 검증은 결과가 올바르게 복원되는지만 확인합니다.
+ */
+@Tag("benchmark")
+class CompactEventSerializerBenchmark {
+
+	private static final int WARMUP = 50_000;
+
+	private static final int ITERATIONS = 200_000;
+
+	private static final PaymentCreatedEvent EVENT =
+			new PaymentCreatedEvent("PAY-20250101-000123", "user-0001", 13_000, "KRW");
+
+	private static long sink;
+
+	private final CompactEventSerializer compact =
+			CompactSerializerConfig.compactSerializer(Jackson2ObjectMapperBuilder::json, new AnnotationRevisionResolver());
+
+	private final JacksonSerializer json = JacksonSerializer.builder()
+			.objectMapper(Jackson2ObjectMapperBuilder.json().build())
+			.build();
+
+	@Test
+	void measuresSerializeAndDeserializeTime() {
+		report("json", json);
+		report("cbor", compact);
+
+		assertThat(sink).isPositive();
+	}
+
+	private static void report(String name, Serializer serializer) {
+		SerializedObject<byte[]> serialized = serializer.serialize(EVENT, byte[].class);
+		long serialize = nanosPerEvent(() -> sink += serializer.serialize(EVENT, byte[].class).getData().length);
+		long deserialize = nanosPerEvent(() -> sink += serializer.<byte[], PaymentCreatedEvent>deserialize(serialized).getAmount());
+
+		System.out.printf("[Benchmark] %s: %d B, serialize=%d ns/event, deserialize=%d ns/event%n",
+				name, serialized.getData().length, serialize, deserialize);
+	}
+
+	private static long nanosPerEvent(Runnable operation) {
+		for (int i = 0; i < WARMUP; i++) {
+			operation.run();
+		}
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			operation.run();
+		}
+		return (System.nanoTime() - start) / ITERATIONS;
+	}
+}
@@ -0,0 +1,60 @@
+package com.roopy.payment.config;
+
+import com.roopy.payment.domain.event.PaymentCreatedEvent;
+import org.axonframework.serialization.AnnotationRevisionResolver;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CBOR 이벤트 직렬화기의 호환성과 기존 Jackson(JSON) 대비 크기를 확인합니다.
+ * 직렬화·역직렬화 시간은 {@link CompactEventSerializerBenchmark}로 측정합니다.
+ */
+class CompactEventSerializerTests {
+
+	private static final PaymentCreatedEvent EVENT =
+			new PaymentCreatedEvent("PAY-20250101-000123", "user-0001", 13_000, "KRW");
+
+	private final CompactEventSerializer compact =
+			CompactSerializerConfig.compactSerializer(Jackson2ObjectMapperBuilder::json, new AnnotationRevisionResolver());
+
+	private final JacksonSerializer json = JacksonSerializer.builder()
+			.objectMapper(Jackson2ObjectMapperBuilder.json().build())
+			.build();
+
+	@Test
+	void roundTripsEventsInCbor() {
+		SerializedObject<byte[]> serialized = compact.serialize(EVENT, byte[].class);
+
+		assertThat(CompactEventSerializer.isJson(serialized.getData())).isFalse();
+		assertEvent(compact.deserialize(serialized));
+	}
+
+	@Test
+	void readsEventsStoredAsJson() {
+		SerializedObject<byte[]> stored = json.serialize(EVENT, byte[].class);
+
+		assertThat(CompactEventSerializer.isJson(stored.getData())).isTrue();
+		assertEvent(compact.deserialize(stored));
+	}
+
+	@Test
+	void cborIsSmallerThanJson() {
+		int jsonBytes = json.serialize(EVENT, byte[].class).getData().length;
+		int cborBytes = compact.serialize(EVENT, byte[].class).getData().length;
+
+		assertThat(cborBytes).as("json=%d B, cbor=%d B", jsonBytes, cborBytes).isLessThan(jsonBytes);
+	}
+
+	private static void assertEvent(Object deserialized) {
+		assertThat(deserialized).isInstanceOf(PaymentCreatedEvent.class);
+		PaymentCreatedEvent event = (PaymentCreatedEvent) deserialized;
+		assertThat(event.getPaymentId()).isEqualTo(EVENT.getPaymentId());
+		assertThat(event.getUserId()).isEqualTo(EVENT.getUserId());
+		assertThat(event.getAmount()).isEqualTo(EVENT.getAmount());
+		assertThat(event.getCurrency()).isEqualTo(EVENT.getCurrency());
+	}
+}
@@ -0,0 +1,67 @@
+package com.roopy.payment.config;
+
+import com.roopy.payment.domain.model.PaymentAggregate;
+import org.axonframework.eventhandling.GenericDomainEventMessage;
+import org.axonframework.eventsourcing.SnapshotTrigger;
+import org.axonframework.eventsourcing.Snapshotter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class ThresholdSnapshotTriggerDefinitionTests {
+
+	private final Snapshotter snapshotter = mock(Snapshotter.class);
+
+	private final ThresholdSnapshotTriggerDefinition definition =
+			new ThresholdSnapshotTriggerDefinition(snapshotter, 50, Duration.ofMillis(100));
+
+	@Test
+	void slowReplaySchedulesSnapshot() throws InterruptedException {
+		SnapshotTrigger trigger = definition.prepareTrigger(PaymentAggregate.class);
+
+		Thread.sleep(150);
+		trigger.eventHandled(event(0));
+		trigger.initializationFinished();
+
+		verify(snapshotter).scheduleSnapshot(PaymentAggregate.class, "payment-1");
+	}
+
+	@Test
+	void elapsedTimeAfterInitializationDoesNotScheduleSnapshot() throws InterruptedException {
+		GenericDomainEventMessage<String> replayed = event(0);
+		SnapshotTrigger trigger = definition.prepareTrigger(PaymentAggregate.class);
+		trigger.eventHandled(replayed);
+		trigger.initializationFinished();
+
+		// 캐시에 남아 있던 트리거를 다음 커맨드에서 재사용
+		Thread.sleep(150);
+		SnapshotTrigger cached = definition.reconfigure(PaymentAggregate.class, trigger);
+		cached.eventHandled(event(1));
+
+		verify(snapshotter, never()).scheduleSnapshot(any(), anyString());
+	}
+
+	@Test
+	void eventCountStillSchedulesSnapshotAfterInitialization() {
+		SnapshotTrigger trigger = definition.prepareTrigger(PaymentAggregate.class);
+		trigger.initializationFinished();
+
+		for (int i = 0; i < 100; i++) {
+			trigger.eventHandled(event(i));
+		}
+
+		verify(snapshotter, times(2)).scheduleSnapshot(PaymentAggregate.class, "payment-1");
+	}
+
+	private static GenericDomainEventMessage<String> event(long sequence) {
+		return new GenericDomainEventMessage<>("PaymentAggregate", "payment-1", sequence, "payload");
+	}
+
+}
@@ -0,0 +1,105 @@
+package com.roopy.payment.domain.model;
+
+import com.roopy.payment.config.ThresholdSnapshotTriggerDefinition;
+import com.roopy.payment.domain.command.CancelPaymentCommand;
+import com.roopy.payment.domain.command.CreatePaymentCommand;
+import org.axonframework.commandhandling.SimpleCommandBus;
+import org.axonframework.commandhandling.gateway.CommandGateway;
+import org.axonframework.commandhandling.gateway.DefaultCommandGateway;
+import org.axonframework.eventhandling.DomainEventMessage;
+import org.axonframework.eventsourcing.AggregateSnapshotter;
+import org.axonframework.eventsourcing.EventSourcingRepository;
+import org.axonframework.eventsourcing.GenericAggregateFactory;
+import org.axonframework.eventsourcing.eventstore.EmbeddedEventStore;
+import org.axonframework.eventsourcing.eventstore.inmemory.InMemoryEventStorageEngine;
+import org.axonframework.modelling.command.AggregateAnnotationCommandHandler;
+import org.axonframework.serialization.SerializedObject;
+import org.axonframework.serialization.json.JacksonSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 스냅샷 트리거를 적용하면 이벤트 이력이 길어져도 애그리거트 로딩 시 재생하는 이벤트 수가 일정한지 검증합니다.
+ */
+class PaymentAggregateSnapshotTests {
+
+	private static final int EVENT_THRESHOLD = 50;
+
+	@Test
+	void loadReplaysOnlyTailSinceLastSnapshotRegardlessOfHistoryLength() {
+		Map<Integer, Long> replayedByHistory = new LinkedHashMap<>();
+
+		for (int history : new int[]{100, 1_000, 10_000}) {
+			PaymentFixture fixture = new PaymentFixture(EVENT_THRESHOLD);
+			String paymentId = "payment-" + history;
+			fixture.gateway.sendAndWait(new CreatePaymentCommand(paymentId, "user-1", 1_000, "KRW"));
+			for (int i = 1; i < history; i++) {
+				fixture.gateway.sendAndWait(new CancelPaymentCommand(paymentId, "reason-" + i));
+			}
+
+			// 첫 항목이 스냅샷이고 그 뒤로 기준 미만의 이벤트만 남아야 함
+			DomainEventMessage<?> first = fixture.eventStore.readEvents(paymentId).peek();
+			assertThat(first.getPayloadType()).isEqualTo(PaymentAggregate.class);
+			replayedByHistory.put(history, fixture.eventStore.readEvents(paymentId).asStream().count());
+		}
+
+		// 이력이 100배 길어져도 로딩 시 재생하는 이벤트 수는 기준 이하로 유지되어야 함
+		assertThat(replayedByHistory).allSatisfy((history, replayed) -> assertThat(replayed)
+				.as("history=%d", history)
+				.isLessThanOrEqualTo(EVENT_THRESHOLD));
+	}
+
+	@Test
+	void snapshotSerializesOnlyPresentStateFields() {
+		PaymentFixture fixture = new PaymentFixture(1);
+		fixture.gateway.sendAndWait(new CreatePaymentCommand("payment-1", "user-1", 1_000, null));
+		fixture.gateway.sendAndWait(new CancelPaymentCommand("payment-1", "reason"));
+
+		JacksonSerializer serializer = JacksonSerializer.defaultSerializer();
+		Object snapshot = fixture.eventStore.readEvents("payment-1").peek().getPayload();
+		assertThat(snapshot).isInstanceOf(PaymentAggregate.class);
+		SerializedObject<byte[]> serialized = serializer.serialize(snapshot, byte[].class);
+		String json = new String(serialized.getData(), StandardCharsets.UTF_8);
+
+		assertThat(json).isEqualTo("{\"paymentId\":\"payment-1\",\"userId\":\"user-1\",\"amount\":1000,\"status\":\"CANCELLED\"}");
+		PaymentAggregate restored = serializer.deserialize(serialized);
+		assertThat(serializer.serialize(restored, byte[].class).getData()).isEqualTo(serialized.getData());
+	}
+
+	/**
+	 * 메모리 이벤트 저장소와 동기 Snapshotter로 구성한 PaymentAggregate 실행 환경입니다.
+	 */
+	private static final class PaymentFixture {
+
+		private final EmbeddedEventStore eventStore = EmbeddedEventStore.builder()
+				.storageEngine(new InMemoryEventStorageEngine())
+				.build();
+
+		private final CommandGateway gateway;
+
+		private PaymentFixture(int eventThreshold) {
+			AggregateSnapshotter snapshotter = AggregateSnapshotter.builder()
+					.eventStore(eventStore)
+					.aggregateFactories(new GenericAggregateFactory<>(PaymentAggregate.class))
+					.build();
+			EventSourcingRepository<PaymentAggregate> repository = EventSourcingRepository.builder(PaymentAggregate.class)
+					.eventStore(eventStore)
+					.snapshotTriggerDefinition(new ThresholdSnapshotTriggerDefinition(snapshotter, eventThreshold, Duration.ofMinutes(1)))
+					.build();
+
+			SimpleCommandBus commandBus = SimpleCommandBus.builder().build();
+			AggregateAnnotationCommandHandler.<PaymentAggregate>builder()
+					.aggregateType(PaymentAggregate.class)
+					.repository(repository)
+					.build()
+					.subscribe(commandBus);
+			gateway = DefaultCommandGateway.builder().commandBus(commandBus).build();
+		}
+	}
+}
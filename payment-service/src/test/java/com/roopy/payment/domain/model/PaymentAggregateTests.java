@@ -0,0 +1,70 @@
+package com.roopy.payment.domain.model;
+
+import com.roopy.payment.domain.command.CancelPaymentCommand;
+import com.roopy.payment.domain.command.CompleteForeignPaymentCommand;
+import com.roopy.payment.domain.event.ForeignPaymentApprovedEvent;
+import com.roopy.payment.domain.event.ForeignPaymentFailedEvent;
+import com.roopy.payment.domain.event.PaymentCancelledEvent;
+import com.roopy.payment.domain.event.PaymentCreatedEvent;
+import org.axonframework.test.aggregate.AggregateTestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 외부 결제 응답과 타임아웃이 경합해도 먼저 반영된 결과만 남는지 검증합니다.
+ */
+class PaymentAggregateTests {
+
+	private static final String PAYMENT_ID = "payment-1";
+
+	private static final PaymentCreatedEvent CREATED = new PaymentCreatedEvent(PAYMENT_ID, "user-1", 1_000, "KRW");
+
+	private AggregateTestFixture<PaymentAggregate> fixture;
+
+	@BeforeEach
+	void setUp() {
+		fixture = new AggregateTestFixture<>(PaymentAggregate.class);
+	}
+
+	@Test
+	void approvalIsApplied() {
+		fixture.given(CREATED)
+				.when(new CompleteForeignPaymentCommand(PAYMENT_ID, true, null))
+				.expectEvents(new ForeignPaymentApprovedEvent(PAYMENT_ID));
+	}
+
+	@Test
+	void timeoutAfterApprovalDoesNotFailApprovedPayment() {
+		fixture.given(CREATED, new ForeignPaymentApprovedEvent(PAYMENT_ID))
+				.when(new CompleteForeignPaymentCommand(PAYMENT_ID, false, "Foreign payment timed out"))
+				.expectSuccessfulHandlerExecution()
+				.expectNoEvents();
+	}
+
+	@Test
+	void lateApprovalAfterTimeoutIsIgnored() {
+		fixture.given(CREATED, new ForeignPaymentFailedEvent(PAYMENT_ID, "Foreign payment timed out"))
+				.when(new CompleteForeignPaymentCommand(PAYMENT_ID, true, null))
+				.expectSuccessfulHandlerExecution()
+				.expectNoEvents();
+	}
+
+	@Test
+	void lateApprovalAfterCancellationIsIgnored() {
+		fixture.given(CREATED, new ForeignPaymentFailedEvent(PAYMENT_ID, "Foreign payment timed out"),
+						new PaymentCancelledEvent(PAYMENT_ID, "Foreign payment timed out"))
+				.when(new CompleteForeignPaymentCommand(PAYMENT_ID, true, null))
+				.expectNoEvents();
+	}
+
+	@Test
+	void failureIsAppliedBeforeCancellation() {
+		fixture.given(CREATED)
+				.when(new CompleteForeignPaymentCommand(PAYMENT_ID, false, "Foreign payment failed"))
+				.expectEvents(new ForeignPaymentFailedEvent(PAYMENT_ID, "Foreign payment failed"));
+		fixture.given(CREATED, new ForeignPaymentFailedEvent(PAYMENT_ID, "Foreign payment failed"))
+				.when(new CancelPaymentCommand(PAYMENT_ID, "Foreign payment failed"))
+				.expectEvents(new PaymentCancelledEvent(PAYMENT_ID, "Foreign payment failed"));
+	}
+
+}
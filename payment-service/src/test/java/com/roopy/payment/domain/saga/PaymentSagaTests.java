@@ -0,0 +1,93 @@
+package com.roopy.payment.domain.saga;
+
+import com.roopy.payment.config.PaymentSagaProperties;
+import com.roopy.payment.domain.command.CancelPaymentCommand;
+import com.roopy.payment.domain.command.CompleteForeignPaymentCommand;
+import com.roopy.payment.domain.event.ForeignPaymentApprovedEvent;
+import com.roopy.payment.domain.event.ForeignPaymentFailedEvent;
+import com.roopy.payment.domain.event.PaymentCreatedEvent;
+import com.roopy.payment.port.out.ForeignPaymentPort;
+import org.axonframework.test.saga.SagaTestFixture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PaymentSagaTests {
+
+	private static final String PAYMENT_ID = "payment-1";
+
+	private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+	private static final PaymentCreatedEvent CREATED = new PaymentCreatedEvent(PAYMENT_ID, "user-1", 1_000, "KRW");
+
+	private final ForeignPaymentPort foreignPaymentPort = mock(ForeignPaymentPort.class);
+
+	private final CompletableFuture<Boolean> foreignReply = new CompletableFuture<>();
+
+	private SagaTestFixture<PaymentSaga> fixture;
+
+	@BeforeEach
+	void setUp() {
+		PaymentSagaProperties properties = new PaymentSagaProperties();
+		properties.setForeignPaymentTimeout(TIMEOUT);
+		when(foreignPaymentPort.requestForeignPayment(PAYMENT_ID, 1_000, "KRW")).thenReturn(foreignReply);
+
+		fixture = new SagaTestFixture<>(PaymentSaga.class);
+		fixture.registerResource(foreignPaymentPort);
+		fixture.registerResource(properties);
+	}
+
+	@Test
+	void createdPaymentCallsForeignServiceAndSchedulesTimeout() {
+		foreignReply.complete(true);
+
+		fixture.givenNoPriorActivity()
+				.whenPublishingA(CREATED)
+				.expectActiveSagas(1)
+				.expectScheduledDeadlineWithName(TIMEOUT, "foreignPaymentTimeout")
+				.expectDispatchedCommands(new CompleteForeignPaymentCommand(PAYMENT_ID, true, null));
+	}
+
+	@Test
+	void approvalEndsSagaAndCancelsTimeout() {
+		fixture.givenAPublished(CREATED)
+				.whenPublishingA(new ForeignPaymentApprovedEvent(PAYMENT_ID))
+				.expectActiveSagas(0)
+				.expectNoScheduledDeadlines()
+				.expectNoDispatchedCommands();
+	}
+
+	@Test
+	void failureCancelsPaymentAndEndsSaga() {
+		fixture.givenAPublished(CREATED)
+				.whenPublishingA(new ForeignPaymentFailedEvent(PAYMENT_ID, "Foreign payment failed"))
+				.expectActiveSagas(0)
+				.expectNoScheduledDeadlines()
+				.expectDispatchedCommands(new CancelPaymentCommand(PAYMENT_ID, "Foreign payment failed"));
+	}
+
+	@Test
+	void timeoutReportsFailureInsteadOfCancellingDirectly() throws Exception {
+		fixture.givenAPublished(CREATED)
+				.whenTimeElapses(TIMEOUT.plusSeconds(1))
+				.expectTriggeredDeadlinesWithName("foreignPaymentTimeout")
+				.expectActiveSagas(1)
+				.expectDispatchedCommands(new CompleteForeignPaymentCommand(PAYMENT_ID, false, "Foreign payment timed out"));
+	}
+
+	@Test
+	void approvalWinningRaceWithTimeoutEndsSagaWithoutCancel() throws Exception {
+		// 데드라인이 실행되었지만 승인이 먼저 반영되어 타임아웃의 실패 반영 명령은 결제에서 무시됨
+		fixture.givenAPublished(CREATED)
+				.andThenTimeElapses(TIMEOUT.plusSeconds(1))
+				.whenPublishingA(new ForeignPaymentApprovedEvent(PAYMENT_ID))
+				.expectActiveSagas(0)
+				.expectNoDispatchedCommands();
+	}
+
+}
@@ -0,0 +1,123 @@
+package com.roopy.adapter.kafka.codec;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.domain.message.PaymentResultMessage;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * 결제 메시지의 JSON 형식을 토큰 단위로 읽고 쓰는 스트리밍 리더/라이터입니다.
+ * <p>
+ * {@code ObjectMapper.readTree()} 처럼 메시지마다 {@code JsonNode} 트리를 만들지 않고,
+ * 필요한 필드만 골라 바로 record 로 옮깁니다. 알 수 없는 필드는 건너뜁니다.
+ * {@link JsonFactory}는 스레드 안전하며 파서 버퍼를 재사용하므로 하나의 인스턴스를 공유합니다.
+ */
+final class PaymentMessageJson {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    private PaymentMessageJson() {
+    }
+
+    static PaymentRequestMessage readRequest(byte[] data) {
+        String correlationId = null;
+        String orderId = null;
+        int paymentAmt = 0;
+
+        try (JsonParser parser = FACTORY.createParser(data)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "correlationId" -> correlationId = textOrNull(parser);
+                    case "orderId" -> orderId = textOrNull(parser);
+                    case "paymentAmt" -> paymentAmt = parser.getValueAsInt();
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("결제 요청 JSON 파싱 실패", e);
+        }
+        return new PaymentRequestMessage(correlationId, orderId, paymentAmt);
+    }
+
+    static PaymentResultMessage readResult(byte[] data) {
+        String correlationId = null;
+        String orderId = null;
+        String result = null;
+
+        try (JsonParser parser = FACTORY.createParser(data)) {
+            expectObject(parser);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "correlationId" -> correlationId = textOrNull(parser);
+                    case "orderId" -> orderId = textOrNull(parser);
+                    case "result" -> result = textOrNull(parser);
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("결제 결과 JSON 파싱 실패", e);
+        }
+        return new PaymentResultMessage(correlationId, orderId, result);
+    }
+
+    static byte[] write(PaymentRequestMessage message) {
+        try (ByteArrayBuilder out = new ByteArrayBuilder(64);
+             JsonGenerator generator = FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            writeStringField(generator, "correlationId", message.correlationId());
+            writeStringField(generator, "orderId", message.orderId());
+            generator.writeNumberField("paymentAmt", message.paymentAmt());
+            generator.writeEndObject();
+            generator.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("결제 요청 JSON 변환 실패", e);
+        }
+    }
+
+    static byte[] write(PaymentResultMessage message) {
+        try (ByteArrayBuilder out = new ByteArrayBuilder(64);
+             JsonGenerator generator = FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            writeStringField(generator, "correlationId", message.correlationId());
+            writeStringField(generator, "orderId", message.orderId());
+            writeStringField(generator, "result", message.result());
+            generator.writeEndObject();
+            generator.flush();
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("결제 결과 JSON 변환 실패", e);
+        }
+    }
+
+    private static void expectObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new SerializationException("결제 메시지는 JSON 객체여야 합니다.");
+        }
+    }
+
+    private static String textOrNull(JsonParser parser) throws IOException {
+        if (parser.currentToken().isStructStart()) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsString();
+    }
+
+    private static void writeStringField(JsonGenerator generator, String name, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(name, value);
+        }
+    }
+}
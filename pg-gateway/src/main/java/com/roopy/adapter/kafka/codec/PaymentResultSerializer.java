@@ -0,0 +1,35 @@
+package com.roopy.adapter.kafka.codec;
+
+import com.roopy.domain.message.PaymentResultMessage;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.util.Map;
+
+/**
+ * 결제 결과 메시지 Kafka Serializer 입니다.
+ * <p>
+ * 기본은 바이너리 형식이며, 프로듀서 설정 {@code payment.codec.format=json} 으로 디버깅용 JSON 형식을 사용할 수 있습니다.
+ */
+public class PaymentResultSerializer implements Serializer<PaymentResultMessage> {
+
+    /**
+     * 인코딩 형식 설정 키 (binary | json)
+     */
+    public static final String FORMAT_CONFIG = "payment.codec.format";
+
+    private boolean json;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object format = configs.get(FORMAT_CONFIG);
+        this.json = format != null && "json".equalsIgnoreCase(format.toString());
+    }
+
+    @Override
+    public byte[] serialize(String topic, PaymentResultMessage data) {
+        if (data == null) {
+            return null;
+        }
+        return json ? PaymentMessageCodec.toJson(data) : PaymentMessageCodec.encode(data);
+    }
+}
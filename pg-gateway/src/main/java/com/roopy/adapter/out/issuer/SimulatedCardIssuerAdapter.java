@@ -0,0 +1,103 @@
+package com.roopy.adapter.out.issuer;
+
+import com.roopy.config.IssuerSimulatorProperties;
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.port.out.CardIssuerPort;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 카드사 승인을 시뮬레이션하는 어댑터입니다.
+ * <p>
+ * 설정된 분포(고정/정규/파레토)로 응답 지연을 샘플링하고, 거절·타임아웃 비율에 따라 결과를 정합니다.
+ * 지연은 {@code Thread.sleep}이 아니라 스케줄러로 Future 완료 시점을 미루는 방식이므로,
+ * 요청을 넘긴 리스너·작업 스레드는 지연 동안 다른 요청을 처리할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class SimulatedCardIssuerAdapter implements CardIssuerPort {
+
+    public static final String SUCCESS = "success";
+    public static final String DECLINED = "declined";
+    public static final String TIMEOUT = "timeout";
+
+    private final IssuerSimulatorProperties properties;
+
+    private final ScheduledExecutorService scheduler;
+
+    public SimulatedCardIssuerAdapter(IssuerSimulatorProperties properties) {
+        this.properties = properties;
+        this.scheduler = Executors.newScheduledThreadPool(properties.getSchedulerThreads(), new SchedulerThreadFactory());
+    }
+
+    @Override
+    public CompletableFuture<String> authorize(PaymentRequestMessage request) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long timeoutMillis = properties.getTimeout().toMillis();
+
+        String result;
+        long delayMillis;
+        double roll = random.nextDouble();
+        if (roll < properties.getTimeoutRate()) {
+            result = TIMEOUT;
+            delayMillis = timeoutMillis;
+        } else {
+            result = roll < properties.getTimeoutRate() + properties.getDeclineRate() ? DECLINED : SUCCESS;
+            delayMillis = sampleLatencyMillis(random);
+            if (delayMillis >= timeoutMillis) {
+                // 지연 꼬리가 타임아웃을 넘으면 타임아웃 시점에 포기
+                result = TIMEOUT;
+                delayMillis = timeoutMillis;
+            }
+        }
+
+        log.debug("[PG Gateway] 카드사 승인 시뮬레이션 - orderId={}, paymentAmt={}, result={}, latency={}ms",
+                request.orderId(), request.paymentAmt(), result, delayMillis);
+
+        if (delayMillis <= 0) {
+            return CompletableFuture.completedFuture(result);
+        }
+        CompletableFuture<String> future = new CompletableFuture<>();
+        String finalResult = result;
+        scheduler.schedule(() -> future.complete(finalResult), delayMillis, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private long sampleLatencyMillis(ThreadLocalRandom random) {
+        IssuerSimulatorProperties.Latency latency = properties.getLatency();
+        return switch (latency.getDistribution()) {
+            case FIXED -> latency.getFixed().toMillis();
+            case NORMAL -> Math.max(0L, Math.round(
+                    latency.getMean().toMillis() + random.nextGaussian() * latency.getStdDev().toMillis()));
+            // 역변환 샘플링: scale / U^(1/shape)
+            case PARETO -> Math.round(
+                    latency.getParetoScale().toMillis() / Math.pow(1.0 - random.nextDouble(), 1.0 / latency.getParetoShape()));
+        };
+    }
+
+    private static final class SchedulerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "card-issuer-simulator-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
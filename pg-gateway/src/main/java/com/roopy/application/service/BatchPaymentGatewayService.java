@@ -0,0 +1,163 @@
+package com.roopy.application.service;
+
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.domain.message.PaymentResultMessage;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 요청을 poll 단위로 묶어 처리하는 PG Gateway 서비스입니다.
+ * <p>
+ * 한 번의 poll로 받은 결제 요청의 카드사 승인을 동시에 요청하고 모든 응답을 받은 뒤, 결제 결과 전송과 소비 오프셋 커밋을
+ * 하나의 Kafka 트랜잭션({@code sendOffsetsToTransaction})으로 처리합니다.
+ * <ul>
+ *     <li>결과 메시지와 오프셋이 함께 커밋되므로 read_committed 소비자 기준 exactly-once 처리가 보장됩니다.</li>
+ *     <li>트랜잭션 커밋 횟수가 메시지 수가 아닌 poll 횟수에 비례하므로 처리량이 크게 늘어납니다.</li>
+ *     <li>리스너는 카드사 응답을 기다리지 않고 바로 반환하며, 트랜잭션은 결과 커밋 스레드에서 처리한 뒤 acknowledge 합니다.
+ *     컨테이너({@code asyncAcks})는 acknowledge 될 때까지 소비를 멈추므로 묶음은 poll 순서대로 커밋됩니다.</li>
+ * </ul>
+ * 처리하지 못한 결제 요청은 {@code error} 결과로 응답합니다.
+ * 트랜잭션이 실패하면 {@value #COMMIT_ATTEMPTS}회까지 다시 시도하고, 그래도 실패하면 acknowledge 하지 않고
+ * 리스너를 재시작하여({@link ListenerRedelivery}) 커밋된 오프셋부터 묶음을 다시 받습니다.
+ * {@code pg-gateway.listener.mode=batch} (기본값) 일 때 활성화됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pg-gateway.listener", name = "mode", havingValue = "batch", matchIfMissing = true)
+public class BatchPaymentGatewayService {
+
+    // 결과 전송 트랜잭션 최대 시도 횟수
+    static final int COMMIT_ATTEMPTS = 3;
+
+    static final String LISTENER_ID = "pg-gateway-batch";
+
+    // Kafka 메시지 전송을 위한 KafkaTemplate
+    private final KafkaTemplate<String, PaymentResultMessage> kafkaTemplate;
+
+    // 결제 요청 → 결제 결과 변환
+    private final PaymentRequestProcessor paymentRequestProcessor;
+
+    // 결과를 커밋하지 못한 묶음 재수신
+    private final ListenerRedelivery listenerRedelivery;
+
+    // 결과 전송 트랜잭션 전용 스레드 (카드사 시뮬레이터 스케줄러 스레드를 붙잡지 않음)
+    private final ExecutorService committer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pg-gateway-batch-commit");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 한 번의 poll로 수신한 결제 요청 묶음의 카드사 승인을 요청하고 바로 반환합니다.
+     *
+     * @param records 결제 요청 메시지 묶음
+     * @param consumer 오프셋을 트랜잭션에 포함하기 위한 Consumer (그룹 메타데이터 조회용)
+     * @param acknowledgment 결과 커밋 후 다음 poll 을 허용하기 위한 Acknowledgment
+     */
+    @KafkaListener(id = LISTENER_ID, topics = "test-topic", groupId = "pg-gateway-group",
+            containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumePaymentRequests(List<ConsumerRecord<String, PaymentRequestMessage>> records, Consumer<?, ?> consumer,
+                                       Acknowledgment acknowledgment) {
+        log.info("[PG Gateway] 결제 요청 묶음 수신 - {}건", records.size());
+
+        List<CompletableFuture<ProducerRecord<String, PaymentResultMessage>>> pending = new ArrayList<>(records.size());
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+
+        // 묶음 전체의 카드사 승인을 동시에 요청 (묶음 처리 시간은 지연의 합이 아닌 최댓값)
+        for (ConsumerRecord<String, PaymentRequestMessage> record : records) {
+            try {
+                pending.add(paymentRequestProcessor.process(record)
+                        .exceptionally(e -> {
+                            log.error("[PG Gateway] 카드사 승인 요청 중 오류 - offset={}, message={}", record.offset(), record.value(), e);
+                            return paymentRequestProcessor.error(record);
+                        }));
+            } catch (Exception e) {
+                // 처리할 수 없는 메시지는 오류 결과로 응답
+                log.error("[PG Gateway] 결제 요청 처리 중 오류 - offset={}, message={}", record.offset(), record.value(), e);
+                pending.add(CompletableFuture.completedFuture(paymentRequestProcessor.error(record)));
+            }
+            offsets.put(new TopicPartition(record.topic(), record.partition()),
+                    new OffsetAndMetadata(record.offset() + 1));
+        }
+
+        // Consumer는 컨슈머 스레드에서만 사용할 수 있으므로 그룹 메타데이터를 미리 조회
+        ConsumerGroupMetadata groupMetadata = consumer.groupMetadata();
+
+        // 모든 응답이 오면 결과 커밋 스레드에서 트랜잭션을 처리하고, 커밋된 경우에만 acknowledge
+        CompletableFuture.allOf(pending.toArray(new CompletableFuture<?>[0]))
+                .thenApplyAsync(ignored -> commit(pending, offsets, groupMetadata), committer)
+                .whenComplete((committed, ex) -> {
+                    if (ex == null && committed) {
+                        acknowledgment.acknowledge();
+                        return;
+                    }
+                    if (ex != null) {
+                        log.error("[PG Gateway] 결제 결과 커밋 중 오류 - {}", offsets, ex);
+                    }
+                    // acknowledge 하면 컨테이너가 결과 없이 오프셋을 커밋하므로, 리스너를 재시작해 묶음을 다시 받음
+                    listenerRedelivery.redeliver(LISTENER_ID);
+                });
+    }
+
+    /**
+     * @return 결과와 오프셋이 커밋되었으면 true
+     */
+    private boolean commit(List<CompletableFuture<ProducerRecord<String, PaymentResultMessage>>> pending,
+                        Map<TopicPartition, OffsetAndMetadata> offsets, ConsumerGroupMetadata groupMetadata) {
+        List<ProducerRecord<String, PaymentResultMessage>> results = new ArrayList<>(pending.size());
+        for (CompletableFuture<ProducerRecord<String, PaymentResultMessage>> future : pending) {
+            // 모든 Future가 완료된 뒤 호출되므로 기다리지 않음
+            results.add(future.join());
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // 결과 메시지 전송과 소비 오프셋 커밋을 하나의 트랜잭션으로 처리
+                kafkaTemplate.executeInTransaction(kt -> {
+                    results.forEach(kt::send);
+                    kt.sendOffsetsToTransaction(offsets, groupMetadata);
+                    return true;
+                });
+                log.info("[PG Gateway] 결제 결과 {}건 전송 및 오프셋 커밋 완료 - {}", results.size(), offsets);
+                return true;
+            } catch (RuntimeException e) {
+                if (attempt >= COMMIT_ATTEMPTS) {
+                    log.error("[PG Gateway] 결제 결과 트랜잭션 실패, 묶음을 다시 받습니다 - {}", offsets, e);
+                    return false;
+                }
+                log.warn("[PG Gateway] 결제 결과 트랜잭션 실패, 다시 시도합니다 ({}/{})", attempt, COMMIT_ATTEMPTS, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        committer.shutdown();
+        if (!committer.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[PG Gateway] 종료 대기 시간 내에 커밋되지 않은 결제 결과 묶음이 있습니다.");
+            committer.shutdownNow();
+        }
+    }
+}
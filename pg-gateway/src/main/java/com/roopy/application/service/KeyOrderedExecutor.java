@@ -0,0 +1,103 @@
+package com.roopy.application.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 작업은 제출 순서대로, 다른 키의 작업은 병렬로 실행하는 실행기입니다.
+ * <p>
+ * 키마다 마지막으로 제출된 작업의 Future(레인의 꼬리)를 보관하고, 새 작업을 그 뒤에 이어 붙입니다.
+ * 작업은 비동기 결과를 반환하므로, 작업 스레드는 외부 응답을 기다리는 동안 다른 키의 작업을 처리합니다.
+ * 레인의 마지막 작업이 끝나면 꼬리를 제거하므로, 보관되는 키 수는 실행 중이거나 대기 중인 키 수로 제한됩니다.
+ * 키가 {@code null}인 작업은 순서 보장 없이 바로 작업 스레드 풀에 제출됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "pg-gateway.listener", name = "mode", havingValue = "parallel")
+public class KeyOrderedExecutor {
+
+    private final Map<String, CompletableFuture<Void>> tails = new ConcurrentHashMap<>();
+
+    private final ExecutorService workers;
+
+    public KeyOrderedExecutor(@Value("${pg-gateway.parallel.concurrency:16}") int concurrency) {
+        this.workers = Executors.newFixedThreadPool(concurrency, new WorkerThreadFactory());
+        log.info("[PG Gateway] 키 순서 보장 병렬 처리 - 작업 스레드 {}개", concurrency);
+    }
+
+    /**
+     * 작업을 키의 레인 뒤에 이어서 실행합니다.
+     *
+     * @param key 순서를 보장할 키 (예: 주문 ID)
+     * @param task 실행할 비동기 작업 (작업 스레드에서 시작되며, 반환한 Future가 완료되어야 같은 키의 다음 작업이 시작됨)
+     * @return 작업이 끝나면 완료되는 Future (작업 예외는 이 Future로 전달되며, 같은 키의 다음 작업은 계속 실행됨)
+     */
+    public CompletableFuture<Void> submit(String key, Supplier<? extends CompletionStage<Void>> task) {
+        if (key == null) {
+            return start(CompletableFuture.completedFuture(null), task);
+        }
+
+        CompletableFuture<Void> tail = tails.compute(key, (k, previous) -> start(previous == null
+                ? CompletableFuture.completedFuture(null)
+                // 앞선 작업의 성공·실패와 무관하게 그 다음에 실행
+                : previous.handle((result, ex) -> null), task));
+
+        // 레인의 마지막 작업이면 꼬리를 제거 (그 사이 새 작업이 붙었으면 유지)
+        tail.whenComplete((result, ex) -> tails.remove(key, tail));
+        return tail;
+    }
+
+    /**
+     * 실행 중이거나 대기 중인 작업이 있는 키 수를 반환합니다.
+     */
+    public int activeKeys() {
+        return tails.size();
+    }
+
+    /**
+     * 작업 스레드 풀을 반환합니다. 비동기 작업의 후속 처리를 작업 스레드로 되돌릴 때 사용합니다.
+     */
+    public Executor executor() {
+        return workers;
+    }
+
+    private CompletableFuture<Void> start(CompletableFuture<?> previous, Supplier<? extends CompletionStage<Void>> task) {
+        return previous.thenComposeAsync(ignored -> task.get(), workers);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[PG Gateway] 종료 대기 시간 내에 끝나지 않은 결제 요청 작업이 있습니다.");
+            workers.shutdownNow();
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "pg-gateway-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
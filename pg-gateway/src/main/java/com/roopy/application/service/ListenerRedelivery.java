@@ -0,0 +1,48 @@
+package com.roopy.application.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 결과를 전송하지 못한 결제 요청을 다시 받기 위해 리스너 컨테이너를 재시작하는 컴포넌트입니다.
+ * <p>
+ * 결과 전송은 컨슈머 스레드 밖에서 끝나므로 {@code nack}·{@code seek}으로 되돌릴 수 없고, acknowledge 하면 결과 없이
+ * 오프셋이 커밋됩니다. 그래서 실패한 메시지는 acknowledge 하지 않은 채 컨테이너를 멈췄다 다시 시작하여,
+ * 마지막으로 커밋된 오프셋부터 다시 받습니다. (acknowledge 되지 않은 오프셋은 멈출 때 커밋되지 않습니다.)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ListenerRedelivery {
+
+    private final KafkaListenerEndpointRegistry registry;
+
+    // 재시작 중인 리스너 ID (여러 메시지가 동시에 실패해도 한 번만 재시작)
+    private final Set<String> restarting = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 리스너 컨테이너를 재시작합니다. 멈춰 있거나 이미 재시작 중이면 무시합니다.
+     *
+     * @param listenerId {@code @KafkaListener}의 id
+     */
+    public void redeliver(String listenerId) {
+        MessageListenerContainer container = registry.getListenerContainer(listenerId);
+        if (container == null || !container.isRunning() || !restarting.add(listenerId)) {
+            return;
+        }
+        log.warn("[PG Gateway] 결과를 전송하지 못한 결제 요청을 다시 받기 위해 리스너를 재시작합니다 - listenerId={}", listenerId);
+        container.stop(() -> {
+            try {
+                container.start();
+            } finally {
+                restarting.remove(listenerId);
+            }
+        });
+    }
+}
@@ -0,0 +1,95 @@
+package com.roopy.application.service;
+
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.domain.message.PaymentResultMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 한 파티션의 결제 요청을 작업 스레드 풀로 나누어 병렬 처리하는 PG Gateway 서비스입니다.
+ * <p>
+ * 컨슈머 스레드는 레코드를 {@link KeyOrderedExecutor}에 넘기기만 하고 바로 다음 레코드를 받습니다.
+ * <ul>
+ *     <li>같은 주문 ID(메시지 키)의 요청은 수신 순서대로, 다른 주문의 요청은 동시에 처리됩니다.</li>
+ *     <li>각 레코드는 처리가 끝나면 순서와 무관하게 acknowledge 되며, 컨테이너({@code asyncAcks})는
+ *     앞선 레코드가 모두 끝난 연속 구간의 마지막 오프셋까지만 커밋합니다.</li>
+ *     <li>이전 poll의 레코드가 모두 커밋될 때까지 컨테이너가 소비를 멈추므로, 진행 중인 작업 수는
+ *     {@code max-poll-records}로 제한됩니다.</li>
+ * </ul>
+ * 결과 전송과 오프셋 커밋이 하나의 트랜잭션이 아니므로 재시작·리밸런스 시 결과가 중복 전송될 수 있습니다(at-least-once).
+ * card-service는 이미 완료된 상관관계 ID의 중복 결과를 무시합니다.
+ * 처리하지 못한 결제 요청은 {@code error} 결과로 응답하고, 결과 전송에 실패한 레코드는 acknowledge 하지 않고
+ * 리스너를 재시작하여({@link ListenerRedelivery}) 커밋된 오프셋부터 다시 받습니다.
+ * {@code pg-gateway.listener.mode=parallel} 일 때 활성화됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pg-gateway.listener", name = "mode", havingValue = "parallel")
+public class ParallelPaymentGatewayService {
+
+    static final String LISTENER_ID = "pg-gateway-parallel";
+
+    // Kafka 메시지 전송을 위한 KafkaTemplate
+    private final KafkaTemplate<String, PaymentResultMessage> kafkaTemplate;
+
+    // 결제 요청 → 결제 결과 변환
+    private final PaymentRequestProcessor paymentRequestProcessor;
+
+    // 주문 ID별 순서 보장 병렬 실행기
+    private final KeyOrderedExecutor keyOrderedExecutor;
+
+    // 결과를 전송하지 못한 요청 재수신
+    private final ListenerRedelivery listenerRedelivery;
+
+    /**
+     * 결제 요청을 주문 ID 레인에 넣고 바로 반환합니다.
+     *
+     * @param record 결제 요청 메시지
+     * @param acknowledgment 처리 완료 후 오프셋 커밋을 요청하기 위한 Acknowledgment
+     */
+    @KafkaListener(id = LISTENER_ID, topics = "test-topic", groupId = "pg-gateway-group",
+            containerFactory = "parallelKafkaListenerContainerFactory")
+    public void consumePaymentRequest(ConsumerRecord<String, PaymentRequestMessage> record, Acknowledgment acknowledgment) {
+        log.debug("[PG Gateway] 결제 요청 수신 - partition={}, offset={}, key={}", record.partition(), record.offset(), record.key());
+
+        keyOrderedExecutor.submit(record.key(), () -> handle(record))
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        acknowledgment.acknowledge();
+                        return;
+                    }
+                    // acknowledge 하면 결과 없이 오프셋이 커밋되므로, 리스너를 재시작해 커밋된 오프셋부터 다시 받음
+                    log.error("[PG Gateway] 결제 결과 전송 실패 - offset={}", record.offset(), ex);
+                    listenerRedelivery.redeliver(LISTENER_ID);
+                });
+    }
+
+    private CompletableFuture<Void> handle(ConsumerRecord<String, PaymentRequestMessage> record) {
+        // 카드사 응답을 기다리는 동안 작업 스레드는 다른 주문의 요청을 처리하고,
+        // 응답이 오면 결과 전송은 다시 작업 스레드에서 수행 (시뮬레이터 스케줄러 스레드를 붙잡지 않음)
+        return CompletableFuture.completedFuture(record)
+                .thenCompose(paymentRequestProcessor::process)
+                .exceptionally(e -> {
+                    // 처리할 수 없는 메시지는 오류 결과로 응답
+                    log.error("[PG Gateway] 결제 요청 처리 중 오류 - offset={}, message={}", record.offset(), record.value(), e);
+                    return paymentRequestProcessor.error(record);
+                })
+                .thenAcceptAsync(result -> {
+                    kafkaTemplate.executeInTransaction(kt -> {
+                        kt.send(result);
+                        return true;
+                    });
+                    log.info("[PG Gateway] 결제 결과 전송 - {}", result.value());
+                }, keyOrderedExecutor.executor());
+    }
+}
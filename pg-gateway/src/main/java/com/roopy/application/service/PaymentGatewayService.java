@@ -1,66 +1,111 @@
 package com.roopy.application.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.domain.message.PaymentResultMessage;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PaymentGatewayService는 카드사와의 통신을 담당하는 시뮬레이션 서비스입니다.
  * <p>
  * 1. Kafka의 "card-payment-request" 토픽에서 결제 요청을 수신합니다. (Consumer)
- * 2. 카드사 API와 통신한 것처럼 결과를 생성합니다.
- * 3. Kafka의 "card-payment-result" 토픽으로 결제 결과를 전송합니다. (Producer)
+ * 2. 카드사 승인 포트({@link com.roopy.port.out.CardIssuerPort})로 승인을 요청합니다.
+ * 3. 요청의 reply 헤더가 가리키는 토픽·파티션(기본: "card-payment-result")으로 결제 결과를 전송합니다. (Producer)
+ * <p>
+ * 메시지를 한 건씩 처리하는 방식이며, {@code pg-gateway.listener.mode=record} 일 때만 활성화됩니다.
+ * 한 번에 한 건만 poll 하고 컨테이너({@code asyncAcks})가 acknowledge 될 때까지 소비를 멈추므로,
+ * 리스너 스레드는 카드사 응답을 기다리지 않으면서도 건별 처리 순서가 유지됩니다.
+ * 처리하지 못한 결제 요청은 {@code error} 결과로 응답하고, 결과 전송에 실패하면 acknowledge 하지 않고
+ * 리스너를 재시작하여({@link ListenerRedelivery}) 같은 요청을 다시 받습니다.
+ * 기본 처리 방식은 {@link BatchPaymentGatewayService}를 참고하세요.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "pg-gateway.listener", name = "mode", havingValue = "record")
 public class PaymentGatewayService {
 
+    static final String LISTENER_ID = "pg-gateway-record";
+
     // Kafka 메시지 전송을 위한 KafkaTemplate
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final KafkaTemplate<String, PaymentResultMessage> kafkaTemplate;
+
+    // 결제 요청 → 결제 결과 변환
+    private final PaymentRequestProcessor paymentRequestProcessor;
 
-    // JSON 파싱을 위한 Jackson ObjectMapper
-    private final ObjectMapper objectMapper;
+    // 결과를 전송하지 못한 요청 재수신
+    private final ListenerRedelivery listenerRedelivery;
+
+    // 결과 전송 전용 스레드 (카드사 시뮬레이터 스케줄러 스레드를 붙잡지 않음)
+    private final ExecutorService publisher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pg-gateway-record-publish");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     /**
      * 카드 결제 요청을 Kafka에서 수신하는 Consumer 메소드입니다.
-     * 카드사 통신을 시뮬레이션하고 결과를 다시 Kafka로 발행합니다.
+     * 카드사 통신을 시뮬레이션하고, 응답이 오면 결과를 다시 Kafka로 발행한 뒤 acknowledge 합니다.
      *
-     * @param message 결제 요청 메시지 (JSON 문자열)
+     * @param record 결제 요청 메시지
+     * @param acknowledgment 결과 전송 후 다음 레코드를 허용하기 위한 Acknowledgment
      */
-    @KafkaListener(topics = "test-topic", groupId = "pg-gateway-group")
-    public void consumePaymentRequest(String message) {
-        log.info("[PG Gateway] 결제 요청 수신 - {}", message);
+    @KafkaListener(id = LISTENER_ID, topics = "test-topic", groupId = "pg-gateway-group", properties = "max.poll.records=1")
+    public void consumePaymentRequest(ConsumerRecord<String, PaymentRequestMessage> record, Acknowledgment acknowledgment) {
+        log.info("[PG Gateway] 결제 요청 수신 - {}", record.value());
 
+        CompletableFuture<ProducerRecord<String, PaymentResultMessage>> result;
         try {
-            // 메시지를 JSON 형식으로 파싱
-            JsonNode jsonNode = objectMapper.readTree(message);
-            String orderId = jsonNode.get("orderId").asText();
-            int paymentAmt = jsonNode.get("paymentAmt").asInt();
-
-            // 카드사 API 호출을 시뮬레이션 (여기서는 항상 성공 처리)
-            String result = "success";
+            result = paymentRequestProcessor.process(record);
+        } catch (Exception e) {
+            result = CompletableFuture.failedFuture(e);
+        }
 
-            // 결과 JSON 생성
-            String resultJson = objectMapper.writeValueAsString(
-                    Map.of("orderId", orderId, "result", result)
-            );
+        // 카드사 응답을 기다리지 않고 반환, 응답이 오면 결과 전송 스레드에서 발행 (처리하지 못한 요청은 오류 결과로 응답)
+        result.exceptionally(e -> {
+                    log.error("[PG Gateway] 결제 요청 처리 중 오류 - offset={}, message={}", record.offset(), record.value(), e);
+                    return paymentRequestProcessor.error(record);
+                })
+                .thenAcceptAsync(this::publish, publisher)
+                .whenComplete((ignored, ex) -> {
+                    if (ex == null) {
+                        acknowledgment.acknowledge();
+                        return;
+                    }
+                    // acknowledge 하면 결과 없이 오프셋이 커밋되므로, 리스너를 재시작해 같은 요청을 다시 받음
+                    log.error("[PG Gateway] 결제 결과 전송 실패 - offset={}", record.offset(), ex);
+                    listenerRedelivery.redeliver(LISTENER_ID);
+                });
+    }
 
-            // 결과 메시지를 Kafka로 발행
-            kafkaTemplate.executeInTransaction(kt -> {
-                kt.send("card-payment-result", resultJson);
-                return true;
-            });
-            log.info("[PG Gateway] 결제 결과 전송 - {}", resultJson);
+    private void publish(ProducerRecord<String, PaymentResultMessage> result) {
+        // 결과 메시지를 요청자가 지정한 토픽·파티션으로 발행
+        kafkaTemplate.executeInTransaction(kt -> {
+            kt.send(result);
+            return true;
+        });
+        log.info("[PG Gateway] 결제 결과 전송 - {}", result.value());
+    }
 
-        } catch (Exception e) {
-            log.error("[PG Gateway] 결제 요청 처리 중 오류", e);
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        publisher.shutdown();
+        if (!publisher.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("[PG Gateway] 종료 대기 시간 내에 전송되지 않은 결제 결과가 있습니다.");
+            publisher.shutdownNow();
         }
     }
 }
@@ -0,0 +1,94 @@
+package com.roopy.application.service;
+
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.domain.message.PaymentResultMessage;
+import com.roopy.port.out.CardIssuerPort;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 결제 요청 메시지를 카드사 승인 결과 메시지로 변환하는 컴포넌트입니다.
+ * <p>
+ * Kafka 수신 방식(record/batch/parallel)과 무관하게 동일한 변환 로직을 사용하기 위해 분리되어 있습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentRequestProcessor {
+
+    // 처리하지 못한 결제 요청의 결과 값
+    public static final String ERROR = "error";
+
+    // 카드사 승인 요청
+    private final CardIssuerPort cardIssuerPort;
+
+    // reply 헤더가 없는 요청의 결과를 보낼 기본 토픽
+    @Value("${pg-gateway.reply.default-topic:card-payment-result}")
+    private String defaultReplyTopic;
+
+    /**
+     * 결제 요청을 카드사에 승인 요청하고, 응답이 오면 결과 레코드를 생성합니다.
+     * <p>
+     * 결과는 요청의 {@link KafkaHeaders#REPLY_TOPIC}/{@link KafkaHeaders#REPLY_PARTITION} 헤더가 가리키는
+     * 토픽·파티션으로 보내져, 요청을 보낸 card-service 인스턴스만 결과를 받습니다.
+     * 헤더가 없으면 기본 결과 토픽으로 보냅니다. 메시지 키(주문 ID)와 상관관계 ID 헤더는 그대로 유지합니다.
+     *
+     * @param request 결제 요청 레코드
+     * @return 카드사 응답 후 완료되는 결제 결과 레코드 (호출 스레드는 응답을 기다리지 않음)
+     * @throws IllegalArgumentException 역직렬화에 실패한 요청인 경우
+     */
+    public CompletableFuture<ProducerRecord<String, PaymentResultMessage>> process(ConsumerRecord<String, PaymentRequestMessage> request) {
+        if (request.value() == null) {
+            throw new IllegalArgumentException("역직렬화할 수 없는 결제 요청입니다. offset=" + request.offset());
+        }
+        PaymentRequestMessage message = request.value();
+        return cardIssuerPort.authorize(message)
+                .thenApply(result -> toRecord(request, new PaymentResultMessage(message.correlationId(), message.orderId(), result)));
+    }
+
+    /**
+     * 처리하지 못한 결제 요청의 오류 결과 레코드를 생성합니다.
+     * <p>
+     * 결과를 보내지 않으면 요청자는 응답 시간 초과까지 기다리므로, 실패도 결과로 알립니다.
+     * 요청을 역직렬화하지 못했으면 상관관계 ID 헤더와 메시지 키(주문 ID)로 결과를 채웁니다.
+     *
+     * @param request 결제 요청 레코드
+     * @return {@value #ERROR} 결과 레코드
+     */
+    public ProducerRecord<String, PaymentResultMessage> error(ConsumerRecord<String, PaymentRequestMessage> request) {
+        PaymentRequestMessage message = request.value();
+        if (message != null) {
+            return toRecord(request, new PaymentResultMessage(message.correlationId(), message.orderId(), ERROR));
+        }
+        Header correlationId = request.headers().lastHeader(KafkaHeaders.CORRELATION_ID);
+        return toRecord(request, new PaymentResultMessage(
+                correlationId != null ? new String(correlationId.value(), StandardCharsets.UTF_8) : null, request.key(), ERROR));
+    }
+
+    private ProducerRecord<String, PaymentResultMessage> toRecord(ConsumerRecord<String, PaymentRequestMessage> request,
+                                                                  PaymentResultMessage resultMessage) {
+        Header replyTopic = request.headers().lastHeader(KafkaHeaders.REPLY_TOPIC);
+        Header replyPartition = request.headers().lastHeader(KafkaHeaders.REPLY_PARTITION);
+
+        ProducerRecord<String, PaymentResultMessage> result = new ProducerRecord<>(
+                replyTopic != null ? new String(replyTopic.value(), StandardCharsets.UTF_8) : defaultReplyTopic,
+                replyPartition != null ? ByteBuffer.wrap(replyPartition.value()).getInt() : null,
+                request.key(),
+                resultMessage
+        );
+
+        Header correlationId = request.headers().lastHeader(KafkaHeaders.CORRELATION_ID);
+        if (correlationId != null) {
+            result.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.value());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+package com.roopy.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 카드사 승인 시뮬레이터 설정입니다.
+ * <p>
+ * application.yml 의 {@code pg-gateway.issuer.*} 항목과 매핑됩니다.
+ * 기본값은 지연·거절·타임아웃이 없는 즉시 승인입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pg-gateway.issuer")
+public class IssuerSimulatorProperties {
+
+    /**
+     * 승인 거절 비율입니다. (0.0 ~ 1.0)
+     */
+    private double declineRate = 0.0;
+
+    /**
+     * 카드사가 응답하지 않는 비율입니다. (0.0 ~ 1.0)
+     * 해당 요청은 {@link #timeout} 만큼 기다린 뒤 "timeout" 결과로 완료됩니다.
+     */
+    private double timeoutRate = 0.0;
+
+    /**
+     * 카드사 응답을 기다리는 최대 시간입니다. 샘플링된 지연이 이 값을 넘어도 타임아웃으로 처리됩니다.
+     */
+    private Duration timeout = Duration.ofSeconds(3);
+
+    /**
+     * 지연 시뮬레이션에 사용할 스케줄러 스레드 수입니다.
+     * 스레드는 지연이 끝난 요청을 완료하는 데만 쓰이므로 적은 수로 충분합니다.
+     */
+    private int schedulerThreads = 2;
+
+    /**
+     * 응답 지연 분포 설정입니다.
+     */
+    private Latency latency = new Latency();
+
+    public enum Distribution {
+        /**
+         * 항상 {@code fixed} 만큼 지연
+         */
+        FIXED,
+        /**
+         * 평균 {@code mean}, 표준편차 {@code std-dev}인 정규분포 (음수는 0으로 보정)
+         */
+        NORMAL,
+        /**
+         * 최솟값 {@code pareto-scale}, 형상 {@code pareto-shape}인 파레토 분포 (긴 꼬리 지연)
+         */
+        PARETO
+    }
+
+    @Getter
+    @Setter
+    public static class Latency {
+
+        private Distribution distribution = Distribution.FIXED;
+
+        /**
+         * FIXED 분포의 지연 시간입니다. 0이면 지연 없이 바로 응답합니다.
+         */
+        private Duration fixed = Duration.ZERO;
+
+        /**
+         * NORMAL 분포의 평균입니다.
+         */
+        private Duration mean = Duration.ofMillis(50);
+
+        /**
+         * NORMAL 분포의 표준편차입니다.
+         */
+        private Duration stdDev = Duration.ofMillis(10);
+
+        /**
+         * PARETO 분포의 최솟값(scale)입니다.
+         */
+        private Duration paretoScale = Duration.ofMillis(20);
+
+        /**
+         * PARETO 분포의 형상(shape) 값입니다. 작을수록 꼬리가 길어집니다. (1.16 이면 80/20 법칙)
+         */
+        private double paretoShape = 1.16;
+    }
+}
@@ -1,9 +1,13 @@
 package com.roopy.config;
 
+import com.roopy.domain.message.PaymentRequestMessage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.transaction.KafkaTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
@@ -17,4 +21,39 @@ public class KafkaConfig {
             ProducerFactory<String, String> producerFactory) {
         return new KafkaTransactionManager<>(producerFactory);
     }
+
+    /**
+     * poll 단위 묶음 처리용 리스너 컨테이너 팩토리입니다.
+     * <p>
+     * 소비 오프셋은 리스너가 결과 전송 트랜잭션에 포함해 직접 커밋합니다.
+     * 리스너는 트랜잭션이 끝난 뒤 다른 스레드에서 acknowledge 하며, {@code asyncAcks}가 켜져 있으면 컨테이너는
+     * 이전 poll 의 레코드가 모두 acknowledge 될 때까지 소비를 멈춥니다. (acknowledge 시 컨테이너도 같은 오프셋을 커밋하지만
+     * 트랜잭션으로 이미 커밋된 값이므로 영향이 없습니다.)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentRequestMessage> batchKafkaListenerContainerFactory(
+            ConsumerFactory<String, PaymentRequestMessage> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentRequestMessage> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
+
+    /**
+     * 파티션 내 병렬 처리용 리스너 컨테이너 팩토리입니다.
+     * <p>
+     * 레코드는 작업 스레드에서 처리 순서와 무관하게 acknowledge 되며, {@code asyncAcks}가 켜져 있으면
+     * 컨테이너는 앞선 오프셋이 모두 acknowledge 된 연속 구간까지만 커밋합니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, PaymentRequestMessage> parallelKafkaListenerContainerFactory(
+            ConsumerFactory<String, PaymentRequestMessage> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, PaymentRequestMessage> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setAsyncAcks(true);
+        return factory;
+    }
 }
@@ -0,0 +1,14 @@
+package com.roopy.domain.message;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * pg-gateway → card-service 결제 결과 메시지입니다.
+ *
+ * @param correlationId 요청-응답 상관관계 ID
+ * @param orderId 주문 ID
+ * @param result 카드사 승인 결과 (예: "success")
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record PaymentResultMessage(String correlationId, String orderId, String result) {
+}
@@ -0,0 +1,21 @@
+package com.roopy.port.out;
+
+import com.roopy.domain.message.PaymentRequestMessage;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 카드사 승인 요청 포트입니다.
+ */
+public interface CardIssuerPort {
+
+    /**
+     * 결제 요청에 대한 카드사 승인을 요청합니다.
+     * <p>
+     * 구현체는 호출 스레드를 붙잡지 않고, 카드사 응답이 오면 Future를 완료해야 합니다.
+     *
+     * @param request 결제 요청 메시지
+     * @return 승인 결과 ("success", "declined", "timeout")
+     */
+    CompletableFuture<String> authorize(PaymentRequestMessage request);
+}
@@ -0,0 +1,86 @@
+package com.roopy.adapter.kafka.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.roopy.domain.message.PaymentRequestMessage;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 결제 요청 메시지 디코딩 방식별 메시지당 할당량을 측정합니다.
+ * <p>
+ * 기존 {@code ObjectMapper.readTree()} 방식과 스트리밍 JSON 리더, 바이너리 코덱을 비교하며,
+ * 측정값은 실패 메시지에 포함됩니다.
+ */
+class PaymentMessageCodecAllocationTests {
+
+	private static final int WARMUP = 20_000;
+
+	private static final int ITERATIONS = 50_000;
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	private static final byte[] JSON = """
+			{"correlationId":"6f1c2a9e-3f4b-4d5e-9a61-0c2b7d8e9f10","orderId":"ORD-20250101-000123","paymentAmt":15000}"""
+			.getBytes(StandardCharsets.UTF_8);
+
+	private static final byte[] BINARY = PaymentMessageCodec.encode(
+			new PaymentRequestMessage("6f1c2a9e-3f4b-4d5e-9a61-0c2b7d8e9f10", "ORD-20250101-000123", 15000));
+
+	private static long sink;
+
+	@Test
+	void streamingJsonAllocatesLessThanTree() {
+		assumeTrue(threadMXBean().isThreadAllocatedMemorySupported());
+		threadMXBean().setThreadAllocatedMemoryEnabled(true);
+
+		long tree = bytesPerMessage(this::decodeWithTree);
+		long streaming = bytesPerMessage(() -> sink += PaymentMessageCodec.decodeRequest(JSON).paymentAmt());
+		long binary = bytesPerMessage(() -> sink += PaymentMessageCodec.decodeRequest(BINARY).paymentAmt());
+
+		assertThat(streaming).as("streaming=%d B/msg, readTree=%d B/msg", streaming, tree).isLessThan(tree);
+		assertThat(binary).as("binary=%d B/msg, streaming=%d B/msg", binary, streaming).isLessThan(streaming);
+	}
+
+	@Test
+	void streamingJsonSkipsUnknownFields() {
+		byte[] json = """
+				{"extra":{"nested":[1,2,3]},"orderId":"ORD-1","paymentAmt":500,"correlationId":null}"""
+				.getBytes(StandardCharsets.UTF_8);
+
+		PaymentRequestMessage message = PaymentMessageCodec.decodeRequest(json);
+
+		assertThat(message).isEqualTo(new PaymentRequestMessage(null, "ORD-1", 500));
+		assertThat(PaymentMessageCodec.decodeRequest(PaymentMessageCodec.toJson(message))).isEqualTo(message);
+	}
+
+	private void decodeWithTree() {
+		try {
+			JsonNode node = OBJECT_MAPPER.readTree(JSON);
+			sink += node.get("orderId").asText().length() + node.get("paymentAmt").asInt();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static long bytesPerMessage(Runnable decode) {
+		for (int i = 0; i < WARMUP; i++) {
+			decode.run();
+		}
+		long before = threadMXBean().getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < ITERATIONS; i++) {
+			decode.run();
+		}
+		return (threadMXBean().getCurrentThreadAllocatedBytes() - before) / ITERATIONS;
+	}
+
+	private static com.sun.management.ThreadMXBean threadMXBean() {
+		return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+	}
+
+}
@@ -0,0 +1,82 @@
+package com.roopy.adapter.kafka.codec;
+
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.domain.message.PaymentResultMessage;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PaymentMessageCodecTests {
+
+	@Test
+	void requestRoundTrip() {
+		PaymentRequestMessage message = new PaymentRequestMessage("corr-1", "주문-😀-1", -15000);
+
+		byte[] encoded = PaymentMessageCodec.encode(message);
+
+		assertThat(PaymentMessageCodec.isBinary(encoded)).isTrue();
+		assertThat(encoded[1]).isEqualTo(PaymentMessageCodec.VERSION);
+		assertThat(PaymentMessageCodec.decodeRequest(encoded)).isEqualTo(message);
+	}
+
+	@Test
+	void resultRoundTripWithNullFields() {
+		PaymentResultMessage message = new PaymentResultMessage(null, "ORD-1", null);
+
+		assertThat(PaymentMessageCodec.decodeResult(PaymentMessageCodec.encode(message))).isEqualTo(message);
+		assertThat(PaymentMessageCodec.decodeResult(PaymentMessageCodec.toJson(message))).isEqualTo(message);
+	}
+
+	@Test
+	void unpairedSurrogateIsEncodedAsQuestionMark() {
+		PaymentResultMessage message = new PaymentResultMessage("corr-1", "ORD-\uD800", "OK");
+
+		assertThat(PaymentMessageCodec.decodeResult(PaymentMessageCodec.encode(message)).orderId()).isEqualTo("ORD-?");
+	}
+
+	@Test
+	void newerVersionWithTrailingBytesDecodesKnownFields() {
+		PaymentRequestMessage message = new PaymentRequestMessage("corr-1", "ORD-1", 500);
+		byte[] encoded = PaymentMessageCodec.encode(message);
+		byte[] newer = Arrays.copyOf(encoded, encoded.length + 3);
+		newer[1] = 2;
+		newer[encoded.length] = 0x7F;
+
+		assertThat(PaymentMessageCodec.decodeRequest(newer)).isEqualTo(message);
+	}
+
+	@Test
+	void rejectsUnsupportedVersion() {
+		byte[] encoded = PaymentMessageCodec.encode(new PaymentResultMessage("corr-1", "ORD-1", "OK"));
+		encoded[1] = 0;
+
+		assertThatThrownBy(() -> PaymentMessageCodec.decodeResult(encoded))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("버전");
+	}
+
+	@Test
+	void rejectsTruncatedMessage() {
+		byte[] encoded = PaymentMessageCodec.encode(new PaymentRequestMessage("corr-1", "ORD-1", 500));
+
+		assertThatThrownBy(() -> PaymentMessageCodec.decodeRequest(Arrays.copyOf(encoded, encoded.length - 1)))
+				.isInstanceOf(SerializationException.class);
+		assertThatThrownBy(() -> PaymentMessageCodec.decodeRequest(new byte[] {PaymentMessageCodec.MAGIC}))
+				.isInstanceOf(SerializationException.class);
+	}
+
+	@Test
+	void rejectsStringLengthBeyondMessage() {
+		byte[] encoded = PaymentMessageCodec.encode(new PaymentResultMessage("corr-1", "ORD-1", "OK"));
+		encoded[2] = 0x7F;
+
+		assertThatThrownBy(() -> PaymentMessageCodec.decodeResult(encoded))
+				.isInstanceOf(SerializationException.class)
+				.hasMessageContaining("offset");
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.roopy.adapter.out.issuer;
+
+import com.roopy.config.IssuerSimulatorProperties;
+import com.roopy.domain.message.PaymentRequestMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimulatedCardIssuerAdapterTests {
+
+	private static final PaymentRequestMessage REQUEST = new PaymentRequestMessage("corr-1", "ORD-1", 1000);
+
+	private final IssuerSimulatorProperties properties = new IssuerSimulatorProperties();
+
+	private SimulatedCardIssuerAdapter adapter;
+
+	@AfterEach
+	void tearDown() {
+		if (adapter != null) {
+			adapter.shutdown();
+		}
+	}
+
+	@Test
+	void approvesImmediatelyByDefault() {
+		adapter = new SimulatedCardIssuerAdapter(properties);
+
+		CompletableFuture<String> result = adapter.authorize(REQUEST);
+
+		assertThat(result).isCompletedWithValue(SimulatedCardIssuerAdapter.SUCCESS);
+	}
+
+	@Test
+	void declinesAtFullDeclineRate() {
+		properties.setDeclineRate(1.0);
+		adapter = new SimulatedCardIssuerAdapter(properties);
+
+		assertThat(adapter.authorize(REQUEST)).isCompletedWithValue(SimulatedCardIssuerAdapter.DECLINED);
+	}
+
+	@Test
+	void completesAfterLatencyWithoutBlockingCaller() throws Exception {
+		properties.getLatency().setFixed(Duration.ofMillis(200));
+		adapter = new SimulatedCardIssuerAdapter(properties);
+
+		long start = System.nanoTime();
+		CompletableFuture<String> result = adapter.authorize(REQUEST);
+
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(200);
+		assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(SimulatedCardIssuerAdapter.SUCCESS);
+		assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(200);
+	}
+
+	@Test
+	void latencyBeyondTimeoutCompletesAsTimeout() throws Exception {
+		properties.setTimeout(Duration.ofMillis(50));
+		properties.getLatency().setFixed(Duration.ofSeconds(10));
+		adapter = new SimulatedCardIssuerAdapter(properties);
+
+		assertThat(adapter.authorize(REQUEST).get(5, TimeUnit.SECONDS)).isEqualTo(SimulatedCardIssuerAdapter.TIMEOUT);
+	}
+
+	@Test
+	void noResponseAtFullTimeoutRate() throws Exception {
+		properties.setTimeoutRate(1.0);
+		properties.setDeclineRate(1.0);
+		properties.setTimeout(Duration.ofMillis(50));
+		adapter = new SimulatedCardIssuerAdapter(properties);
+
+		assertThat(adapter.authorize(REQUEST).get(5, TimeUnit.SECONDS)).isEqualTo(SimulatedCardIssuerAdapter.TIMEOUT);
+	}
+
+}
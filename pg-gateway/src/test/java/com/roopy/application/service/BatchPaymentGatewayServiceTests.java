@@ -0,0 +1,102 @@
+package com.roopy.application.service;
+
+import com.roopy.domain.message.PaymentRequestMessage;
+import com.roopy.domain.message.PaymentResultMessage;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchPaymentGatewayServiceTests {
+
+	@SuppressWarnings("unchecked")
+	private final KafkaTemplate<String, PaymentResultMessage> kafkaTemplate = mock(KafkaTemplate.class);
+
+	private final PaymentRequestProcessor processor = mock(PaymentRequestProcessor.class);
+
+	private final Consumer<?, ?> consumer = mock(Consumer.class);
+
+	private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+	private final ListenerRedelivery redelivery = mock(ListenerRedelivery.class);
+
+	private final BatchPaymentGatewayService service = new BatchPaymentGatewayService(kafkaTemplate, processor, redelivery);
+
+	private final ConsumerRecord<String, PaymentRequestMessage> record =
+			new ConsumerRecord<>("test-topic", 0, 7L, "ORD-1", new PaymentRequestMessage("corr-1", "ORD-1", 1000));
+
+	@AfterEach
+	void tearDown() throws InterruptedException {
+		service.shutdown();
+	}
+
+	@Test
+	void returnsBeforeIssuerRespondsAndAcknowledgesAfterCommit() {
+		CompletableFuture<ProducerRecord<String, PaymentResultMessage>> issuer = new CompletableFuture<>();
+		when(processor.process(record)).thenReturn(issuer);
+		when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata("pg-gateway-group"));
+
+		service.consumePaymentRequests(List.of(record), consumer, acknowledgment);
+
+		verify(acknowledgment, never()).acknowledge();
+		verify(kafkaTemplate, never()).executeInTransaction(any());
+
+		issuer.complete(new ProducerRecord<>("card-payment-result", "ORD-1", new PaymentResultMessage("corr-1", "ORD-1", "success")));
+
+		verify(kafkaTemplate, timeout(5000)).executeInTransaction(any());
+		verify(acknowledgment, timeout(5000)).acknowledge();
+	}
+
+	@Test
+	void retriesFailedTransactionThenRedeliversWithoutAcknowledging() {
+		when(processor.process(record)).thenReturn(CompletableFuture.completedFuture(
+				new ProducerRecord<>("card-payment-result", "ORD-1", new PaymentResultMessage("corr-1", "ORD-1", "success"))));
+		when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata("pg-gateway-group"));
+		when(kafkaTemplate.executeInTransaction(any())).thenThrow(new IllegalStateException("broker down"));
+
+		service.consumePaymentRequests(List.of(record), consumer, acknowledgment);
+
+		verify(redelivery, timeout(5000)).redeliver(BatchPaymentGatewayService.LISTENER_ID);
+		verify(kafkaTemplate, times(BatchPaymentGatewayService.COMMIT_ATTEMPTS)).executeInTransaction(any());
+		verify(acknowledgment, never()).acknowledge();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void publishesErrorResultForRequestThatFailsProcessing() {
+		ProducerRecord<String, PaymentResultMessage> error =
+				new ProducerRecord<>("card-payment-result", "ORD-1", new PaymentResultMessage("corr-1", "ORD-1", PaymentRequestProcessor.ERROR));
+		when(processor.process(record)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("issuer down")));
+		when(processor.error(record)).thenReturn(error);
+		when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata("pg-gateway-group"));
+		KafkaOperations<String, PaymentResultMessage> operations = mock(KafkaOperations.class);
+		when(kafkaTemplate.executeInTransaction(any())).thenAnswer(invocation ->
+				invocation.<KafkaOperations.OperationsCallback<String, PaymentResultMessage, Boolean>>getArgument(0).doInOperations(operations));
+
+		service.consumePaymentRequests(List.of(record), consumer, acknowledgment);
+
+		verify(acknowledgment, timeout(5000)).acknowledge();
+		ArgumentCaptor<ProducerRecord<String, PaymentResultMessage>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+		verify(operations).send(sent.capture());
+		assertThat(sent.getValue().value().result()).isEqualTo(PaymentRequestProcessor.ERROR);
+	}
+
+}
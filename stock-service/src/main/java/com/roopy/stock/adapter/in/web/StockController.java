@@ -0,0 +1,148 @@
+package com.roopy.stock.adapter.in.web;
+
+import com.roopy.stock.domain.model.Reservation;
+import com.roopy.stock.port.in.StockReservationUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@RestController
+@RequestMapping("/stocks")
+@RequiredArgsConstructor
+public class StockController {
+
+    private final StockReservationUseCase stockReservationUseCase;
+
+    /**
+     * 주문에 대한 재고를 예약(차감)합니다.
+     *
+     * @return 200 OK (예약 성공) / 409 Conflict (재고 부족, 등록되지 않은 상품 또는 이미 취소된 주문) /
+     * 400 Bad Request (수량이 1 미만)
+     */
+    @PostMapping("/{productCode}/reservations")
+    public ResponseEntity<StockResponse> reserve(@PathVariable String productCode,
+                                                 @RequestParam String orderId,
+                                                 @RequestParam int quantity) {
+        log.info("[StockController] 재고 예약 요청 - orderId={}, productCode={}, quantity={}", orderId, productCode, quantity);
+        boolean success;
+        try {
+            success = stockReservationUseCase.reserve(orderId, productCode, quantity);
+        } catch (IllegalArgumentException e) {
+            log.warn("[StockController] 잘못된 재고 예약 요청 - {}", e.getMessage());
+            return ResponseEntity.badRequest().body(new StockResponse(orderId, productCode, quantity, false));
+        }
+        return ResponseEntity.status(success ? HttpStatus.OK : HttpStatus.CONFLICT)
+                .body(new StockResponse(orderId, productCode, quantity, success));
+    }
+
+    /**
+     * 여러 주문의 재고를 한 번에 예약합니다.
+     *
+     * @param requests 예약 요청 목록 ({@code orderId}, {@code productCode}, {@code quantity})
+     * @return 요청 순서와 같은 순서의 예약 결과 (일부 실패해도 200 OK)
+     */
+    @PostMapping("/reservations/batch")
+    public List<StockResponse> reserveAll(@RequestBody List<Reservation> requests) {
+        log.info("[StockController] 재고 일괄 예약 요청 - {}건", requests.size());
+        List<Boolean> results = stockReservationUseCase.reserveAll(requests);
+
+        List<StockResponse> responses = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            Reservation request = requests.get(i);
+            responses.add(request == null
+                    ? new StockResponse(null, null, 0, false)
+                    : new StockResponse(request.orderId(), request.productCode(), request.quantity(), results.get(i)));
+        }
+        return responses;
+    }
+
+    /**
+     * 여러 주문의 예약을 한 번에 취소합니다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 요청 순서와 같은 순서의 취소 결과 (예약이 없던 주문은 {@code success == false})
+     */
+    @PostMapping("/reservations/batch-release")
+    public List<StockResponse> releaseAll(@RequestBody List<String> orderIds) {
+        log.info("[StockController] 재고 일괄 취소 요청 - {}건", orderIds.size());
+        List<Optional<Reservation>> results = stockReservationUseCase.releaseAll(orderIds);
+
+        List<StockResponse> responses = new ArrayList<>(orderIds.size());
+        for (int i = 0; i < orderIds.size(); i++) {
+            String orderId = orderIds.get(i);
+            responses.add(results.get(i)
+                    .map(StockResponse::of)
+                    .orElseGet(() -> new StockResponse(orderId, null, 0, false)));
+        }
+        return responses;
+    }
+
+    /**
+     * 예약을 확정합니다.
+     *
+     * @return 200 OK / 404 Not Found (예약 없음)
+     */
+    @PostMapping("/reservations/{orderId}/confirm")
+    public ResponseEntity<StockResponse> confirm(@PathVariable String orderId) {
+        log.info("[StockController] 재고 확정 요청 - orderId={}", orderId);
+        return stockReservationUseCase.confirm(orderId)
+                .map(reservation -> ResponseEntity.ok(StockResponse.of(reservation)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 예약을 취소하고 재고를 복원합니다.
+     *
+     * @return 200 OK / 404 Not Found (예약 없음 - 이미 취소·확정되었거나 예약된 적 없음)
+     */
+    @DeleteMapping("/reservations/{orderId}")
+    public ResponseEntity<StockResponse> release(@PathVariable String orderId) {
+        log.info("[StockController] 재고 취소 요청 - orderId={}", orderId);
+        return stockReservationUseCase.release(orderId)
+                .map(reservation -> ResponseEntity.ok(StockResponse.of(reservation)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 상품 재고를 입고합니다.
+     *
+     * @return 입고 후 가용 재고
+     */
+    @PutMapping("/{productCode}")
+    public long restock(@PathVariable String productCode, @RequestParam long quantity) {
+        log.info("[StockController] 재고 입고 - productCode={}, quantity={}", productCode, quantity);
+        return stockReservationUseCase.restock(productCode, quantity);
+    }
+
+    /**
+     * 상품의 가용 재고를 조회합니다.
+     */
+    @GetMapping("/{productCode}")
+    public ResponseEntity<Long> available(@PathVariable String productCode) {
+        return stockReservationUseCase.available(productCode)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    public record StockResponse(String orderId, String productCode, int quantity, boolean success) {
+
+        static StockResponse of(Reservation reservation) {
+            return new StockResponse(reservation.orderId(), reservation.productCode(), reservation.quantity(), true);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.roopy.stock.adapter.out.journal;
+
+import com.roopy.stock.domain.model.InventoryState;
+import com.roopy.stock.domain.model.Reservation;
+import com.roopy.stock.domain.model.StockOperation;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 저널 세그먼트와 스냅샷 파일의 바이너리 형식입니다.
+ * <p>
+ * 세그먼트 레코드: {@code [길이:4][crc32:4][순번:8][유형:1][필드...]}
+ * <ul>
+ *     <li>길이와 crc32는 순번부터 필드 끝까지를 대상으로 합니다. 길이가 0이면 세그먼트의 끝입니다.</li>
+ *     <li>문자열은 {@code [바이트 수:2][UTF-8]}로 기록합니다.</li>
+ * </ul>
+ * 스냅샷: {@code [매직:4][버전:4][마지막 순번:8][상품 수:4]{상품 코드, 수량}[예약 수:4]{주문 ID, 상품 코드, 수량}[crc32:8]}
+ */
+final class JournalFormat {
+
+    static final int RECORD_HEADER_BYTES = 8;
+
+    private static final byte RESERVE = 1;
+    private static final byte CONFIRM = 2;
+    private static final byte RELEASE = 3;
+    private static final byte RESTOCK = 4;
+
+    private static final int SNAPSHOT_MAGIC = 0x53544B53;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private JournalFormat() {
+    }
+
+    /**
+     * 레코드 본문(순번, 유형, 필드)을 기록합니다.
+     */
+    static void encodeBody(long sequence, StockOperation operation, ByteBuffer out) {
+        out.putLong(sequence);
+        if (operation instanceof StockOperation.Reserve reserve) {
+            out.put(RESERVE);
+            putString(out, reserve.orderId());
+            putString(out, reserve.productCode());
+            out.putInt(reserve.quantity());
+        } else if (operation instanceof StockOperation.Confirm confirm) {
+            out.put(CONFIRM);
+            putString(out, confirm.orderId());
+        } else if (operation instanceof StockOperation.Release release) {
+            out.put(RELEASE);
+            putString(out, release.orderId());
+        } else if (operation instanceof StockOperation.Restock restock) {
+            out.put(RESTOCK);
+            putString(out, restock.productCode());
+            out.putLong(restock.quantity());
+        } else {
+            throw new IllegalArgumentException("알 수 없는 재고 연산입니다: " + operation);
+        }
+    }
+
+    /**
+     * 세그먼트의 레코드를 처음부터 읽어 {@code afterSequence} 이후의 연산을 전달합니다.
+     * 세그먼트 끝이나 손상된 레코드(길이·crc 불일치, 순번 불연속)를 만나면 멈춥니다.
+     *
+     * @param afterSequence 이 순번까지는 이미 반영된 것으로 보고 건너뜀
+     */
+    static ReplayResult replay(MappedByteBuffer segment, long afterSequence, Consumer<StockOperation> consumer) {
+        ByteBuffer buffer = segment.duplicate().clear();
+        CRC32 crc = new CRC32();
+        long lastSequence = afterSequence;
+        int applied = 0;
+
+        while (buffer.remaining() >= RECORD_HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt();
+            if (length == 0) {
+                return new ReplayResult(lastSequence, start, applied, true);
+            }
+            int checksum = buffer.getInt();
+            if (length < Long.BYTES + 1 || length > buffer.remaining()) {
+                return new ReplayResult(lastSequence, start, applied, false);
+            }
+            ByteBuffer body = buffer.slice(buffer.position(), length);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != checksum) {
+                return new ReplayResult(lastSequence, start, applied, false);
+            }
+
+            long sequence = body.getLong();
+            if (sequence > afterSequence) {
+                if (sequence != lastSequence + 1) {
+                    return new ReplayResult(lastSequence, start, applied, false);
+                }
+                StockOperation operation;
+                try {
+                    operation = decode(body);
+                } catch (RuntimeException e) {
+                    return new ReplayResult(lastSequence, start, applied, false);
+                }
+                consumer.accept(operation);
+                lastSequence = sequence;
+                applied++;
+            }
+            buffer.position(start + RECORD_HEADER_BYTES + length);
+        }
+        return new ReplayResult(lastSequence, buffer.position(), applied, true);
+    }
+
+    static void writeSnapshot(OutputStream target, Snapshot snapshot) throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(target), new CRC32());
+        DataOutputStream out = new DataOutputStream(checked);
+        out.writeInt(SNAPSHOT_MAGIC);
+        out.writeInt(SNAPSHOT_VERSION);
+        out.writeLong(snapshot.lastSequence());
+
+        Map<String, Long> available = snapshot.state().available();
+        out.writeInt(available.size());
+        for (Map.Entry<String, Long> entry : available.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+
+        Map<String, Reservation> reservations = snapshot.state().reservations();
+        out.writeInt(reservations.size());
+        for (Reservation reservation : reservations.values()) {
+            out.writeUTF(reservation.orderId());
+            out.writeUTF(reservation.productCode());
+            out.writeInt(reservation.quantity());
+        }
+
+        out.writeLong(checked.getChecksum().getValue());
+        out.flush();
+    }
+
+    static Snapshot readSnapshot(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            InputStream source = new BufferedInputStream(Channels.newInputStream(channel));
+            CheckedInputStream checked = new CheckedInputStream(source, new CRC32());
+            DataInputStream in = new DataInputStream(checked);
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("스냅샷 형식이 아닙니다: " + path);
+            }
+            long lastSequence = in.readLong();
+
+            InventoryState state = new InventoryState();
+            int products = in.readInt();
+            for (int i = 0; i < products; i++) {
+                state.putAvailable(in.readUTF(), in.readLong());
+            }
+            int reservations = in.readInt();
+            for (int i = 0; i < reservations; i++) {
+                state.putReservation(new Reservation(in.readUTF(), in.readUTF(), in.readInt()));
+            }
+
+            long expected = checked.getChecksum().getValue();
+            if (new DataInputStream(source).readLong() != expected) {
+                throw new IOException("스냅샷 체크섬이 일치하지 않습니다: " + path);
+            }
+            return new Snapshot(lastSequence, state);
+        }
+    }
+
+    private static StockOperation decode(ByteBuffer body) {
+        byte type = body.get();
+        return switch (type) {
+            case RESERVE -> new StockOperation.Reserve(getString(body), getString(body), body.getInt());
+            case CONFIRM -> new StockOperation.Confirm(getString(body));
+            case RELEASE -> new StockOperation.Release(getString(body));
+            case RESTOCK -> new StockOperation.Restock(getString(body), body.getLong());
+            default -> throw new IllegalStateException("알 수 없는 레코드 유형입니다: " + type);
+        };
+    }
+
+    private static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("저널 문자열은 65535 바이트를 넘을 수 없습니다.");
+        }
+        out.putShort((short) bytes.length);
+        out.put(bytes);
+    }
+
+    private static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[Short.toUnsignedInt(in.getShort())];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 세그먼트 재생 결과입니다.
+     *
+     * @param lastSequence 마지막으로 반영한 순번
+     * @param validBytes 유효한 레코드가 끝나는 위치 (다음 기록 위치)
+     * @param applied 전달한 연산 수
+     * @param clean 세그먼트 끝까지 손상 없이 읽었으면 true
+     */
+    record ReplayResult(long lastSequence, int validBytes, int applied, boolean clean) {
+    }
+
+    /**
+     * 스냅샷 내용입니다.
+     *
+     * @param lastSequence 스냅샷에 반영된 마지막 순번
+     * @param state 재고 상태
+     */
+    record Snapshot(long lastSequence, InventoryState state) {
+    }
+}
@@ -0,0 +1,516 @@
+package com.roopy.stock.adapter.out.journal;
+
+import com.roopy.stock.config.StockProperties;
+import com.roopy.stock.domain.model.InventoryState;
+import com.roopy.stock.domain.model.StockOperation;
+import com.roopy.stock.port.out.StockJournalPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 맵 세그먼트 파일에 재고 연산을 기록하는 저널(WAL)입니다.
+ * <p>
+ * 연산은 고정 크기 세그먼트({@code wal-<첫 순번>.log})에 순서대로 덧붙이며, 기록 자체는 매핑된 메모리에 복사하는 것이
+ * 전부이므로 짧은 락 안에서 끝납니다. 디스크 반영은 {@link StockProperties.FsyncPolicy} 에 따라
+ * 호출 스레드(PER_OP), 플러셔 스레드(GROUP), 주기 작업(INTERVAL)이 수행합니다.
+ * <ul>
+ *     <li>세그먼트가 가득 차면 디스크에 반영하고 닫은 뒤 새 세그먼트로 넘어갑니다.</li>
+ *     <li>닫힌 세그먼트가 쌓이면 백그라운드에서 직전 스냅샷에 닫힌 세그먼트를 재생해 새 스냅샷을 만들고,
+ *     스냅샷에 포함된 세그먼트와 이전 스냅샷을 삭제합니다. 운영 중인 상태를 멈추지 않고 일관된 시점을 얻기 위해서입니다.</li>
+ *     <li>복구는 마지막 스냅샷을 읽고 그 이후의 레코드만 재생하므로, 기동 시간은 전체 이력이 아니라
+ *     스냅샷 주기만큼의 로그 길이에 비례합니다.</li>
+ * </ul>
+ * {@code stock.wal.enabled=true} 일 때 활성화됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "stock.wal", name = "enabled", havingValue = "true")
+public class MappedStockJournal implements StockJournalPort, DisposableBean {
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("wal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT_NAME = Pattern.compile("snapshot-(\\d+)\\.snap");
+
+    // 레코드 하나의 최대 크기 (헤더 + 순번·유형 + 문자열 2개 + 수량)
+    private static final int MAX_RECORD_BYTES = JournalFormat.RECORD_HEADER_BYTES + 9 + 2 * (2 + 0xFFFF) + Long.BYTES;
+
+    private final Path directory;
+
+    private final int segmentSize;
+
+    private final StockProperties.FsyncPolicy fsyncPolicy;
+
+    private final int snapshotEverySegments;
+
+    // 기록 순서를 정하는 락 (세그먼트 전환 포함)
+    private final ReentrantLock appendLock = new ReentrantLock();
+
+    private final ByteBuffer scratch = ByteBuffer.allocate(MAX_RECORD_BYTES);
+
+    private final CRC32 crc = new CRC32();
+
+    // 디스크 반영 순번 대기용 모니터
+    private final Object durableMonitor = new Object();
+
+    private final ExecutorService snapshotWorker = Executors.newSingleThreadExecutor(daemon("stock-wal-snapshot"));
+
+    private ScheduledExecutorService intervalFlusher;
+
+    private Thread groupFlusher;
+
+    private Segment active;
+
+    private long nextSequence;
+
+    private int sealedSinceSnapshot;
+
+    private volatile long writtenSequence;
+
+    private long durableSequence;
+
+    private volatile boolean closed;
+
+    public MappedStockJournal(StockProperties properties) {
+        StockProperties.Wal wal = properties.getWal();
+        this.directory = Paths.get(wal.getDirectory()).toAbsolutePath();
+        this.segmentSize = Math.toIntExact(wal.getSegmentSize().toBytes());
+        this.fsyncPolicy = wal.getFsync();
+        this.snapshotEverySegments = Math.max(1, wal.getSnapshotEverySegments());
+        if (segmentSize < MAX_RECORD_BYTES) {
+            throw new IllegalArgumentException("세그먼트 크기는 " + MAX_RECORD_BYTES + " 바이트 이상이어야 합니다: " + segmentSize);
+        }
+
+        if (fsyncPolicy == StockProperties.FsyncPolicy.INTERVAL) {
+            long interval = wal.getFsyncInterval().toMillis();
+            this.intervalFlusher = Executors.newSingleThreadScheduledExecutor(daemon("stock-wal-flusher"));
+            intervalFlusher.scheduleWithFixedDelay(this::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public InventoryState recover() {
+        long startedAt = System.nanoTime();
+        try {
+            Files.createDirectories(directory);
+            JournalFormat.Snapshot snapshot = latestSnapshot();
+            InventoryState state = snapshot.state();
+            long lastSequence = snapshot.lastSequence();
+            int replayed = 0;
+
+            List<SegmentFile> segments = listSegments();
+            for (int i = 0; i < segments.size() && active == null; i++) {
+                SegmentFile file = segments.get(i);
+                boolean last = i == segments.size() - 1;
+                if (!last && segments.get(i + 1).firstSequence() <= lastSequence + 1) {
+                    // 스냅샷에 모두 포함된 세그먼트 (삭제 전에 종료된 경우)
+                    continue;
+                }
+
+                Segment segment = Segment.open(file.path(), segmentSize);
+                JournalFormat.ReplayResult result = JournalFormat.replay(segment.buffer, lastSequence, state::apply);
+                lastSequence = result.lastSequence();
+                replayed += result.applied();
+
+                if (!result.clean()) {
+                    log.warn("[Inventory WAL] 손상된 레코드 이후를 버립니다 - segment={}, position={}", file.path().getFileName(), result.validBytes());
+                    segment.zeroFrom(result.validBytes());
+                    discard(segments.subList(i + 1, segments.size()));
+                }
+                if (last || !result.clean()) {
+                    segment.buffer.position(result.validBytes());
+                    active = segment;
+                } else {
+                    segment.close();
+                }
+            }
+
+            if (active == null) {
+                active = Segment.create(directory, lastSequence + 1, segmentSize);
+            }
+            nextSequence = lastSequence + 1;
+            writtenSequence = lastSequence;
+            durableSequence = lastSequence;
+            startGroupFlusher();
+
+            log.info("[Inventory WAL] 복구 완료 - snapshotSeq={}, replayed={}, lastSeq={}, elapsed={}ms, fsync={}",
+                    snapshot.lastSequence(), replayed, lastSequence,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), fsyncPolicy);
+            return state;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 저널 복구에 실패했습니다: " + directory, e);
+        }
+    }
+
+    @Override
+    public long append(StockOperation operation) {
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("재고 저널이 닫혔습니다.");
+            }
+            long sequence = nextSequence;
+            scratch.clear();
+            JournalFormat.encodeBody(sequence, operation, scratch);
+            scratch.flip();
+            crc.reset();
+            crc.update(scratch.duplicate());
+
+            int recordBytes = JournalFormat.RECORD_HEADER_BYTES + scratch.remaining();
+            // 세그먼트 끝 표시(길이 0)를 쓸 자리까지 남아 있어야 함
+            if (active.buffer.remaining() < recordBytes + Integer.BYTES) {
+                roll();
+            }
+            active.buffer.putInt(scratch.remaining());
+            active.buffer.putInt((int) crc.getValue());
+            active.buffer.put(scratch);
+
+            nextSequence = sequence + 1;
+            writtenSequence = sequence;
+            return sequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("재고 연산 기록에 실패했습니다: " + operation, e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void sync(long sequence) {
+        switch (fsyncPolicy) {
+            case PER_OP -> {
+                if (!isDurable(sequence)) {
+                    flush();
+                }
+            }
+            case GROUP -> awaitDurable(sequence);
+            case INTERVAL -> {
+                // 주기 작업이 반영하므로 기다리지 않음
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        closed = true;
+        if (intervalFlusher != null) {
+            intervalFlusher.shutdownNow();
+        }
+        if (groupFlusher != null) {
+            synchronized (durableMonitor) {
+                durableMonitor.notifyAll();
+            }
+            groupFlusher.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        long lastSequence;
+        appendLock.lock();
+        try {
+            if (active == null) {
+                snapshotWorker.shutdown();
+                return;
+            }
+            active.force(active.buffer.position());
+            active.close();
+            lastSequence = writtenSequence;
+            markDurable(lastSequence);
+        } finally {
+            appendLock.unlock();
+        }
+
+        // 다음 기동 시 재생할 로그가 없도록 마지막 스냅샷 작성
+        snapshotWorker.submit(() -> compact(lastSequence));
+        snapshotWorker.shutdown();
+        if (!snapshotWorker.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("[Inventory WAL] 종료 대기 시간 내에 스냅샷을 완료하지 못했습니다.");
+        }
+    }
+
+    /**
+     * 현재 세그먼트를 디스크에 반영하고 닫은 뒤 새 세그먼트로 넘어갑니다. appendLock 안에서 호출됩니다.
+     */
+    private void roll() throws IOException {
+        Segment sealed = active;
+        sealed.force(sealed.buffer.position());
+        sealed.close();
+        markDurable(writtenSequence);
+
+        active = Segment.create(directory, nextSequence, segmentSize);
+        log.debug("[Inventory WAL] 세그먼트 전환 - sealed={}, active={}", sealed.path.getFileName(), active.path.getFileName());
+
+        if (++sealedSinceSnapshot >= snapshotEverySegments) {
+            sealedSinceSnapshot = 0;
+            long upTo = nextSequence - 1;
+            snapshotWorker.execute(() -> compact(upTo));
+        }
+    }
+
+    /**
+     * 기록된 위치까지 디스크에 반영합니다. 세그먼트별 반영은 세그먼트 단위로 직렬화되며 appendLock은 잡지 않습니다.
+     */
+    private void flush() {
+        Segment segment;
+        long sequence;
+        int position;
+        appendLock.lock();
+        try {
+            segment = active;
+            sequence = writtenSequence;
+            position = segment.buffer.position();
+        } finally {
+            appendLock.unlock();
+        }
+        segment.force(position);
+        markDurable(sequence);
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("[Inventory WAL] 디스크 반영 실패", e);
+        }
+    }
+
+    private void startGroupFlusher() {
+        if (fsyncPolicy != StockProperties.FsyncPolicy.GROUP) {
+            return;
+        }
+        groupFlusher = daemon("stock-wal-flusher").newThread(() -> {
+            while (!closed) {
+                synchronized (durableMonitor) {
+                    while (!closed && durableSequence >= writtenSequence) {
+                        try {
+                            durableMonitor.wait();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                    }
+                }
+                // 대기하는 동안 쌓인 기록을 한 번에 반영 (그룹 커밋)
+                flushQuietly();
+            }
+        });
+        groupFlusher.start();
+    }
+
+    private boolean isDurable(long sequence) {
+        synchronized (durableMonitor) {
+            return durableSequence >= sequence;
+        }
+    }
+
+    private void markDurable(long sequence) {
+        synchronized (durableMonitor) {
+            if (sequence > durableSequence) {
+                durableSequence = sequence;
+            }
+            durableMonitor.notifyAll();
+        }
+    }
+
+    private void awaitDurable(long sequence) {
+        synchronized (durableMonitor) {
+            // 플러셔를 깨우고 자신의 순번이 반영될 때까지 대기
+            durableMonitor.notifyAll();
+            while (durableSequence < sequence) {
+                if (closed) {
+                    throw new IllegalStateException("재고 저널이 닫혀 디스크 반영을 확인할 수 없습니다: seq=" + sequence);
+                }
+                try {
+                    durableMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("디스크 반영 대기 중 인터럽트되었습니다: seq=" + sequence, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 직전 스냅샷에 {@code upToSequence}까지의 닫힌 세그먼트를 재생해 새 스냅샷을 만들고, 포함된 세그먼트와 이전 스냅샷을 삭제합니다.
+     * 스냅샷 작업 스레드에서만 실행됩니다.
+     */
+    private void compact(long upToSequence) {
+        try {
+            JournalFormat.Snapshot base = latestSnapshot();
+            if (base.lastSequence() >= upToSequence) {
+                return;
+            }
+            InventoryState state = base.state();
+            long lastSequence = base.lastSequence();
+
+            List<SegmentFile> segments = listSegments();
+            for (SegmentFile file : segments) {
+                if (file.firstSequence() > upToSequence) {
+                    break;
+                }
+                // 대상 세그먼트는 모두 닫혀 있고 upToSequence 이후의 레코드를 담고 있지 않음
+                try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    lastSequence = JournalFormat.replay(buffer, lastSequence, state::apply).lastSequence();
+                }
+            }
+
+            // 다음 세그먼트가 스냅샷 바로 다음 순번 이전에 시작하면 세그먼트 전체가 스냅샷에 포함됨
+            List<SegmentFile> covered = new ArrayList<>();
+            for (int i = 0; i + 1 < segments.size(); i++) {
+                if (segments.get(i + 1).firstSequence() <= lastSequence + 1) {
+                    covered.add(segments.get(i));
+                }
+            }
+
+            Path target = directory.resolve("snapshot-" + lastSequence + ".snap");
+            Path temp = directory.resolve(target.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                OutputStream out = Channels.newOutputStream(channel);
+                JournalFormat.writeSnapshot(out, new JournalFormat.Snapshot(lastSequence, state));
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            for (SegmentFile file : covered) {
+                Files.deleteIfExists(file.path());
+            }
+            for (SegmentFile snapshot : listFiles(SNAPSHOT_NAME)) {
+                if (snapshot.firstSequence() < lastSequence) {
+                    Files.deleteIfExists(snapshot.path());
+                }
+            }
+            log.info("[Inventory WAL] 스냅샷 작성 - seq={}, products={}, reservations={}, removedSegments={}",
+                    lastSequence, state.available().size(), state.reservations().size(), covered.size());
+        } catch (IOException | RuntimeException e) {
+            log.error("[Inventory WAL] 스냅샷 작성 실패 - upToSeq={}", upToSequence, e);
+        }
+    }
+
+    private JournalFormat.Snapshot latestSnapshot() throws IOException {
+        List<SegmentFile> snapshots = listFiles(SNAPSHOT_NAME);
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            Path path = snapshots.get(i).path();
+            try {
+                return JournalFormat.readSnapshot(path);
+            } catch (IOException e) {
+                log.warn("[Inventory WAL] 스냅샷을 읽을 수 없어 이전 스냅샷을 사용합니다 - {}: {}", path.getFileName(), e.getMessage());
+            }
+        }
+        return new JournalFormat.Snapshot(0L, new InventoryState());
+    }
+
+    private List<SegmentFile> listSegments() throws IOException {
+        return listFiles(SEGMENT_NAME);
+    }
+
+    private List<SegmentFile> listFiles(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            List<SegmentFile> result = new ArrayList<>();
+            files.forEach(path -> {
+                Matcher matcher = pattern.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    result.add(new SegmentFile(path, Long.parseLong(matcher.group(1))));
+                }
+            });
+            result.sort(Comparator.comparingLong(SegmentFile::firstSequence));
+            return result;
+        }
+    }
+
+    private void discard(List<SegmentFile> segments) throws IOException {
+        for (SegmentFile file : segments) {
+            Path target = file.path().resolveSibling(file.path().getFileName() + ".discarded");
+            Files.move(file.path(), target, StandardCopyOption.REPLACE_EXISTING);
+            log.error("[Inventory WAL] 손상 지점 이후의 세그먼트를 제외합니다 - {}", target.getFileName());
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 디렉터리의 세그먼트·스냅샷 파일과 파일명의 순번입니다.
+     */
+    private record SegmentFile(Path path, long firstSequence) {
+    }
+
+    /**
+     * 매핑된 세그먼트 파일입니다. 기록 위치는 buffer의 position 이며 appendLock 안에서만 바뀝니다.
+     */
+    private static final class Segment {
+
+        private final Path path;
+
+        private final FileChannel channel;
+
+        private final MappedByteBuffer buffer;
+
+        // 디스크에 반영된 위치
+        private int forced;
+
+        private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment create(Path directory, long firstSequence, int size) throws IOException {
+            return open(directory.resolve("wal-" + firstSequence + ".log"), size);
+        }
+
+        static Segment open(Path path, int size) throws IOException {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long length = Math.max(size, channel.size());
+            return new Segment(path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, length));
+        }
+
+        synchronized void force(int position) {
+            if (position > forced) {
+                buffer.force(forced, position - forced);
+                forced = position;
+            }
+        }
+
+        void zeroFrom(int position) {
+            for (int i = position; i < buffer.capacity(); i++) {
+                buffer.put(i, (byte) 0);
+            }
+            buffer.force();
+        }
+
+        void close() throws IOException {
+            // 매핑은 채널을 닫아도 유효하므로 늦게 도착한 force 호출도 안전함
+            channel.close();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.roopy.stock.adapter.out.journal;
+
+import com.roopy.stock.domain.model.InventoryState;
+import com.roopy.stock.domain.model.StockOperation;
+import com.roopy.stock.port.out.StockJournalPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아무것도 기록하지 않는 저널입니다. {@code stock.wal.enabled=false} 일 때 사용되며, 재시작하면 재고 상태가 초기화됩니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "stock.wal", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class NoOpStockJournal implements StockJournalPort {
+
+    @Override
+    public InventoryState recover() {
+        return new InventoryState();
+    }
+
+    @Override
+    public long append(StockOperation operation) {
+        return 0L;
+    }
+
+    @Override
+    public void sync(long sequence) {
+        // 기록하지 않으므로 기다릴 것이 없음
+    }
+}
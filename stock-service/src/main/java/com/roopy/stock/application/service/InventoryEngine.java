@@ -0,0 +1,231 @@
+package com.roopy.stock.application.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.roopy.stock.config.StockProperties;
+import com.roopy.stock.domain.model.InventoryState;
+import com.roopy.stock.domain.model.Reservation;
+import com.roopy.stock.domain.model.StockCounter;
+import com.roopy.stock.domain.model.StockOperation;
+import com.roopy.stock.port.in.StockReservationUseCase;
+import com.roopy.stock.port.out.StockJournalPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 메모리 기반 재고 엔진입니다.
+ * <p>
+ * 상품별 가용 재고는 {@link StockCounter}가 CAS로 관리하고, 주문별 예약은 {@link ConcurrentHashMap}에 보관합니다.
+ * 전역 락이 없으므로 서로 다른 상품의 요청은 완전히 독립적으로 처리되고,
+ * 같은 상품에 요청이 몰려도 초과 판매 없이 병렬로 처리됩니다.
+ * <ul>
+ *     <li>예약(reserve): 가용 재고를 먼저 차감한 뒤 예약을 기록합니다. 같은 주문의 중복 요청은 차감을 되돌리고 성공으로 응답합니다.</li>
+ *     <li>확정(confirm): 예약 기록만 제거합니다. 차감된 수량은 그대로 판매 처리됩니다.</li>
+ *     <li>취소(release): 예약 기록을 제거하고 수량을 가용 재고로 되돌립니다. 예약을 제거한 스레드만 되돌리므로 중복 취소에도 안전합니다.</li>
+ * </ul>
+ * 확정·취소된 주문 ID는 {@code stock.tombstone.ttl} 동안 기억합니다. 그 사이 같은 주문의 예약이 재시도되거나 늦게 도착하면
+ * 확정된 주문은 성공, 취소된 주문은 실패로 응답하고 재고를 차감하지 않습니다. 취소는 예약이 없어도 기록하므로,
+ * 결과를 알 수 없는 예약을 먼저 취소해 두면 뒤늦게 도착한 그 예약이 재고를 붙잡지 않습니다.
+ * 기록은 예약과 같은 키의 {@code compute} 안에서 남기고, 메모리에만 보관하므로 재시작하면 사라집니다.
+ * 상태를 바꾼 연산은 {@link StockJournalPort}에 기록합니다. 예약 기록의 추가·제거와 저널 기록을 같은 키의
+ * {@code compute} 안에서 수행하므로, 같은 주문의 연산은 적용된 순서 그대로 저널에 남습니다.
+ * 디스크 반영 대기는 그 밖에서 하므로 다른 주문의 처리를 막지 않습니다.
+ */
+@Slf4j
+@Service
+public class InventoryEngine implements StockReservationUseCase {
+
+    // 저널에 기록하지 않은 연산의 순번
+    private static final long NOT_LOGGED = -1L;
+
+    private final Map<String, StockCounter> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, Reservation> reservations = new ConcurrentHashMap<>();
+
+    // 확정·취소된 주문 ID → 확정 여부
+    private final Cache<String, Boolean> tombstones;
+
+    private final StockJournalPort journal;
+
+    public InventoryEngine(StockProperties properties, StockJournalPort journal) {
+        this.journal = journal;
+        this.tombstones = Caffeine.newBuilder()
+                .maximumSize(properties.getTombstone().getMaximumSize())
+                .expireAfterWrite(properties.getTombstone().getTtl())
+                .build();
+
+        InventoryState recovered = journal.recover();
+        if (recovered.isEmpty()) {
+            properties.getInitial().forEach(this::restock);
+            return;
+        }
+        recovered.available().forEach((code, quantity) -> counters.put(code, new StockCounter(code, quantity)));
+        reservations.putAll(recovered.reservations());
+        log.info("[Inventory] 저널에서 재고 상태 복구 - products={}, pendingReservations={}",
+                counters.size(), reservations.size());
+    }
+
+    @Override
+    public boolean reserve(String orderId, String productCode, int quantity) {
+        if (orderId == null || productCode == null) {
+            throw new IllegalArgumentException("주문 ID와 상품 코드는 필수입니다: orderId=" + orderId + ", productCode=" + productCode);
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("예약 수량은 1 이상이어야 합니다: " + quantity);
+        }
+        if (reservations.containsKey(orderId)) {
+            log.debug("[Inventory] 이미 예약된 주문 - orderId={}", orderId);
+            return true;
+        }
+        Boolean confirmed = tombstones.getIfPresent(orderId);
+        if (confirmed != null) {
+            return finished(orderId, confirmed);
+        }
+
+        StockCounter counter = counters.get(productCode);
+        if (counter == null) {
+            log.warn("[Inventory] 등록되지 않은 상품 - productCode={}, orderId={}", productCode, orderId);
+            return false;
+        }
+        if (!counter.tryReserve(quantity)) {
+            log.info("[Inventory] 재고 부족 - productCode={}, quantity={}, available={}", productCode, quantity, counter.available());
+            return false;
+        }
+
+        long[] sequence = {NOT_LOGGED};
+        Boolean[] finished = new Boolean[1];
+        try {
+            reservations.compute(orderId, (id, existing) -> {
+                if (existing != null) {
+                    return existing;
+                }
+                // 확정·취소와 같은 키의 compute 안에서 확인하므로 그 사이에 끝난 주문도 놓치지 않음
+                finished[0] = tombstones.getIfPresent(id);
+                if (finished[0] != null) {
+                    return null;
+                }
+                sequence[0] = journal.append(new StockOperation.Reserve(orderId, productCode, quantity));
+                return new Reservation(orderId, productCode, quantity);
+            });
+        } catch (RuntimeException e) {
+            counter.add(quantity);
+            throw e;
+        }
+        if (sequence[0] == NOT_LOGGED) {
+            // 같은 주문의 요청이 동시에 들어와 다른 스레드가 먼저 예약했거나, 그 사이 주문이 끝남 - 차감분 반환
+            counter.add(quantity);
+            return finished[0] == null || finished(orderId, finished[0]);
+        }
+        journal.sync(sequence[0]);
+        return true;
+    }
+
+    @Override
+    public List<Boolean> reserveAll(List<Reservation> requests) {
+        List<Boolean> results = new ArrayList<>(requests.size());
+        for (Reservation request : requests) {
+            boolean success;
+            try {
+                if (request == null) {
+                    throw new IllegalArgumentException("예약 요청이 비어 있습니다.");
+                }
+                success = reserve(request.orderId(), request.productCode(), request.quantity());
+            } catch (IllegalArgumentException e) {
+                log.warn("[Inventory] 잘못된 예약 요청 - {}: {}", request, e.getMessage());
+                success = false;
+            }
+            results.add(success);
+        }
+        return results;
+    }
+
+    @Override
+    public List<Optional<Reservation>> releaseAll(List<String> orderIds) {
+        List<Optional<Reservation>> results = new ArrayList<>(orderIds.size());
+        for (String orderId : orderIds) {
+            // 주문 ID가 없는 항목은 취소할 예약도 없음
+            results.add(orderId == null ? Optional.empty() : release(orderId));
+        }
+        return results;
+    }
+
+    @Override
+    public Optional<Reservation> confirm(String orderId) {
+        long[] sequence = {NOT_LOGGED};
+        Reservation reservation = remove(orderId, new StockOperation.Confirm(orderId), sequence, true);
+        if (reservation != null) {
+            journal.sync(sequence[0]);
+            log.debug("[Inventory] 예약 확정 - {}", reservation);
+        }
+        return Optional.ofNullable(reservation);
+    }
+
+    @Override
+    public Optional<Reservation> release(String orderId) {
+        long[] sequence = {NOT_LOGGED};
+        Reservation reservation = remove(orderId, new StockOperation.Release(orderId), sequence, false);
+        if (reservation != null) {
+            counters.get(reservation.productCode()).add(reservation.quantity());
+            journal.sync(sequence[0]);
+            log.debug("[Inventory] 예약 취소 - {}", reservation);
+        }
+        return Optional.ofNullable(reservation);
+    }
+
+    @Override
+    public long restock(String productCode, long quantity) {
+        if (quantity < 0) {
+            throw new IllegalArgumentException("입고 수량은 0 이상이어야 합니다: " + quantity);
+        }
+        StockCounter counter = counters.computeIfAbsent(productCode, code -> new StockCounter(code, 0));
+        // 가용 재고는 더하기만 하므로 저널 기록 순서와 무관하게 재생 결과가 같음
+        long sequence = journal.append(new StockOperation.Restock(productCode, quantity));
+        counter.add(quantity);
+        journal.sync(sequence);
+        return counter.available();
+    }
+
+    @Override
+    public Optional<Long> available(String productCode) {
+        return Optional.ofNullable(counters.get(productCode)).map(StockCounter::available);
+    }
+
+    /**
+     * 예약 기록을 제거하면서 연산을 저널에 기록하고, 주문을 확정·취소된 주문으로 기록합니다.
+     * 예약이 없으면 저널에는 기록하지 않고, 취소만 주문 기록을 남깁니다. (이미 확정된 주문의 기록은 바꾸지 않음)
+     */
+    private Reservation remove(String orderId, StockOperation operation, long[] sequence, boolean confirm) {
+        Reservation[] removed = new Reservation[1];
+        reservations.compute(orderId, (id, reservation) -> {
+            if (reservation != null) {
+                sequence[0] = journal.append(operation);
+                removed[0] = reservation;
+            }
+            if (reservation != null) {
+                tombstones.put(id, confirm);
+            } else if (!confirm) {
+                tombstones.asMap().putIfAbsent(id, false);
+            }
+            return null;
+        });
+        return removed[0];
+    }
+
+    private static boolean finished(String orderId, boolean confirmed) {
+        log.info("[Inventory] 이미 {}된 주문의 예약 요청 - orderId={}", confirmed ? "확정" : "취소", orderId);
+        return confirmed;
+    }
+
+    /**
+     * 확정되거나 취소되지 않은 예약 수를 반환합니다.
+     */
+    public int pendingReservations() {
+        return reservations.size();
+    }
+}
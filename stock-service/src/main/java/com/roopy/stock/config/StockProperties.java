@@ -0,0 +1,106 @@
+package com.roopy.stock.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 재고 서비스 설정입니다.
+ * <p>
+ * application.yml 의 {@code stock.*} 항목과 매핑됩니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "stock")
+public class StockProperties {
+
+    /**
+     * 기동 시 등록할 상품별 초기 재고 (상품 코드 → 수량)
+     * 저널에서 복구한 상태가 있으면 적용하지 않습니다.
+     */
+    private Map<String, Long> initial = new LinkedHashMap<>();
+
+    /**
+     * 재고 연산 저널(WAL) 설정입니다.
+     */
+    private Wal wal = new Wal();
+
+    /**
+     * 확정·취소된 주문 기록 설정입니다.
+     */
+    private Tombstone tombstone = new Tombstone();
+
+    public enum FsyncPolicy {
+        /**
+         * 연산마다 디스크에 반영한 뒤 응답 (가장 안전, 가장 느림)
+         */
+        PER_OP,
+        /**
+         * 플러셔 스레드가 쌓인 연산을 한 번에 반영하고, 요청은 자신의 연산이 반영될 때까지 대기 (그룹 커밋)
+         */
+        GROUP,
+        /**
+         * {@code fsync-interval} 주기로 반영하고 요청은 기다리지 않음 (장애 시 마지막 주기분 유실 가능)
+         */
+        INTERVAL
+    }
+
+    /**
+     * 확정·취소된 주문 ID를 기억해 두는 기간과 건수입니다.
+     * 이 기간 안에 같은 주문의 예약이 늦게 도착하거나 재시도되어도 재고를 다시 차감하지 않습니다.
+     */
+    @Getter
+    @Setter
+    public static class Tombstone {
+
+        /**
+         * 확정·취소 후 주문 ID를 기억하는 시간입니다. 주문 측 재시도·응답 지연보다 길게 잡습니다.
+         */
+        private Duration ttl = Duration.ofHours(1);
+
+        /**
+         * 기억할 최대 주문 수입니다. 넘으면 오래된 기록부터 제거됩니다.
+         */
+        private long maximumSize = 1_000_000;
+    }
+
+    @Getter
+    @Setter
+    public static class Wal {
+
+        /**
+         * 저널 사용 여부입니다. false 이면 재시작 시 재고 상태가 초기화됩니다.
+         */
+        private boolean enabled = false;
+
+        /**
+         * 로그 세그먼트와 스냅샷을 저장할 디렉터리입니다.
+         */
+        private String directory = "./data/stock-wal";
+
+        /**
+         * 로그 세그먼트 하나의 크기입니다. 세그먼트가 가득 차면 새 세그먼트로 넘어갑니다.
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * 디스크 반영(fsync) 정책입니다.
+         */
+        private FsyncPolicy fsync = FsyncPolicy.GROUP;
+
+        /**
+         * INTERVAL 정책의 반영 주기입니다.
+         */
+        private Duration fsyncInterval = Duration.ofMillis(100);
+
+        /**
+         * 닫힌 세그먼트가 이 개수만큼 쌓이면 스냅샷을 만들고 스냅샷에 포함된 세그먼트를 삭제합니다.
+         */
+        private int snapshotEverySegments = 1;
+    }
+}
@@ -0,0 +1,53 @@
+package com.roopy.stock.domain.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 재고 상태의 단일 스레드용 사본입니다.
+ * <p>
+ * 스냅샷 작성과 복구 시 {@link StockOperation}을 순서대로 적용해 상태를 재구성하는 데 사용합니다.
+ * 운영 중의 동시 처리는 {@code InventoryEngine}이 담당합니다.
+ */
+public final class InventoryState {
+
+    private final Map<String, Long> available = new HashMap<>();
+
+    private final Map<String, Reservation> reservations = new HashMap<>();
+
+    public void apply(StockOperation operation) {
+        if (operation instanceof StockOperation.Reserve reserve) {
+            available.merge(reserve.productCode(), (long) -reserve.quantity(), Long::sum);
+            reservations.put(reserve.orderId(), new Reservation(reserve.orderId(), reserve.productCode(), reserve.quantity()));
+        } else if (operation instanceof StockOperation.Confirm confirm) {
+            reservations.remove(confirm.orderId());
+        } else if (operation instanceof StockOperation.Release release) {
+            Reservation reservation = reservations.remove(release.orderId());
+            if (reservation != null) {
+                available.merge(reservation.productCode(), (long) reservation.quantity(), Long::sum);
+            }
+        } else if (operation instanceof StockOperation.Restock restock) {
+            available.merge(restock.productCode(), restock.quantity(), Long::sum);
+        }
+    }
+
+    public void putAvailable(String productCode, long quantity) {
+        available.put(productCode, quantity);
+    }
+
+    public void putReservation(Reservation reservation) {
+        reservations.put(reservation.orderId(), reservation);
+    }
+
+    public Map<String, Long> available() {
+        return available;
+    }
+
+    public Map<String, Reservation> reservations() {
+        return reservations;
+    }
+
+    public boolean isEmpty() {
+        return available.isEmpty() && reservations.isEmpty();
+    }
+}
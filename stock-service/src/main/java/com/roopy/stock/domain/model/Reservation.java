@@ -0,0 +1,11 @@
+package com.roopy.stock.domain.model;
+
+/**
+ * 주문 단위 재고 예약입니다.
+ *
+ * @param orderId 주문 ID
+ * @param productCode 상품 코드
+ * @param quantity 예약 수량
+ */
+public record Reservation(String orderId, String productCode, int quantity) {
+}
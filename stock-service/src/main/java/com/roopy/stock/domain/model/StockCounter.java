@@ -0,0 +1,55 @@
+package com.roopy.stock.domain.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 하나의 가용 재고 카운터입니다.
+ * <p>
+ * 락 없이 CAS(compare-and-set)로만 갱신합니다. 차감은 "현재 값 확인 → 차감 값으로 교체"를 원자적으로 시도하고,
+ * 그 사이 다른 스레드가 값을 바꿨다면 다시 시도하므로 재고가 음수가 되는 일(초과 판매)이 없습니다.
+ * 같은 상품에 요청이 몰려도 스레드가 락을 기다리며 잠들지 않습니다.
+ */
+public final class StockCounter {
+
+    private final String productCode;
+
+    private final AtomicLong available;
+
+    public StockCounter(String productCode, long initialQuantity) {
+        this.productCode = productCode;
+        this.available = new AtomicLong(initialQuantity);
+    }
+
+    /**
+     * 가용 재고가 충분하면 수량만큼 차감합니다.
+     *
+     * @param quantity 차감 수량 (1 이상)
+     * @return 차감에 성공하면 true, 재고가 부족하면 false
+     */
+    public boolean tryReserve(int quantity) {
+        while (true) {
+            long current = available.get();
+            if (current < quantity) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 차감했던 수량을 되돌리거나 재고를 입고합니다.
+     */
+    public void add(long quantity) {
+        available.addAndGet(quantity);
+    }
+
+    public String productCode() {
+        return productCode;
+    }
+
+    public long available() {
+        return available.get();
+    }
+}
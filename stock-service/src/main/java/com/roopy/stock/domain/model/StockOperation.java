@@ -0,0 +1,34 @@
+package com.roopy.stock.domain.model;
+
+/**
+ * 재고 상태를 바꾸는 연산입니다. 저널(WAL)에 기록되고, 복구 시 순서대로 다시 적용됩니다.
+ * <p>
+ * 각 연산은 실제로 적용된 결과만 나타냅니다. 예를 들어 {@link Reserve}는 재고 확인을 통과한 예약이므로,
+ * 복구 시에는 재고를 다시 확인하지 않고 그대로 차감합니다.
+ */
+public sealed interface StockOperation {
+
+    /**
+     * 재고 예약 (가용 재고 차감 + 예약 기록)
+     */
+    record Reserve(String orderId, String productCode, int quantity) implements StockOperation {
+    }
+
+    /**
+     * 예약 확정 (예약 기록 제거)
+     */
+    record Confirm(String orderId) implements StockOperation {
+    }
+
+    /**
+     * 예약 취소 (예약 기록 제거 + 가용 재고 복원)
+     */
+    record Release(String orderId) implements StockOperation {
+    }
+
+    /**
+     * 재고 입고 (가용 재고 증가)
+     */
+    record Restock(String productCode, long quantity) implements StockOperation {
+    }
+}
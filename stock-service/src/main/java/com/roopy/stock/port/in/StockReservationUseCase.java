@@ -0,0 +1,64 @@
+package com.roopy.stock.port.in;
+
+import com.roopy.stock.domain.model.Reservation;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StockReservationUseCase {
+
+    /**
+     * 주문에 대한 재고를 예약(차감)합니다. 같은 주문 ID로 다시 요청하면 기존 예약 결과를 그대로 돌려줍니다.
+     * 이미 확정·취소된 주문의 예약은 재고를 다시 차감하지 않습니다.
+     *
+     * @return 예약에 성공했거나 이미 예약·확정되어 있으면 true,
+     * 재고가 부족하거나 상품이 없거나 이미 취소된 주문이면 false
+     * @throws IllegalArgumentException 주문 ID·상품 코드가 없거나 수량이 1 미만인 경우
+     */
+    boolean reserve(String orderId, String productCode, int quantity);
+
+    /**
+     * 여러 주문의 재고를 한 번에 예약합니다. 각 요청은 독립적으로 처리되며, 일부가 실패해도 나머지는 적용됩니다.
+     *
+     * @param requests 예약 요청 목록
+     * @return 요청 순서와 같은 순서의 예약 성공 여부
+     */
+    List<Boolean> reserveAll(List<Reservation> requests);
+
+    /**
+     * 여러 주문의 예약을 한 번에 취소합니다.
+     *
+     * @param orderIds 주문 ID 목록
+     * @return 요청 순서와 같은 순서의 취소한 예약 (예약이 없으면 empty)
+     */
+    List<Optional<Reservation>> releaseAll(List<String> orderIds);
+
+    /**
+     * 예약을 확정합니다. 확정된 수량은 재고로 되돌아가지 않습니다.
+     *
+     * @return 확정한 예약 (예약이 없으면 empty)
+     */
+    Optional<Reservation> confirm(String orderId);
+
+    /**
+     * 예약을 취소하고 수량을 가용 재고로 되돌립니다.
+     * 예약이 없어도 취소된 주문으로 기록하므로, 취소보다 늦게 도착한 예약은 거절됩니다.
+     *
+     * @return 취소한 예약 (예약이 없으면 empty)
+     */
+    Optional<Reservation> release(String orderId);
+
+    /**
+     * 상품 재고를 입고합니다. 등록되지 않은 상품이면 새로 등록합니다.
+     *
+     * @return 입고 후 가용 재고
+     */
+    long restock(String productCode, long quantity);
+
+    /**
+     * 상품의 가용 재고를 조회합니다.
+     *
+     * @return 가용 재고 (등록되지 않은 상품이면 empty)
+     */
+    Optional<Long> available(String productCode);
+}
@@ -0,0 +1,35 @@
+package com.roopy.stock.port.out;
+
+import com.roopy.stock.domain.model.InventoryState;
+import com.roopy.stock.domain.model.StockOperation;
+
+/**
+ * 재고 연산 저널 포트입니다.
+ * <p>
+ * 기록({@link #append})과 디스크 반영 대기({@link #sync})가 나뉘어 있으므로,
+ * 호출자는 락 안에서 기록 순서를 정하고 디스크 반영은 락 밖에서 기다릴 수 있습니다.
+ */
+public interface StockJournalPort {
+
+    /**
+     * 마지막 스냅샷과 그 이후 기록된 연산으로 재고 상태를 복구합니다. 기동 시 한 번 호출됩니다.
+     *
+     * @return 복구한 상태 (기록이 없으면 빈 상태)
+     */
+    InventoryState recover();
+
+    /**
+     * 적용할 연산을 기록합니다. 반환 시점에 디스크 반영은 보장되지 않습니다.
+     *
+     * @return 연산의 기록 순번
+     * @throws java.io.UncheckedIOException 기록에 실패한 경우
+     */
+    long append(StockOperation operation);
+
+    /**
+     * 설정된 fsync 정책에 따라 해당 순번까지의 기록이 디스크에 반영되기를 기다립니다.
+     *
+     * @param sequence {@link #append}가 반환한 순번
+     */
+    void sync(long sequence);
+}
@@ -0,0 +1,94 @@
+package com.roopy.stock.adapter.out.journal;
+
+import com.roopy.stock.application.service.InventoryEngine;
+import com.roopy.stock.config.StockProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널에 기록된 재고 상태가 재시작 후 스냅샷과 로그 꼬리로 그대로 복구되는지 검증합니다.
+ */
+class MappedStockJournalTests {
+
+	private static final String SKU = "P001";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void restartRestoresStateFromSnapshotAndLogTail() throws Exception {
+		StockProperties properties = properties(StockProperties.FsyncPolicy.GROUP);
+		MappedStockJournal journal = new MappedStockJournal(properties);
+		InventoryEngine engine = new InventoryEngine(properties, journal);
+
+		// 작은 세그먼트로 여러 번 전환시켜 스냅샷·세그먼트 정리까지 거치게 함
+		for (int i = 0; i < 20_000; i++) {
+			String orderId = "order-" + i;
+			engine.reserve(orderId, SKU, 1);
+			if (i % 2 == 0) {
+				engine.release(orderId);
+			} else if (i % 3 == 0) {
+				engine.confirm(orderId);
+			}
+		}
+		engine.restock(SKU, 7);
+		long available = engine.available(SKU).orElseThrow();
+		int pending = engine.pendingReservations();
+		journal.destroy();
+
+		assertThat(files("snapshot-")).isEqualTo(1);
+		// 스냅샷에 포함된 세그먼트는 삭제되고 마지막 세그먼트만 남음
+		assertThat(files("wal-")).isEqualTo(1);
+
+		MappedStockJournal reopened = new MappedStockJournal(properties);
+		InventoryEngine restarted = new InventoryEngine(properties, reopened);
+		assertThat(restarted.available(SKU)).contains(available);
+		assertThat(restarted.pendingReservations()).isEqualTo(pending);
+		// 복구 후 초기 재고를 다시 더하지 않아야 하고, 이어서 기록할 수 있어야 함
+		assertThat(restarted.release("order-1")).isPresent();
+		assertThat(restarted.available(SKU)).contains(available + 1);
+		reopened.destroy();
+	}
+
+	@Test
+	void unflushedTailIsRecoveredWithoutSnapshot() throws Exception {
+		StockProperties properties = properties(StockProperties.FsyncPolicy.INTERVAL);
+		MappedStockJournal journal = new MappedStockJournal(properties);
+		InventoryEngine engine = new InventoryEngine(properties, journal);
+		engine.reserve("order-1", SKU, 3);
+		engine.reserve("order-2", SKU, 4);
+		engine.confirm("order-1");
+
+		// 종료 처리 없이 다시 열기 - 매핑된 페이지에 남은 기록을 로그 재생으로 복구
+		MappedStockJournal reopened = new MappedStockJournal(properties);
+		InventoryEngine restarted = new InventoryEngine(properties, reopened);
+		assertThat(restarted.available(SKU)).contains(1_000L - 7);
+		assertThat(restarted.pendingReservations()).isEqualTo(1);
+		assertThat(restarted.release("order-2")).isPresent();
+		reopened.destroy();
+	}
+
+	private StockProperties properties(StockProperties.FsyncPolicy fsync) {
+		StockProperties properties = new StockProperties();
+		properties.getInitial().put(SKU, 1_000L);
+		properties.getWal().setEnabled(true);
+		properties.getWal().setDirectory(directory.toString());
+		properties.getWal().setSegmentSize(DataSize.ofKilobytes(256));
+		properties.getWal().setFsync(fsync);
+		return properties;
+	}
+
+	private long files(String prefix) throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.filter(path -> path.getFileName().toString().startsWith(prefix)).count();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package com.roopy.stock.application.service;
+
+import com.roopy.stock.adapter.out.journal.NoOpStockJournal;
+import com.roopy.stock.config.StockProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 상품에 예약·취소 요청이 동시에 몰릴 때 초과 판매나 재고 유실이 없는지 검증합니다.
+ */
+class InventoryEngineStressTests {
+
+	private static final String HOT_SKU = "HOT-001";
+
+	private static final int THREADS = 64;
+
+	@Test
+	void concurrentReservationsOnHotSkuNeverOversell() throws Exception {
+		InventoryEngine engine = newEngine(10_000);
+		int attempts = 50_000;
+		AtomicInteger successes = new AtomicInteger();
+
+		runConcurrently(attempts, i -> {
+			if (engine.reserve("order-" + i, HOT_SKU, 1)) {
+				successes.incrementAndGet();
+			}
+		});
+
+		assertThat(successes.get()).isEqualTo(10_000);
+		assertThat(engine.available(HOT_SKU)).contains(0L);
+		assertThat(engine.pendingReservations()).isEqualTo(10_000);
+	}
+
+	@Test
+	void concurrentReserveReleaseAndConfirmKeepStockConsistent() throws Exception {
+		InventoryEngine engine = newEngine(1_000);
+		int orders = 20_000;
+		AtomicInteger confirmed = new AtomicInteger();
+
+		// 예약 직후 짝수 주문은 취소, 3의 배수 주문은 확정 - 나머지는 예약 상태로 남음
+		runConcurrently(orders, i -> {
+			String orderId = "order-" + i;
+			if (!engine.reserve(orderId, HOT_SKU, 2)) {
+				return;
+			}
+			if (i % 2 == 0) {
+				engine.release(orderId);
+				// 중복 취소는 재고를 다시 늘리지 않아야 함
+				engine.release(orderId);
+			} else if (i % 3 == 0 && engine.confirm(orderId).isPresent()) {
+				confirmed.incrementAndGet();
+			}
+		});
+
+		long available = engine.available(HOT_SKU).orElseThrow();
+		long reserved = 2L * engine.pendingReservations();
+		long sold = 2L * confirmed.get();
+		assertThat(available).isGreaterThanOrEqualTo(0L);
+		assertThat(available + reserved + sold).isEqualTo(1_000L);
+	}
+
+	@Test
+	void duplicateReservationsForSameOrderDeductOnce() throws Exception {
+		InventoryEngine engine = newEngine(100);
+		AtomicInteger successes = new AtomicInteger();
+
+		runConcurrently(1_000, i -> {
+			if (engine.reserve("same-order", HOT_SKU, 10)) {
+				successes.incrementAndGet();
+			}
+		});
+
+		assertThat(successes.get()).isEqualTo(1_000);
+		assertThat(engine.available(HOT_SKU)).contains(90L);
+		assertThat(engine.release("same-order")).isPresent();
+		assertThat(engine.available(HOT_SKU)).contains(100L);
+	}
+
+	private static InventoryEngine newEngine(long initial) {
+		StockProperties properties = new StockProperties();
+		properties.getInitial().put(HOT_SKU, initial);
+		return new InventoryEngine(properties, new NoOpStockJournal());
+	}
+
+	private static void runConcurrently(int tasks, IntTask task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>(tasks);
+			for (int i = 0; i < tasks; i++) {
+				int index = i;
+				futures.add(executor.submit((Callable<Void>) () -> {
+					start.await();
+					task.run(index);
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(30, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@FunctionalInterface
+	private interface IntTask {
+		void run(int index);
+	}
+
+}
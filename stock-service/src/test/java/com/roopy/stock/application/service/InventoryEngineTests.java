@@ -0,0 +1,67 @@
+package com.roopy.stock.application.service;
+
+import com.roopy.stock.adapter.out.journal.NoOpStockJournal;
+import com.roopy.stock.config.StockProperties;
+import com.roopy.stock.domain.model.Reservation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryEngineTests {
+
+	private static final String SKU = "SKU-001";
+
+	@Test
+	void reserveAllRejectsMalformedEntriesWithoutFailingBatch() {
+		StockProperties properties = new StockProperties();
+		properties.getInitial().put(SKU, 10L);
+		InventoryEngine engine = new InventoryEngine(properties, new NoOpStockJournal());
+
+		assertThat(engine.reserveAll(Arrays.asList(
+				new Reservation("order-1", SKU, 1),
+				new Reservation(null, SKU, 1),
+				new Reservation("order-2", null, 1),
+				null,
+				new Reservation("order-3", SKU, 0),
+				new Reservation("order-4", SKU, 2))))
+				.containsExactly(true, false, false, false, false, true);
+
+		assertThat(engine.available(SKU)).contains(7L);
+		assertThat(engine.releaseAll(Arrays.asList("order-1", null))).containsExactly(
+				Optional.of(new Reservation("order-1", SKU, 1)), Optional.empty());
+	}
+
+	@Test
+	void lateOrRetriedReserveDoesNotDeductFinishedOrderAgain() {
+		StockProperties properties = new StockProperties();
+		properties.getInitial().put(SKU, 10L);
+		InventoryEngine engine = new InventoryEngine(properties, new NoOpStockJournal());
+
+		// 확정 후 재시도된 예약은 성공으로 응답하되 다시 차감하지 않음
+		assertThat(engine.reserve("order-1", SKU, 2)).isTrue();
+		assertThat(engine.confirm("order-1")).isPresent();
+		assertThat(engine.reserve("order-1", SKU, 2)).isTrue();
+		assertThat(engine.available(SKU)).contains(8L);
+
+		// 취소 후 재시도된 예약은 거절
+		assertThat(engine.reserve("order-2", SKU, 3)).isTrue();
+		assertThat(engine.release("order-2")).isPresent();
+		assertThat(engine.reserve("order-2", SKU, 3)).isFalse();
+		assertThat(engine.available(SKU)).contains(8L);
+
+		// 예약보다 먼저 도착한 취소(404)도 기록되어 뒤늦은 예약이 재고를 붙잡지 않음
+		assertThat(engine.release("order-3")).isEmpty();
+		assertThat(engine.reserve("order-3", SKU, 1)).isFalse();
+		assertThat(engine.available(SKU)).contains(8L);
+		assertThat(engine.pendingReservations()).isZero();
+
+		// 확정된 주문의 뒤늦은 취소는 확정 기록을 바꾸지 않음
+		assertThat(engine.release("order-1")).isEmpty();
+		assertThat(engine.reserve("order-1", SKU, 2)).isTrue();
+		assertThat(engine.available(SKU)).contains(8L);
+	}
+
+}